@@ -0,0 +1,133 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json;
+
+import tech.pegasys.peeps.json.rpc.JsonRpcRequest;
+import tech.pegasys.peeps.json.rpc.JsonRpcRequestId;
+import tech.pegasys.peeps.node.rpc.admin.ConnectedPeersResponse;
+import tech.pegasys.peeps.node.rpc.admin.NodeInfoResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetBlockNumberResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Encoding of the requests and decoding of the responses sent on every RPC polling loop. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonCodecBenchmark {
+
+  private static final int PEER_COUNT = 16;
+
+  private static final String ENODE = "enode://%0128x@172.20.0.%d:30303";
+
+  private static final String BLOCK_NUMBER_RESPONSE =
+      "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x4b7\"}";
+
+  private static final String NODE_INFO_RESPONSE =
+      "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+          + "\"enode\":\"%s\",\"id\":\"%0128x\",\"listenAddr\":\"172.20.0.2:30303\","
+          + "\"name\":\"besu/v21.1.0/linux-x86_64/openjdk-java-11\","
+          + "\"ports\":{\"discovery\":30303,\"listener\":30303},"
+          + "\"protocols\":{\"eth\":{\"difficulty\":\"0x1\",\"network\":2018}}}}";
+
+  private static final String CONNECTED_PEERS_RESPONSE =
+      "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":[%s]}";
+
+  private static final String CONNECTED_PEER =
+      "{\"version\":\"0x5\",\"name\":\"besu/v21.1.0\",\"caps\":[\"eth/63\",\"eth/64\"],"
+          + "\"network\":{\"localAddress\":\"172.20.0.2:30303\","
+          + "\"remoteAddress\":\"172.20.0.%d:30303\"},"
+          + "\"port\":\"0x765f\",\"id\":\"%0128x\",\"enode\":\"%s\"}";
+
+  private JsonRpcRequest request;
+  private ByteBuf requestBuffer;
+  private Buffer blockNumberResponse;
+  private Buffer nodeInfoResponse;
+  private Buffer connectedPeersResponse;
+
+  @Setup
+  public void setUp() {
+    request =
+        new JsonRpcRequest(
+            "2.0",
+            "eth_getBalance",
+            new Object[] {"0xfe3b557e8fb62b89f4916b721be55ceb828dbd73", "latest"},
+            new JsonRpcRequestId(1));
+    requestBuffer = Unpooled.buffer(256);
+
+    blockNumberResponse = buffer(BLOCK_NUMBER_RESPONSE);
+    nodeInfoResponse = buffer(String.format(NODE_INFO_RESPONSE, enode(2), 2));
+    connectedPeersResponse =
+        buffer(
+            String.format(
+                CONNECTED_PEERS_RESPONSE,
+                IntStream.range(3, 3 + PEER_COUNT)
+                    .mapToObj(peer -> String.format(CONNECTED_PEER, peer, peer, enode(peer)))
+                    .collect(Collectors.joining(","))));
+  }
+
+  @Benchmark
+  public String encodeRequest() {
+    return Json.encode(request);
+  }
+
+  @Benchmark
+  public ByteBuf encodeRequestIntoBuffer() {
+    requestBuffer.clear();
+    Json.encode(request, requestBuffer);
+    return requestBuffer;
+  }
+
+  @Benchmark
+  public long decodeBlockNumber() {
+    return Json.decode(blockNumberResponse, GetBlockNumberResponse.class).getResult();
+  }
+
+  @Benchmark
+  public String decodeNodeInfo() {
+    return Json.decode(nodeInfoResponse, NodeInfoResponse.class).getResult().getEnode();
+  }
+
+  @Benchmark
+  public int decodeConnectedPeers() {
+    return Json.decode(connectedPeersResponse, ConnectedPeersResponse.class).getResult().length;
+  }
+
+  private static String enode(final int host) {
+    return String.format(ENODE, host, host);
+  }
+
+  private static Buffer buffer(final String json) {
+    return Buffer.buffer(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
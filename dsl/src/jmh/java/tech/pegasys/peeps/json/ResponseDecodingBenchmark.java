@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json;
+
+import tech.pegasys.peeps.node.model.TransactionReceipt;
+import tech.pegasys.peeps.node.rpc.eth.GetTransactionReceiptResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.apache.tuweni.units.ethereum.Gas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares decoding a transaction receipt response with the streaming deserializer against the
+ * eager data binding it replaced.
+ *
+ * <p>Both variants consume the fields a typical verification reads (hash, gas used and status).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResponseDecodingBenchmark {
+
+  private static final String LOG =
+      "{\"address\":\"0x1b23ba34ca45bb56aa67bc78be89ac00ca00da00\","
+          + "\"topics\":[\"0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef\"],"
+          + "\"data\":\"0x0000000000000000000000000000000000000000000000000000000000000001\","
+          + "\"blockNumber\":\"0x2a\",\"logIndex\":\"0x0\",\"removed\":false}";
+
+  private static final String RECEIPT_RESPONSE =
+      "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+          + "\"blockHash\":\"0x6c6d0b3a0c5d7ae5aa7c3f40d8ad5b8f2b1c9a3e6d0f4e7a9b8c2d1e0f3a4b5c\","
+          + "\"blockNumber\":\"0x2a\","
+          + "\"contractAddress\":null,"
+          + "\"cumulativeGasUsed\":\"0x5208\","
+          + "\"from\":\"0xfe3b557e8fb62b89f4916b721be55ceb828dbd73\","
+          + "\"gasUsed\":\"0x5208\","
+          + "\"logs\":[%s],"
+          + "\"logsBloom\":\"0x%s\","
+          + "\"status\":\"0x1\","
+          + "\"to\":\"0x627306090abab3a6e1400e9345bc60c78a8bef57\","
+          + "\"transactionHash\":"
+          + "\"0x8ec1a7e5fd4ee2c0d4b5c7a8e0b9f1d2c3a4b5c6d7e8f9a0b1c2d3e4f5a6b7c8\","
+          + "\"transactionIndex\":\"0x0\"}}";
+
+  @Param({"0", "50"})
+  public int logCount;
+
+  private Buffer response;
+  private ObjectMapper databindMapper;
+
+  @Setup
+  public void setUp() {
+    final String logs = String.join(",", Collections.nCopies(logCount, LOG));
+    response =
+        Buffer.buffer(
+            String.format(RECEIPT_RESPONSE, logs, "0".repeat(512))
+                .getBytes(StandardCharsets.UTF_8));
+
+    databindMapper = new ObjectMapper();
+    databindMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    databindMapper.configure(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES, true);
+    databindMapper.configure(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES, true);
+  }
+
+  @Benchmark
+  public void streaming(final Blackhole blackhole) {
+    final TransactionReceipt receipt =
+        Json.decode(response, GetTransactionReceiptResponse.class).getResult().orElseThrow();
+
+    blackhole.consume(receipt.getTransactionHash());
+    blackhole.consume(receipt.getGasUsed());
+    blackhole.consume(receipt.isSuccess());
+  }
+
+  @Benchmark
+  public void databind(final Blackhole blackhole) throws IOException {
+    final EagerReceipt receipt =
+        databindMapper.readValue(
+                (InputStream) new ByteBufInputStream(response.getByteBuf()),
+                EagerReceiptResponse.class)
+            .result;
+
+    blackhole.consume(receipt.transactionHash);
+    blackhole.consume(receipt.gasUsed);
+    blackhole.consume(receipt.status.contentEquals("0x1"));
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class EagerReceiptResponse {
+
+    private EagerReceipt result;
+
+    @JsonSetter("result")
+    public void setResult(final EagerReceipt result) {
+      this.result = result;
+    }
+  }
+
+  /** The receipt binding as it was before streaming, parsing addresses and gas on creation. */
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class EagerReceipt {
+
+    private final Address sender;
+    private final String blockHash;
+    private final String transactionHash;
+    private final Gas gasUsed;
+    private final String blockNumber;
+    private final String cumulativeGasUsed;
+    private final String logsBloom;
+    private final String transactionIndex;
+    private final String status;
+
+    private Address recipient;
+    private Address contract;
+
+    @JsonCreator
+    public EagerReceipt(
+        @JsonProperty("blockHash") final String blockHash,
+        @JsonProperty("blockNumber") final String blockNumber,
+        @JsonProperty("from") final String sender,
+        @JsonProperty("transactionHash") final String transactionHash,
+        @JsonProperty("transactionIndex") final String transactionIndex,
+        @JsonProperty("status") final String status,
+        @JsonProperty("cumulativeGasUsed") final String cumulativeGasUsed,
+        @JsonProperty("gasUsed") final String gasUsed,
+        @JsonProperty("logsBloom") final String logsBloom) {
+      this.blockHash = blockHash;
+      this.blockNumber = blockNumber;
+      this.sender = Address.fromHexString(sender);
+      this.transactionHash = transactionHash;
+      this.transactionIndex = transactionIndex;
+      this.status = status;
+      this.cumulativeGasUsed = cumulativeGasUsed;
+      this.gasUsed = Gas.valueOf(UInt256.fromHexString(gasUsed));
+      this.logsBloom = logsBloom;
+    }
+
+    @JsonSetter("to")
+    public void setRecipient(final String recipient) {
+      this.recipient = recipient == null ? null : Address.fromHexString(recipient);
+    }
+
+    @JsonSetter("contractAddress")
+    public void setContractAddress(final String contract) {
+      this.contract = contract == null ? null : Address.fromHexString(contract);
+    }
+  }
+}
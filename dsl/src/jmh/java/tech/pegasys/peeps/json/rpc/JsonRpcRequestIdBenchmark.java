@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of request ids, created for every request sent and response received.
+ *
+ * <p>The id types are checked in declaration order, so the later types are the more expensive.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonRpcRequestIdBenchmark {
+
+  // Not final, preventing the JIT from constant folding the type checks
+  private Object stringId = "1";
+  private Object integerId = 1;
+  private Object bigIntegerId = BigInteger.ONE;
+
+  @Benchmark
+  public JsonRpcRequestId stringId() {
+    return new JsonRpcRequestId(stringId);
+  }
+
+  @Benchmark
+  public JsonRpcRequestId integerId() {
+    return new JsonRpcRequestId(integerId);
+  }
+
+  @Benchmark
+  public JsonRpcRequestId bigIntegerId() {
+    return new JsonRpcRequestId(bigIntegerId);
+  }
+
+  @Benchmark
+  public JsonRpcRequestId nullId() {
+    return new JsonRpcRequestId(null);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.genesis.qbft;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.peeps.node.Web3Provider;
+
+import java.security.Security;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.crypto.SECP256K1.KeyPair;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding of the QBFT genesis extra data, recovering each validator address from its public key.
+ *
+ * <p>The validators are mocks, only providing their node public key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GenesisExtraDataQbftBenchmark {
+
+  static {
+    Security.addProvider(new BouncyCastleProvider());
+  }
+
+  @Param({"4", "16"})
+  public int validatorCount;
+
+  private Web3Provider[] validators;
+
+  @Setup
+  public void setUp() {
+    validators = new Web3Provider[validatorCount];
+    for (int i = 0; i < validatorCount; i++) {
+      validators[i] = mock(Web3Provider.class);
+      when(validators[i].nodePublicKey())
+          .thenReturn(KeyPair.random().publicKey().bytes().toUnprefixedHexString());
+    }
+  }
+
+  @Benchmark
+  public Bytes encode() {
+    return GenesisExtraDataQbft.encode(validators);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Extraction of the public keys from the peer enodes, performed on every peer connectivity poll.
+ *
+ * <p>The sequential variant is the reference for the parallel stream used at network sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EnodeHelpersBenchmark {
+
+  @Param({"1", "4", "16"})
+  public int enodeCount;
+
+  private Set<String> enodes;
+
+  @Setup
+  public void setUp() {
+    enodes =
+        IntStream.range(0, enodeCount)
+            .mapToObj(peer -> String.format("enode://%0128x@172.20.0.%d:30303", peer, peer + 2))
+            .collect(Collectors.toSet());
+  }
+
+  @Benchmark
+  public Set<String> parallel() {
+    return EnodeHelpers.extractPubKeysFromEnodes(enodes);
+  }
+
+  @Benchmark
+  public Set<String> sequential() {
+    return enodes.stream().map(EnodeHelpers::extractPubKeyFromEnode).collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Reference benchmark results, with the tolerance of each gated metric.
+ *
+ * <p>Metrics without a tolerance are reported, but never fail the comparison.
+ */
+public class BenchmarkBaseline {
+
+  private final SortedMap<String, MetricTolerance> tolerances;
+  private final SortedMap<String, BenchmarkResult> results;
+
+  @JsonCreator
+  public BenchmarkBaseline(
+      @JsonProperty("tolerances") final Map<String, MetricTolerance> tolerances,
+      @JsonProperty("results") final Collection<BenchmarkResult> results) {
+    this.tolerances =
+        Collections.unmodifiableSortedMap(
+            new TreeMap<>(tolerances == null ? Map.of() : tolerances));
+
+    final SortedMap<String, BenchmarkResult> byName = new TreeMap<>();
+    if (results != null) {
+      results.forEach(result -> byName.put(result.getName(), result));
+    }
+    this.results = Collections.unmodifiableSortedMap(byName);
+  }
+
+  public static BenchmarkBaseline read(final Path file) {
+    try {
+      return BenchmarkResultFile.MAPPER.readValue(file.toFile(), BenchmarkBaseline.class);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to read benchmark baseline: " + file, e);
+    }
+  }
+
+  public void write(final Path file) {
+    try {
+      BenchmarkResultFile.MAPPER.writeValue(file.toFile(), this);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to write benchmark baseline: " + file, e);
+    }
+  }
+
+  /** Baseline with the given results replacing any of the same scenario, keeping the others. */
+  public BenchmarkBaseline update(final Collection<BenchmarkResult> current) {
+    final SortedMap<String, BenchmarkResult> updated = new TreeMap<>(results);
+    current.forEach(result -> updated.put(result.getName(), result));
+    return new BenchmarkBaseline(tolerances, updated.values());
+  }
+
+  public Optional<MetricTolerance> tolerance(final String metric) {
+    return Optional.ofNullable(tolerances.get(metric));
+  }
+
+  public Optional<BenchmarkResult> result(final String name) {
+    return Optional.ofNullable(results.get(name));
+  }
+
+  @JsonGetter("tolerances")
+  public SortedMap<String, MetricTolerance> getTolerances() {
+    return tolerances;
+  }
+
+  @JsonGetter("results")
+  public List<BenchmarkResult> getResults() {
+    return results.values().stream().collect(Collectors.toUnmodifiableList());
+  }
+}
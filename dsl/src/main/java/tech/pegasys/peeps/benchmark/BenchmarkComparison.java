@@ -0,0 +1,193 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import tech.pegasys.peeps.benchmark.MetricComparison.Status;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/** Current benchmark results compared metric by metric against a baseline. */
+public class BenchmarkComparison {
+
+  private final List<MetricComparison> comparisons;
+  private final boolean baselined;
+
+  public BenchmarkComparison(
+      final BenchmarkBaseline baseline, final Collection<BenchmarkResult> current) {
+    final SortedMap<String, BenchmarkResult> currentByName = new TreeMap<>();
+    current.forEach(result -> currentByName.put(result.getName(), result));
+
+    final SortedSet<String> scenarios = new TreeSet<>(currentByName.keySet());
+    baseline.getResults().forEach(result -> scenarios.add(result.getName()));
+
+    final List<MetricComparison> compared = new ArrayList<>();
+    for (final String scenario : scenarios) {
+      final Map<String, Double> before =
+          baseline.result(scenario).map(BenchmarkResult::getMetrics).orElse(new TreeMap<>());
+      final Map<String, Double> after =
+          Optional.ofNullable(currentByName.get(scenario))
+              .map(BenchmarkResult::getMetrics)
+              .orElse(new TreeMap<>());
+
+      final SortedSet<String> metrics = new TreeSet<>(before.keySet());
+      metrics.addAll(after.keySet());
+
+      for (final String metric : metrics) {
+        compared.add(
+            new MetricComparison(
+                scenario,
+                metric,
+                Optional.ofNullable(before.get(metric)),
+                Optional.ofNullable(after.get(metric)),
+                baseline.tolerance(metric)));
+      }
+    }
+
+    this.comparisons = List.copyOf(compared);
+    this.baselined = !baseline.getResults().isEmpty();
+  }
+
+  public List<MetricComparison> getComparisons() {
+    return comparisons;
+  }
+
+  public List<MetricComparison> getRegressions() {
+    return withStatus(Status.REGRESSED);
+  }
+
+  public boolean hasRegressions() {
+    return !getRegressions().isEmpty();
+  }
+
+  /**
+   * Reasons the comparison fails the gate: a regression, a baselined metric or scenario no longer
+   * measured, or a baseline without any results to compare against.
+   */
+  public List<String> failures() {
+    final List<String> failures = new ArrayList<>();
+
+    if (!baselined) {
+      failures.add("The baseline has no results, record them with benchmarkBaselineUpdate");
+    }
+    if (hasRegressions()) {
+      failures.add(getRegressions().size() + " benchmark metrics regressed");
+    }
+    final List<MetricComparison> missing = withStatus(Status.MISSING);
+    if (!missing.isEmpty()) {
+      failures.add(
+          missing.size()
+              + " baselined benchmark metrics were not measured: "
+              + missing.stream()
+                  .map(comparison -> comparison.getScenario() + "/" + comparison.getMetric())
+                  .collect(Collectors.joining(", ")));
+    }
+
+    return failures;
+  }
+
+  public List<MetricComparison> withStatus(final Status status) {
+    return comparisons.stream()
+        .filter(comparison -> comparison.getStatus() == status)
+        .collect(Collectors.toList());
+  }
+
+  /** Human readable report, with the regressions listed first. */
+  public String report() {
+    final Map<Status, Long> counts = new EnumMap<>(Status.class);
+    comparisons.forEach(comparison -> counts.merge(comparison.getStatus(), 1L, Long::sum));
+
+    final StringBuilder report =
+        new StringBuilder("Benchmark comparison: ")
+            .append(
+                counts.entrySet().stream()
+                    .map(
+                        count ->
+                            count.getValue() + " " + count.getKey().name().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.joining(", ")))
+            .append(System.lineSeparator());
+
+    final List<MetricComparison> ordered = new ArrayList<>(comparisons);
+    ordered.sort(
+        Comparator.comparing(MetricComparison::getStatus)
+            .thenComparing(MetricComparison::getScenario)
+            .thenComparing(MetricComparison::getMetric));
+
+    final int scenarioWidth =
+        ordered.stream().mapToInt(comparison -> comparison.getScenario().length()).max().orElse(0);
+    final int metricWidth =
+        ordered.stream().mapToInt(comparison -> comparison.getMetric().length()).max().orElse(0);
+
+    for (final MetricComparison comparison : ordered) {
+      report
+          .append(
+              String.format(
+                      "%-9s  %-" + scenarioWidth + "s  %-" + metricWidth + "s  %12s -> %-12s %s",
+                      comparison.getStatus(),
+                      comparison.getScenario(),
+                      comparison.getMetric(),
+                      value(comparison.getBaseline()),
+                      value(comparison.getCurrent()),
+                      change(comparison))
+                  .stripTrailing())
+          .append(System.lineSeparator());
+    }
+
+    return report.toString();
+  }
+
+  public void writeReport(final Path file) {
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      Files.writeString(file, report(), StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to write benchmark comparison: " + file, e);
+    }
+  }
+
+  private static String value(final Optional<Double> value) {
+    return value.map(measured -> String.format("%.2f", measured)).orElse("-");
+  }
+
+  private static String change(final MetricComparison comparison) {
+    final String relative =
+        comparison
+            .relativeChange()
+            .map(change -> String.format("%+.1f%%", change * 100))
+            .orElse("");
+
+    if (comparison.getTolerance().isEmpty() || comparison.getBaseline().isEmpty()) {
+      return relative;
+    }
+
+    return String.format(
+        "%s (allowed %.2f)",
+        relative, comparison.getTolerance().get().allowance(comparison.getBaseline().get()));
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Compares benchmark results against the checked-in baseline, failing on any regression, on any
+ * baselined metric not measured, and on a baseline without results.
+ *
+ * <p>Arguments: the baseline file, the results directory and the report file, optionally
+ * followed by <code>--update</code> to record the results as the new baseline instead.
+ */
+public class BenchmarkGate {
+
+  private static final String UPDATE = "--update";
+
+  public static void main(final String[] args) {
+    if (args.length < 3 || (args.length == 4 && !UPDATE.equals(args[3])) || args.length > 4) {
+      System.err.println("Usage: BenchmarkGate <baseline> <results> <report> [" + UPDATE + "]");
+      System.exit(2);
+    }
+
+    final Path baselineFile = Path.of(args[0]);
+    final BenchmarkBaseline baseline = BenchmarkBaseline.read(baselineFile);
+    final List<BenchmarkResult> current = BenchmarkRuns.read(Path.of(args[1])).medians();
+
+    if (args.length == 4) {
+      baseline.update(current).write(baselineFile);
+      System.out.println("Baseline updated with " + current.size() + " scenarios: " + baselineFile);
+      return;
+    }
+
+    final BenchmarkComparison comparison = new BenchmarkComparison(baseline, current);
+    comparison.writeReport(Path.of(args[2]));
+    System.out.print(comparison.report());
+
+    final List<String> failures = comparison.failures();
+    if (!failures.isEmpty()) {
+      failures.forEach(failure -> System.err.println(failure + ", see: " + args[2]));
+      System.exit(1);
+    }
+  }
+}
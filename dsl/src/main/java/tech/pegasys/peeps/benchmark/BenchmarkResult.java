@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Measurements of a single benchmark scenario.
+ *
+ * <p>The scenario is identified by its name, with the parameters describing the conditions it ran
+ * under (e.g. consensus mechanism, validator count, image versions) and the metrics holding the
+ * measured values keyed by metric name.
+ */
+public class BenchmarkResult {
+
+  private final String name;
+  private final SortedMap<String, String> parameters;
+  private final SortedMap<String, Double> metrics;
+
+  @JsonCreator
+  public BenchmarkResult(
+      @JsonProperty("name") final String name,
+      @JsonProperty("parameters") final Map<String, String> parameters,
+      @JsonProperty("metrics") final Map<String, Double> metrics) {
+    checkArgument(name != null && !name.isBlank(), "A benchmark name is mandatory");
+
+    this.name = name;
+    this.parameters =
+        Collections.unmodifiableSortedMap(
+            new TreeMap<>(parameters == null ? Map.of() : parameters));
+    this.metrics =
+        Collections.unmodifiableSortedMap(new TreeMap<>(metrics == null ? Map.of() : metrics));
+  }
+
+  @JsonGetter("name")
+  public String getName() {
+    return name;
+  }
+
+  @JsonGetter("parameters")
+  public SortedMap<String, String> getParameters() {
+    return parameters;
+  }
+
+  @JsonGetter("metrics")
+  public SortedMap<String, Double> getMetrics() {
+    return metrics;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("name", name)
+        .add("parameters", parameters)
+        .add("metrics", metrics)
+        .toString();
+  }
+}
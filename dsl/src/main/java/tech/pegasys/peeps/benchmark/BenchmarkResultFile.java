@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/** Benchmark result persisted as JSON, one file per scenario named after the scenario. */
+public class BenchmarkResultFile {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final ObjectMapper MAPPER =
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  private final Path file;
+
+  public BenchmarkResultFile(final Path file) {
+    this.file = file;
+  }
+
+  public static BenchmarkResultFile in(final Path directory, final String name) {
+    return new BenchmarkResultFile(directory.resolve(name + ".json"));
+  }
+
+  public void write(final BenchmarkResult result) {
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      MAPPER.writeValue(file.toFile(), result);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to write benchmark result: " + file, e);
+    }
+
+    LOG.info("Benchmark result written to: {}", file);
+  }
+
+  public BenchmarkResult read() {
+    try {
+      return MAPPER.readValue(file.toFile(), BenchmarkResult.class);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to read benchmark result: " + file, e);
+    }
+  }
+
+  public Path getFile() {
+    return file;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Repeated runs of benchmark scenarios, reduced to a single result per scenario.
+ *
+ * <p>Each metric of a scenario takes the median over the runs that measured it, damping the
+ * outliers a single slow run would otherwise introduce into the comparison.
+ */
+public class BenchmarkRuns {
+
+  static final String RUNS_PARAMETER = "runs";
+
+  private final SortedMap<String, List<BenchmarkResult>> runs = new TreeMap<>();
+
+  public BenchmarkRuns(final Collection<BenchmarkResult> results) {
+    results.forEach(
+        result -> runs.computeIfAbsent(result.getName(), name -> new ArrayList<>()).add(result));
+  }
+
+  /** Every benchmark result file in the directory. */
+  public static BenchmarkRuns read(final Path directory) {
+    checkArgument(Files.isDirectory(directory), "No benchmark results directory: %s", directory);
+
+    try (final Stream<Path> files = Files.list(directory)) {
+      return new BenchmarkRuns(
+          files
+              .filter(file -> file.getFileName().toString().endsWith(".json"))
+              .sorted()
+              .map(file -> new BenchmarkResultFile(file).read())
+              .collect(Collectors.toList()));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to list benchmark results: " + directory, e);
+    }
+  }
+
+  public int runCount(final String name) {
+    return runs.getOrDefault(name, List.of()).size();
+  }
+
+  /** Median of each metric per scenario, with the parameters of the first run. */
+  public List<BenchmarkResult> medians() {
+    return runs.values().stream().map(BenchmarkRuns::aggregate).collect(Collectors.toList());
+  }
+
+  private static BenchmarkResult aggregate(final List<BenchmarkResult> results) {
+    final Map<String, List<Double>> values = new TreeMap<>();
+    results.forEach(
+        result ->
+            result
+                .getMetrics()
+                .forEach(
+                    (metric, value) ->
+                        values.computeIfAbsent(metric, key -> new ArrayList<>()).add(value)));
+
+    final Map<String, Double> metrics = new TreeMap<>();
+    values.forEach((metric, measured) -> metrics.put(metric, median(measured)));
+
+    final Map<String, String> parameters = new TreeMap<>(results.get(0).getParameters());
+    parameters.put(RUNS_PARAMETER, Integer.toString(results.size()));
+
+    return new BenchmarkResult(results.get(0).getName(), parameters, metrics);
+  }
+
+  static double median(final List<Double> values) {
+    final List<Double> sorted = new ArrayList<>(values);
+    Collections.sort(sorted);
+    final int middle = sorted.size() / 2;
+
+    return sorted.size() % 2 == 1
+        ? sorted.get(middle)
+        : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+  }
+}
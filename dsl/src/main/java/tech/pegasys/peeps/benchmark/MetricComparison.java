@@ -0,0 +1,123 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import java.util.Optional;
+
+import com.google.common.base.MoreObjects;
+
+/** A single metric of a scenario, measured against its baseline value. */
+public class MetricComparison {
+
+  public enum Status {
+    REGRESSED,
+    IMPROVED,
+    UNCHANGED,
+    /** Measured, but without a tolerance to judge it by. */
+    UNGATED,
+    /** Measured, but absent from the baseline. */
+    NEW,
+    /** In the baseline, but not measured. */
+    MISSING
+  }
+
+  private final String scenario;
+  private final String metric;
+  private final Optional<Double> baseline;
+  private final Optional<Double> current;
+  private final Optional<MetricTolerance> tolerance;
+  private final Status status;
+
+  MetricComparison(
+      final String scenario,
+      final String metric,
+      final Optional<Double> baseline,
+      final Optional<Double> current,
+      final Optional<MetricTolerance> tolerance) {
+    this.scenario = scenario;
+    this.metric = metric;
+    this.baseline = baseline;
+    this.current = current;
+    this.tolerance = tolerance;
+    this.status = status(baseline, current, tolerance);
+  }
+
+  private static Status status(
+      final Optional<Double> baseline,
+      final Optional<Double> current,
+      final Optional<MetricTolerance> tolerance) {
+    if (baseline.isEmpty()) {
+      return Status.NEW;
+    }
+    if (current.isEmpty()) {
+      return Status.MISSING;
+    }
+    if (tolerance.isEmpty()) {
+      return Status.UNGATED;
+    }
+
+    final double deterioration = tolerance.get().deterioration(baseline.get(), current.get());
+    final double allowance = tolerance.get().allowance(baseline.get());
+
+    if (deterioration > allowance) {
+      return Status.REGRESSED;
+    }
+    if (-deterioration > allowance) {
+      return Status.IMPROVED;
+    }
+    return Status.UNCHANGED;
+  }
+
+  /** Change of the current value relative to the baseline, when both exist and are non-zero. */
+  public Optional<Double> relativeChange() {
+    if (baseline.isEmpty() || current.isEmpty() || baseline.get() == 0) {
+      return Optional.empty();
+    }
+    return Optional.of((current.get() - baseline.get()) / Math.abs(baseline.get()));
+  }
+
+  public String getScenario() {
+    return scenario;
+  }
+
+  public String getMetric() {
+    return metric;
+  }
+
+  public Optional<Double> getBaseline() {
+    return baseline;
+  }
+
+  public Optional<Double> getCurrent() {
+    return current;
+  }
+
+  public Optional<MetricTolerance> getTolerance() {
+    return tolerance;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("scenario", scenario)
+        .add("metric", metric)
+        .add("baseline", baseline)
+        .add("current", current)
+        .add("status", status)
+        .toString();
+  }
+}
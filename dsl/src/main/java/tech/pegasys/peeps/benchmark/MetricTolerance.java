@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.MoreObjects;
+
+/**
+ * How far a metric may move from its baseline before being judged a change.
+ *
+ * <p>The allowance is the larger of the relative tolerance of the baseline value and the absolute
+ * noise floor, so metrics with small baseline values are not failed on run to run jitter.
+ */
+public class MetricTolerance {
+
+  public enum Direction {
+    HIGHER_IS_BETTER,
+    LOWER_IS_BETTER
+  }
+
+  private final Direction direction;
+  private final double relative;
+  private final double noiseFloor;
+
+  @JsonCreator
+  public MetricTolerance(
+      @JsonProperty("direction") final Direction direction,
+      @JsonProperty("relative") final double relative,
+      @JsonProperty("noiseFloor") final double noiseFloor) {
+    checkArgument(direction != null, "A metric direction is mandatory");
+    checkArgument(relative >= 0, "Relative tolerance must not be negative");
+    checkArgument(noiseFloor >= 0, "Noise floor must not be negative");
+
+    this.direction = direction;
+    this.relative = relative;
+    this.noiseFloor = noiseFloor;
+  }
+
+  /** Largest change from the baseline that is still considered noise. */
+  public double allowance(final double baseline) {
+    return Math.max(Math.abs(baseline) * relative, noiseFloor);
+  }
+
+  /** Change from the baseline, positive when the current value is worse. */
+  public double deterioration(final double baseline, final double current) {
+    return direction == Direction.LOWER_IS_BETTER ? current - baseline : baseline - current;
+  }
+
+  @JsonGetter("direction")
+  public Direction getDirection() {
+    return direction;
+  }
+
+  @JsonGetter("relative")
+  public double getRelative() {
+    return relative;
+  }
+
+  @JsonGetter("noiseFloor")
+  public double getNoiseFloor() {
+    return noiseFloor;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("direction", direction)
+        .add("relative", relative)
+        .add("noiseFloor", noiseFloor)
+        .toString();
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.image;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Digests pinning each image, persisted as a JSON object of image name to digest.
+ *
+ * <p>e.g. <code>{"hyperledger/besu:23.4.0" : "sha256:4d3c..."}</code>
+ */
+public class ImageLock {
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  private final SortedMap<String, String> digests;
+
+  public ImageLock(final Map<String, String> digests) {
+    this.digests = Collections.unmodifiableSortedMap(new TreeMap<>(digests));
+  }
+
+  public static ImageLock read(final Path file) {
+    try {
+      return new ImageLock(
+          MAPPER.readValue(file.toFile(), new TypeReference<Map<String, String>>() {}));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to read image lock file: " + file, e);
+    }
+  }
+
+  public void write(final Path file) {
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      MAPPER.writeValue(file.toFile(), digests);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to write image lock file: " + file, e);
+    }
+  }
+
+  /** Images pinned, keyed by name including the tag, e.g. "hyperledger/besu:23.4.0". */
+  public SortedMap<String, String> getDigests() {
+    return digests;
+  }
+}
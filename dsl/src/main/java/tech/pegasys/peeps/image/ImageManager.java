@@ -0,0 +1,338 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.image;
+
+import tech.pegasys.peeps.image.ImageResolution.Outcome;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.InspectImageResponse;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.PullResponseItem;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.images.ImagePullPolicy;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Resolves the Docker images of the network members once per JVM, so the many containers sharing
+ * an image neither inspect nor pull it more than once.
+ *
+ * <p>Configured by system properties:
+ *
+ * <ul>
+ *   <li>peeps.images.offline: when true, images are never pulled and any missing fail fast.
+ *   <li>peeps.images.lock: lock file of digests pinning images, see {@link ImageLock}.
+ *   <li>peeps.images.lock.write: file to write the digests of the resolved images to on exit.
+ *   <li>peeps.images.manifest: images a suite requires, see {@link ImageManifest}.
+ * </ul>
+ *
+ * <p>When online, an unpinned image is pulled when absent or older than an hour, while a pinned
+ * image is only pulled when absent.
+ */
+public class ImageManager {
+
+  public static final String OFFLINE_PROPERTY = "peeps.images.offline";
+  public static final String LOCK_FILE_PROPERTY = "peeps.images.lock";
+  public static final String LOCK_FILE_WRITE_PROPERTY = "peeps.images.lock.write";
+  public static final String MANIFEST_PROPERTY = "peeps.images.manifest";
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Duration MAX_AGE = Duration.ofHours(1);
+  private static final int MAX_CONCURRENT_PULLS = 8;
+
+  private static final ImageManager INSTANCE = fromSystemProperties();
+
+  private final boolean offline;
+  private final Map<String, String> pinned;
+  private final ConcurrentMap<String, Optional<InspectImageResponse>> inspected =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, CompletableFuture<Outcome>> resolutions =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, String> resolvedNames = new ConcurrentHashMap<>();
+  private final DockerClient docker = DockerClientFactory.lazyClient();
+
+  public ImageManager(final boolean offline, final ImageLock lock) {
+    this.offline = offline;
+    this.pinned = lock.getDigests();
+  }
+
+  /** Image manager shared by every member of every network in the JVM. */
+  public static ImageManager instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * @param image name including the tag, e.g. "hyperledger/besu:23.4.0".
+   * @return the image pinned by digest when locked, otherwise the image as named.
+   */
+  public DockerImageName image(final String image) {
+    final DockerImageName name = DockerImageName.parse(image);
+    final String digest = pinned.get(image);
+
+    final DockerImageName resolved =
+        digest == null ? name : DockerImageName.parse(name.getUnversionedPart() + "@" + digest);
+    resolvedNames.putIfAbsent(resolved.asCanonicalNameString(), image);
+    return resolved;
+  }
+
+  /** Images declared by the suite manifest, when one is configured. */
+  public static Optional<ImageManifest> manifest() {
+    return Optional.ofNullable(System.getProperty(MANIFEST_PROPERTY))
+        .map(Path::of)
+        .map(ImageManifest::read);
+  }
+
+  /** Container of the image, resolved through the manager. */
+  public GenericContainer<?> container(final String image) {
+    return new GenericContainer<>(image(image)).withImagePullPolicy(pullPolicy());
+  }
+
+  /** Pull policy resolving through the manager, to use on every container it names. */
+  public ImagePullPolicy pullPolicy() {
+    return this::resolve;
+  }
+
+  public boolean isOffline() {
+    return offline;
+  }
+
+  /**
+   * Ensures the image is available locally, pulling it when required and permitted.
+   *
+   * <p>Only the first request for an image inspects or pulls it, with concurrent requests for the
+   * same image waiting for that first to complete.
+   *
+   * @return always false, as the image is available by the time the container needs it.
+   * @throws IllegalStateException when the image is missing and pulling is not permitted.
+   */
+  public boolean resolve(final DockerImageName image) {
+    resolveOnce(image);
+    return false;
+  }
+
+  /**
+   * Resolves the images concurrently, so none is pulled while the containers are starting.
+   *
+   * <p>Failures are reported rather than thrown, letting every image be attempted.
+   *
+   * @param images names including the tag, e.g. "hyperledger/besu:23.4.0".
+   * @return what resolving each distinct image took.
+   */
+  public ImagePrewarm prewarm(final Collection<String> images) {
+    final List<String> distinct = images.stream().distinct().collect(Collectors.toList());
+    final Instant startedAt = Instant.now();
+
+    if (distinct.isEmpty()) {
+      return new ImagePrewarm(startedAt, Duration.ZERO, List.of());
+    }
+
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(distinct.size(), MAX_CONCURRENT_PULLS),
+            new ThreadFactoryBuilder().setNameFormat("image-prewarm-%d").setDaemon(true).build());
+
+    try {
+      final List<CompletableFuture<ImageResolution>> resolving =
+          distinct.stream()
+              .map(image -> CompletableFuture.supplyAsync(() -> prewarm(image), executor))
+              .collect(Collectors.toList());
+
+      final ImagePrewarm prewarm =
+          new ImagePrewarm(
+              startedAt,
+              Duration.between(startedAt, Instant.now()),
+              resolving.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+      LOG.info(prewarm.summary());
+      return prewarm;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /** Digests of the images resolved so far, keyed by their unpinned name. */
+  public ImageLock lock() {
+    final Map<String, String> digests = new ConcurrentHashMap<>();
+    resolutions.forEach(
+        (name, resolution) -> {
+          if (resolution.isDone() && !resolution.isCompletedExceptionally()) {
+            final DockerImageName image = DockerImageName.parse(name);
+            inspect(image)
+                .flatMap(response -> digest(image, response))
+                .ifPresent(digest -> digests.put(resolvedNames.getOrDefault(name, name), digest));
+          }
+        });
+    return new ImageLock(digests);
+  }
+
+  private ImageResolution prewarm(final String image) {
+    final long start = System.nanoTime();
+    try {
+      final Outcome outcome = resolveOnce(image(image));
+      return new ImageResolution(
+          image, outcome, Duration.ofNanos(System.nanoTime() - start), Optional.empty());
+    } catch (final RuntimeException e) {
+      return new ImageResolution(
+          image,
+          Outcome.FAILED,
+          Duration.ofNanos(System.nanoTime() - start),
+          Optional.of(String.valueOf(e.getMessage())));
+    }
+  }
+
+  private Outcome resolveOnce(final DockerImageName image) {
+    final String name = image.asCanonicalNameString();
+    final CompletableFuture<Outcome> resolution = new CompletableFuture<>();
+    final CompletableFuture<Outcome> existing = resolutions.putIfAbsent(name, resolution);
+
+    if (existing != null) {
+      try {
+        existing.join();
+      } catch (final CompletionException e) {
+        throw new IllegalStateException("Image could not be resolved: " + name, e.getCause());
+      }
+      return Outcome.CACHED;
+    }
+
+    try {
+      final Outcome outcome = ensureAvailable(image);
+      resolution.complete(outcome);
+      return outcome;
+    } catch (final RuntimeException e) {
+      // A later request may succeed, e.g. once the image has been loaded
+      resolutions.remove(name);
+      resolution.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private Outcome ensureAvailable(final DockerImageName image) {
+    final String name = image.asCanonicalNameString();
+    final Optional<InspectImageResponse> local = inspect(image);
+
+    if (offline) {
+      if (local.isEmpty()) {
+        throw new IllegalStateException(
+            String.format(
+                "Image %s is not available locally and offline mode forbids pulling it", name));
+      }
+      return Outcome.PRESENT;
+    }
+
+    if (local.isPresent() && (isPinned(image) || !isStale(local.get()))) {
+      return Outcome.PRESENT;
+    }
+
+    pull(image);
+    inspected.remove(name);
+    if (inspect(image).isEmpty()) {
+      throw new IllegalStateException("Image is not available after pulling: " + name);
+    }
+    return Outcome.PULLED;
+  }
+
+  private Optional<InspectImageResponse> inspect(final DockerImageName image) {
+    return inspected.computeIfAbsent(
+        image.asCanonicalNameString(),
+        name -> {
+          try {
+            return Optional.of(docker.inspectImageCmd(name).exec());
+          } catch (final NotFoundException e) {
+            return Optional.empty();
+          }
+        });
+  }
+
+  private void pull(final DockerImageName image) {
+    LOG.info("Pulling image {}", image.asCanonicalNameString());
+    final long start = System.nanoTime();
+    try {
+      docker
+          .pullImageCmd(image.getUnversionedPart())
+          .withTag(image.getVersionPart())
+          .exec(new ResultCallback.Adapter<PullResponseItem>())
+          .awaitCompletion();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted pulling image: " + image, e);
+    }
+    LOG.info(
+        "Pulled image {} in {}",
+        image.asCanonicalNameString(),
+        Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  private boolean isPinned(final DockerImageName image) {
+    return image.getVersionPart().startsWith("sha256:");
+  }
+
+  private boolean isStale(final InspectImageResponse image) {
+    final Instant created = ZonedDateTime.parse(image.getCreated()).toInstant();
+    return Duration.between(created, Instant.now()).compareTo(MAX_AGE) > 0;
+  }
+
+  private Optional<String> digest(
+      final DockerImageName image, final InspectImageResponse response) {
+    if (isPinned(image)) {
+      return Optional.of(image.getVersionPart());
+    }
+    if (response.getRepoDigests() == null) {
+      return Optional.empty();
+    }
+
+    final String prefix = image.getUnversionedPart() + "@";
+    return response.getRepoDigests().stream()
+        .filter(repoDigest -> repoDigest.startsWith(prefix))
+        .map(repoDigest -> repoDigest.substring(prefix.length()))
+        .findFirst();
+  }
+
+  private static ImageManager fromSystemProperties() {
+    final ImageManager manager =
+        new ImageManager(
+            Boolean.getBoolean(OFFLINE_PROPERTY),
+            Optional.ofNullable(System.getProperty(LOCK_FILE_PROPERTY))
+                .map(Path::of)
+                .map(ImageLock::read)
+                .orElse(new ImageLock(Map.of())));
+
+    Optional.ofNullable(System.getProperty(LOCK_FILE_WRITE_PROPERTY))
+        .map(Path::of)
+        .ifPresent(
+            file ->
+                Runtime.getRuntime()
+                    .addShutdownHook(new Thread(() -> manager.lock().write(file))));
+
+    return manager;
+  }
+}
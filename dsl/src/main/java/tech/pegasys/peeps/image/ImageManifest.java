@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.image;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Images a suite requires, declared one per line with blank lines and lines starting with # being
+ * ignored.
+ */
+public class ImageManifest {
+
+  private final List<String> images;
+
+  public ImageManifest(final List<String> images) {
+    this.images = List.copyOf(images);
+  }
+
+  public static ImageManifest read(final Path file) {
+    try {
+      return new ImageManifest(
+          Files.readAllLines(file).stream()
+              .map(String::strip)
+              .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+              .distinct()
+              .collect(Collectors.toList()));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to read image manifest: " + file, e);
+    }
+  }
+
+  public List<String> getImages() {
+    return images;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.image;
+
+import tech.pegasys.peeps.image.ImageResolution.Outcome;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.google.common.base.MoreObjects;
+
+/** Outcome of pre-warming a set of images concurrently. */
+public class ImagePrewarm {
+
+  private final Instant startedAt;
+  private final Duration duration;
+  private final List<ImageResolution> resolutions;
+
+  public ImagePrewarm(
+      final Instant startedAt, final Duration duration, final List<ImageResolution> resolutions) {
+    this.startedAt = startedAt;
+    this.duration = duration;
+    this.resolutions = List.copyOf(resolutions);
+  }
+
+  public Instant getStartedAt() {
+    return startedAt;
+  }
+
+  /** Wall clock time of the pre-warm, rather than the sum of the resolutions. */
+  public Duration getDuration() {
+    return duration;
+  }
+
+  public List<ImageResolution> getResolutions() {
+    return resolutions;
+  }
+
+  public long count(final Outcome outcome) {
+    return resolutions.stream().filter(resolution -> resolution.getOutcome() == outcome).count();
+  }
+
+  /** @throws IllegalStateException when any image failed to resolve. */
+  public ImagePrewarm verify() {
+    final List<String> failures =
+        resolutions.stream()
+            .filter(resolution -> resolution.getOutcome() == Outcome.FAILED)
+            .map(resolution -> resolution.getImage() + ": " + resolution.getFailure().orElse(""))
+            .collect(Collectors.toList());
+
+    if (!failures.isEmpty()) {
+      throw new IllegalStateException(
+          String.format(
+              "Failed to pre-warm %s of %s images:%n%s",
+              failures.size(),
+              resolutions.size(),
+              String.join(System.lineSeparator(), failures)));
+    }
+    return this;
+  }
+
+  /** One line per image, e.g. for logging at the start of a suite. */
+  public String summary() {
+    final StringBuilder summary =
+        new StringBuilder(
+            String.format(
+                "Pre-warmed %s images in %sms: %s pulled, %s present, %s cached, %s failed",
+                resolutions.size(),
+                duration.toMillis(),
+                count(Outcome.PULLED),
+                count(Outcome.PRESENT),
+                count(Outcome.CACHED),
+                count(Outcome.FAILED)));
+
+    resolutions.forEach(
+        resolution ->
+            summary.append(
+                String.format(
+                    "%n  %-8s %6sms %s",
+                    resolution.getOutcome(),
+                    resolution.getDuration().toMillis(),
+                    resolution.getImage())));
+    return summary.toString();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("startedAt", startedAt)
+        .add("duration", duration)
+        .add("resolutions", resolutions)
+        .toString();
+  }
+}
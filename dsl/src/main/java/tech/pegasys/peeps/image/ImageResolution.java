@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.image;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import com.google.common.base.MoreObjects;
+
+/** What resolving an image took, and how long. */
+public class ImageResolution {
+
+  public enum Outcome {
+    /** Resolved earlier by the same JVM. */
+    CACHED,
+    /** Already available locally. */
+    PRESENT,
+    /** Pulled from the registry. */
+    PULLED,
+    /** Neither available locally nor pulled. */
+    FAILED
+  }
+
+  private final String image;
+  private final Outcome outcome;
+  private final Duration duration;
+  private final Optional<String> failure;
+
+  public ImageResolution(
+      final String image,
+      final Outcome outcome,
+      final Duration duration,
+      final Optional<String> failure) {
+    this.image = image;
+    this.outcome = outcome;
+    this.duration = duration;
+    this.failure = failure;
+  }
+
+  public String getImage() {
+    return image;
+  }
+
+  public Outcome getOutcome() {
+    return outcome;
+  }
+
+  public Duration getDuration() {
+    return duration;
+  }
+
+  public Optional<String> getFailure() {
+    return failure;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("image", image)
+        .add("outcome", outcome)
+        .add("duration", duration)
+        .add("failure", failure)
+        .toString();
+  }
+}
@@ -14,6 +14,7 @@ package tech.pegasys.peeps.json;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
 
@@ -36,6 +37,10 @@ public class Json {
     return ENCODER.convert(pojo);
   }
 
+  public static void encode(final Object pojo, final ByteBuf out) {
+    ENCODER.write(pojo, out);
+  }
+
   public static <T> T decode(final Buffer buf, final Class<T> clazz) throws DecodeException {
     return DECODER.read(buf, clazz);
   }
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
@@ -29,8 +30,19 @@ public class JsonDecoder {
   }
 
   public <T> T read(final Buffer buf, final Class<T> clazz) throws DecodeException {
+    final ByteBuf byteBuf = buf.getByteBuf();
+
     try {
-      return mapper.readValue((InputStream) new ByteBufInputStream(buf.getByteBuf()), clazz);
+      if (byteBuf.hasArray()) {
+        // Parse directly from the backing array, avoiding the stream wrapper and its copying
+        return mapper.readValue(
+            byteBuf.array(),
+            byteBuf.arrayOffset() + byteBuf.readerIndex(),
+            byteBuf.readableBytes(),
+            clazz);
+      }
+
+      return mapper.readValue((InputStream) new ByteBufInputStream(byteBuf), clazz);
     } catch (final IOException e) {
       throw new DecodeException("Failed to decode: " + e.getMessage(), e);
     }
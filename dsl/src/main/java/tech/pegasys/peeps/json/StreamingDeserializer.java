@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Reads a flat JSON object straight from the token stream, retaining only the textual value of the
+ * fields of interest.
+ *
+ * <p>Every other field, including nested objects and arrays such as receipt logs, is skipped
+ * without being materialised.
+ */
+public abstract class StreamingDeserializer<T> extends StdDeserializer<T> {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Class<T> type;
+  private final Map<String, Integer> fieldIndices;
+  private final Collection<String> mandatoryFields;
+
+  protected StreamingDeserializer(
+      final Class<T> type,
+      final Collection<String> mandatoryFields,
+      final Collection<String> optionalFields) {
+    super(type);
+    this.type = type;
+    this.fieldIndices = new HashMap<>();
+    this.mandatoryFields = mandatoryFields;
+
+    for (final String field : mandatoryFields) {
+      fieldIndices.put(field, fieldIndices.size());
+    }
+    for (final String field : optionalFields) {
+      fieldIndices.put(field, fieldIndices.size());
+    }
+  }
+
+  @Override
+  public T deserialize(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+
+    if (!parser.isExpectedStartObjectToken() && !parser.hasToken(JsonToken.FIELD_NAME)) {
+      return type.cast(context.handleUnexpectedToken(type, parser));
+    }
+
+    final String[] values = new String[fieldIndices.size()];
+    String name =
+        parser.hasToken(JsonToken.FIELD_NAME) ? parser.currentName() : parser.nextFieldName();
+
+    while (name != null) {
+      parser.nextToken();
+
+      final Integer index = fieldIndices.get(name);
+      if (index != null) {
+        values[index] = parser.getValueAsString();
+      }
+
+      parser.skipChildren();
+      name = parser.nextFieldName();
+    }
+
+    final FieldValues fieldValues = new FieldValues(values);
+
+    for (final String mandatory : mandatoryFields) {
+      if (fieldValues.get(mandatory) == null) {
+        return context.reportInputMismatch(
+            this, "Missing or null mandatory field '%s' for %s", mandatory, type.getSimpleName());
+      }
+    }
+
+    return create(fieldValues);
+  }
+
+  protected abstract T create(FieldValues values);
+
+  protected class FieldValues {
+
+    private final String[] values;
+
+    private FieldValues(final String[] values) {
+      this.values = values;
+    }
+
+    public String get(final String field) {
+      return values[fieldIndices.get(field)];
+    }
+  }
+}
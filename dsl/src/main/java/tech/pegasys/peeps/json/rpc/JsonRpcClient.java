@@ -12,11 +12,20 @@
  */
 package tech.pegasys.peeps.json.rpc;
 
+import tech.pegasys.peeps.json.Json;
+
 import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import org.apache.logging.log4j.Logger;
 
 public class JsonRpcClient extends RpcClient {
@@ -24,22 +33,118 @@ public class JsonRpcClient extends RpcClient {
   private static final String JSON_RPC_VERSION = "2.0";
   private static final String JSON_RPC_CONTEXT_PATH = "/";
 
+  /**
+   * Only methods without side effects may share a response between callers, named in full as reads
+   * such as eth_getFilterChanges consume state on the node.
+   */
+  private static final Set<String> SIDE_EFFECT_FREE_METHODS =
+      Set.of(
+          "admin_nodeInfo",
+          "admin_peers",
+          "eth_blockNumber",
+          "eth_chainId",
+          "eth_getBalance",
+          "eth_getBlockByHash",
+          "eth_getBlockByNumber",
+          "eth_getCode",
+          "eth_getTransactionByHash",
+          "eth_getTransactionCount",
+          "eth_getTransactionReceipt",
+          "istanbul_getValidators",
+          "net_peerCount",
+          "net_version",
+          "priv_getTransactionReceipt",
+          "qbft_getValidatorsByBlockNumber",
+          "txpool_pending");
+
+  private static final JsonRpcRequestId REQUEST_ID = new JsonRpcRequestId(1);
+  private static final Object[] NO_PARAMS = new Object[0];
+
+  /** Parameterless polling methods, encoded once rather than on every call. */
+  private static final Map<String, RequestBody> PRE_ENCODED =
+      Stream.of("admin_nodeInfo", "admin_peers", "eth_blockNumber")
+          .collect(
+              Collectors.toUnmodifiableMap(
+                  method -> method,
+                  method -> RequestBody.preEncoded(method, request(method, NO_PARAMS))));
+
+  private final Optional<SingleFlight> singleFlight;
+
   public JsonRpcClient(
       final Vertx vertx,
       final Duration timeout,
       final Logger log,
       final Set<Supplier<String>> dockerLogs) {
+    this(vertx, timeout, log, dockerLogs, false);
+  }
+
+  /**
+   * With single-flight enabled, concurrent side effect free calls having identical method and
+   * parameters share a single request and its response.
+   */
+  public JsonRpcClient(
+      final Vertx vertx,
+      final Duration timeout,
+      final Logger log,
+      final Set<Supplier<String>> dockerLogs,
+      final boolean singleFlight) {
     super(vertx, timeout, log, dockerLogs);
+    this.singleFlight = singleFlight ? Optional.of(new SingleFlight()) : Optional.empty();
   }
 
   public <T> T post(final String method, final Class<T> clazz) {
-    return this.post(method, clazz, new Object[0]);
+    final RequestBody preEncoded = PRE_ENCODED.get(method);
+
+    if (preEncoded == null) {
+      return this.post(method, clazz, NO_PARAMS);
+    }
+
+    if (singleFlight.isPresent()) {
+      return singleFlight
+          .get()
+          .execute(
+              clazz.getName() + ":" + method,
+              clazz,
+              () -> super.post(JSON_RPC_CONTEXT_PATH, preEncoded, clazz));
+    }
+
+    return super.post(JSON_RPC_CONTEXT_PATH, preEncoded, clazz);
   }
 
   public <T> T post(final String method, final Class<T> clazz, final Object... params) {
-    return super.post(
-        JSON_RPC_CONTEXT_PATH,
-        new JsonRpcRequest(JSON_RPC_VERSION, method, params, new JsonRpcRequestId(1)),
-        clazz);
+    final JsonRpcRequest request = request(method, params);
+
+    if (singleFlight.isPresent() && isSideEffectFree(method)) {
+      return singleFlight
+          .get()
+          .execute(
+              singleFlightKey(request, clazz),
+              clazz,
+              () -> super.post(JSON_RPC_CONTEXT_PATH, RequestBody.encode(method, request), clazz));
+    }
+
+    return super.post(JSON_RPC_CONTEXT_PATH, RequestBody.encode(method, request), clazz);
+  }
+
+  /** Sends an already encoded request, with the response decoded by the given decoder. */
+  public <T> T post(final RequestBody body, final Function<Buffer, T> decoder) {
+    return super.post(JSON_RPC_CONTEXT_PATH, body, decoder);
+  }
+
+  public <T> CompletableFuture<T> postAsync(
+      final RequestBody body, final Function<Buffer, T> decoder) {
+    return super.postAsync(JSON_RPC_CONTEXT_PATH, body, decoder);
+  }
+
+  private static JsonRpcRequest request(final String method, final Object[] params) {
+    return new JsonRpcRequest(JSON_RPC_VERSION, method, params, REQUEST_ID);
+  }
+
+  private boolean isSideEffectFree(final String method) {
+    return SIDE_EFFECT_FREE_METHODS.contains(method);
+  }
+
+  private String singleFlightKey(final JsonRpcRequest request, final Class<?> clazz) {
+    return clazz.getName() + ":" + Json.encode(request);
   }
 }
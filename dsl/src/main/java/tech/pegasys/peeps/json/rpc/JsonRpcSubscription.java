@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import tech.pegasys.peeps.json.Json;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.google.common.net.HostAndPort;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.WebSocket;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An <code>eth_subscribe</code> subscription over a node's WebSocket JSON-RPC endpoint.
+ *
+ * <p>Every message received, including the subscription confirmation, is decoded and passed to the
+ * consumer on the Vert.x event loop, so the consumer must be quick and non-blocking.
+ *
+ * <p>Each message is timestamped on arrival, before it is decoded.
+ */
+public class JsonRpcSubscription<T> implements Closeable {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final String JSON_RPC_VERSION = "2.0";
+  private static final String JSON_RPC_CONTEXT_PATH = "/";
+  private static final JsonRpcRequestId REQUEST_ID = new JsonRpcRequestId(1);
+
+  private final HttpClient client;
+  private final Class<T> notificationType;
+  private final BiConsumer<T, Instant> consumer;
+
+  private WebSocket socket;
+
+  public JsonRpcSubscription(
+      final Vertx vertx, final Class<T> notificationType, final Consumer<T> consumer) {
+    this(vertx, notificationType, (notification, received) -> consumer.accept(notification));
+  }
+
+  private JsonRpcSubscription(
+      final Vertx vertx, final Class<T> notificationType, final BiConsumer<T, Instant> consumer) {
+    this.client = vertx.createHttpClient(new HttpClientOptions());
+    this.notificationType = notificationType;
+    this.consumer = consumer;
+  }
+
+  /**
+   * Subscription passing each notification to the consumer with the time its message arrived.
+   *
+   * @param vertx provides the WebSocket client.
+   * @param notificationType type the messages are decoded into.
+   * @param consumer receives each decoded notification, with when its message was received.
+   */
+  public static <T> JsonRpcSubscription<T> timestamped(
+      final Vertx vertx, final Class<T> notificationType, final BiConsumer<T, Instant> consumer) {
+    return new JsonRpcSubscription<>(vertx, notificationType, consumer);
+  }
+
+  /**
+   * Connects to the endpoint and subscribes, blocking until the connection is established.
+   *
+   * @param endpoint host and port of the WebSocket JSON-RPC endpoint.
+   * @param timeout maximum wait for the connection to be established.
+   * @param params parameters of the subscription, e.g. the subscription type.
+   */
+  public void subscribe(
+      final HostAndPort endpoint, final Duration timeout, final Object... params) {
+    checkState(socket == null, "Already subscribed");
+
+    final CompletableFuture<WebSocket> connection = new CompletableFuture<>();
+    client.webSocket(
+        endpoint.getPort(),
+        endpoint.getHost(),
+        JSON_RPC_CONTEXT_PATH,
+        result -> {
+          if (result.succeeded()) {
+            connection.complete(result.result());
+          } else {
+            connection.completeExceptionally(result.cause());
+          }
+        });
+
+    try {
+      socket = connection.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException | ExecutionException | TimeoutException e) {
+      throw new IllegalStateException("Failed to connect to WebSocket endpoint: " + endpoint, e);
+    }
+
+    socket.textMessageHandler(this::onMessage);
+    socket.writeTextMessage(
+        Json.encode(new JsonRpcRequest(JSON_RPC_VERSION, "eth_subscribe", params, REQUEST_ID)));
+  }
+
+  @Override
+  public void close() {
+    if (socket != null) {
+      socket.close();
+    }
+    client.close();
+  }
+
+  private void onMessage(final String message) {
+    final Instant received = Instant.now();
+    final T notification;
+    try {
+      notification = Json.decode(Buffer.buffer(message), notificationType);
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to decode subscription message: {}", message, e);
+      return;
+    }
+
+    consumer.accept(notification, received);
+  }
+}
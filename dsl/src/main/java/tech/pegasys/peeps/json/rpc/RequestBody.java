@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import tech.pegasys.peeps.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Encoded body of a HTTP request, sent with a Content-Length rather than chunked.
+ *
+ * <p>A pre-encoded body is immutable and may be sent any number of times, concurrently. An encoded
+ * body is written into a pooled buffer, so must be sent once and then released, returning the
+ * buffer to the pool.
+ */
+public class RequestBody {
+
+  private final String label;
+  private final Buffer content;
+  private final String contentLength;
+  private final Supplier<String> description;
+  private final Runnable release;
+
+  private RequestBody(
+      final String label,
+      final Buffer content,
+      final String contentLength,
+      final Supplier<String> description,
+      final Runnable release) {
+    this.label = label;
+    this.content = content;
+    this.contentLength = contentLength;
+    this.description = description;
+    this.release = release;
+  }
+
+  public static RequestBody preEncoded(final String label, final Object pojo) {
+    return of(label, Json.encode(pojo).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static RequestBody of(final String label, final byte[] json) {
+    return new RequestBody(
+        label,
+        Buffer.buffer(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(json))),
+        String.valueOf(json.length),
+        () -> new String(json, StandardCharsets.UTF_8),
+        () -> {});
+  }
+
+  public static RequestBody encode(final String label, final Object pojo) {
+    final ByteBuf buffer = PooledByteBufAllocator.DEFAULT.heapBuffer();
+
+    try {
+      Json.encode(pojo, buffer);
+    } catch (final RuntimeException e) {
+      buffer.release();
+      throw e;
+    }
+
+    // Released by the caller once the exchange completes, rather than by Vert.x when written
+    return new RequestBody(
+        label,
+        Buffer.buffer(Unpooled.unreleasableBuffer(buffer)),
+        String.valueOf(buffer.readableBytes()),
+        () -> Json.encode(pojo),
+        buffer::release);
+  }
+
+  /** Name the request is recorded under in the statistics, e.g. the JSON-RPC method. */
+  public String getLabel() {
+    return label;
+  }
+
+  public Buffer getContent() {
+    return content;
+  }
+
+  public String getContentLength() {
+    return contentLength;
+  }
+
+  /** JSON of the request, only rendered when needed for logging. */
+  public String describe() {
+    return description.get();
+  }
+
+  /** Returns any pooled buffer, after which the body must not be sent again. */
+  public void release() {
+    release.run();
+  }
+}
@@ -14,6 +14,7 @@ package tech.pegasys.peeps.json.rpc;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
+import static io.vertx.core.http.HttpHeaders.CONTENT_LENGTH;
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 import static org.testcontainers.shaded.com.github.dockerjava.core.MediaType.APPLICATION_JSON;
 
@@ -24,9 +25,11 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.ext.web.client.WebClientOptions;
@@ -36,10 +39,15 @@ public abstract class RpcClient {
 
   private static final List<Integer> HTTP_OK_STATUSES = List.of(200, 201);
 
+  /** Longest wait for a response, so a hung node fails its callers rather than blocking them. */
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
   private final Vertx vertx;
   private final Logger log;
   private final Duration connectionTimeout;
+  private final Duration requestTimeout;
   private final Set<Supplier<String>> dockerLogs;
+  private final RpcStatistics statistics = new RpcStatistics();
 
   private HttpClient rpc;
   private String containerId;
@@ -49,7 +57,17 @@ public abstract class RpcClient {
       final Duration connectionTimeout,
       final Logger log,
       final Set<Supplier<String>> dockerLogs) {
+    this(vertx, connectionTimeout, REQUEST_TIMEOUT, log, dockerLogs);
+  }
+
+  protected RpcClient(
+      final Vertx vertx,
+      final Duration connectionTimeout,
+      final Duration requestTimeout,
+      final Logger log,
+      final Set<Supplier<String>> dockerLogs) {
     this.connectionTimeout = connectionTimeout;
+    this.requestTimeout = requestTimeout;
     this.vertx = vertx;
     this.log = log;
     this.dockerLogs = dockerLogs;
@@ -81,21 +99,57 @@ public abstract class RpcClient {
     }
   }
 
+  public RpcStatistics statistics() {
+    return statistics;
+  }
+
   protected <T> T post(final String relativeUri, final Object requestPojo, final Class<T> clazz) {
+    return post(relativeUri, RequestBody.encode(relativeUri, requestPojo), clazz);
+  }
+
+  protected <T> T post(final String relativeUri, final RequestBody body, final Class<T> clazz) {
+    return post(relativeUri, body, response -> Json.decode(response, clazz));
+  }
+
+  /** Sends the body, which is then released, blocking until the decoded response is available. */
+  protected <T> T post(
+      final String relativeUri, final RequestBody body, final Function<Buffer, T> decoder) {
     try {
-      return performPost(relativeUri, requestPojo, clazz);
+      return postAsync(relativeUri, body, decoder).get();
 
-    } catch (final RuntimeException e) {
+    } catch (final InterruptedException | ExecutionException e) {
+      final RuntimeException failure =
+          new RuntimeException("No response receive from: " + relativeUri, e);
       dockerLogs.forEach(dockerLog -> log.error(dockerLog.get()));
-      log.error("Post request failed", e);
-      throw e;
+      log.error("Post request failed", failure);
+      throw failure;
     }
   }
 
-  private <T> T performPost(
-      final String relativeUri, final Object requestPojo, final Class<T> clazz) {
+  /** Sends the body, which is then released, without waiting on the response. */
+  protected <T> CompletableFuture<T> postAsync(
+      final String relativeUri, final RequestBody body, final Function<Buffer, T> decoder) {
     final CompletableFuture<T> future = new CompletableFuture<>();
-    final String json = Json.encode(requestPojo);
+    final long start = System.nanoTime();
+
+    try {
+      send(relativeUri, body, decoder, future);
+    } catch (final RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+
+    return future.whenComplete(
+        (result, error) -> {
+          body.release();
+          statistics.record(body.getLabel(), System.nanoTime() - start, error == null);
+        });
+  }
+
+  private <T> void send(
+      final String relativeUri,
+      final RequestBody body,
+      final Function<Buffer, T> decoder,
+      final CompletableFuture<T> future) {
 
     @SuppressWarnings("deprecation")
     final HttpClientRequest request =
@@ -104,40 +158,41 @@ public abstract class RpcClient {
             result -> {
               if (HTTP_OK_STATUSES.contains(result.statusCode())) {
                 result.bodyHandler(
-                    body -> {
-                      log.trace(
-                          "Container {}, relative URL: {}, request: {}, response: {}",
-                          containerId,
-                          relativeUri,
-                          json,
-                          body);
+                    response -> {
+                      if (log.isTraceEnabled()) {
+                        log.trace(
+                            "Container {}, relative URL: {}, request: {}, response: {}",
+                            containerId,
+                            relativeUri,
+                            body.describe(),
+                            response);
+                      }
                       try {
-                        future.complete(Json.decode(body, clazz));
+                        future.complete(decoder.apply(response));
                       } catch (Exception e) {
                         future.completeExceptionally(
                             new IllegalStateException(
-                                String.format("Failed decoding json rpc response %s", body), e));
+                                String.format("Failed decoding json rpc response %s", response),
+                                e));
                       }
                     });
               } else {
                 final String errorMessage =
                     String.format(
                         "Post request: %s, to '%s' failed: %s, %s",
-                        json, relativeUri, result.statusCode(), result.statusMessage());
-                result.bodyHandler(body -> log.error("{}, {}", errorMessage, body));
+                        body.describe(),
+                        relativeUri,
+                        result.statusCode(),
+                        result.statusMessage());
+                result.bodyHandler(response -> log.error("{}, {}", errorMessage, response));
                 future.completeExceptionally(new IllegalStateException(errorMessage));
               }
             });
 
+    request.setTimeout(requestTimeout.toMillis());
+    request.exceptionHandler(future::completeExceptionally);
     request.putHeader(CONTENT_TYPE, APPLICATION_JSON.getMediaType());
-
-    request.setChunked(true);
-    request.end(json);
-
-    try {
-      return future.get();
-    } catch (final InterruptedException | ExecutionException e) {
-      throw new RuntimeException("No response receive from: " + relativeUri, e);
-    }
+    request.putHeader(CONTENT_LENGTH, body.getContentLength());
+    request.end(body.getContent());
   }
 }
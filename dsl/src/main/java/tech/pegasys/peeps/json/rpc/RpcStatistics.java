@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.base.MoreObjects;
+
+/** Call counts and latencies of the requests made by a RPC client, grouped by request label. */
+public class RpcStatistics {
+
+  private final ConcurrentMap<String, Calls> calls = new ConcurrentHashMap<>();
+
+  public void record(final String label, final long elapsedNanos, final boolean success) {
+    calls.computeIfAbsent(label, key -> new Calls()).record(elapsedNanos, success);
+  }
+
+  /** Point in time copy, ordered by label. */
+  public Map<String, Snapshot> snapshot() {
+    final Map<String, Snapshot> snapshot = new TreeMap<>();
+    calls.forEach((label, labelCalls) -> snapshot.put(label, labelCalls.snapshot()));
+    return snapshot;
+  }
+
+  public void reset() {
+    calls.clear();
+  }
+
+  private static class Calls {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    private void record(final long elapsedNanos, final boolean success) {
+      count.increment();
+      totalNanos.add(elapsedNanos);
+      maxNanos.accumulate(elapsedNanos);
+
+      if (!success) {
+        failures.increment();
+      }
+    }
+
+    private Snapshot snapshot() {
+      return new Snapshot(count.sum(), failures.sum(), totalNanos.sum(), maxNanos.get());
+    }
+  }
+
+  public static class Snapshot {
+    private final long count;
+    private final long failures;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    public Snapshot(
+        final long count, final long failures, final long totalNanos, final long maxNanos) {
+      this.count = count;
+      this.failures = failures;
+      this.totalNanos = totalNanos;
+      this.maxNanos = maxNanos;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getFailures() {
+      return failures;
+    }
+
+    public Duration getTotalLatency() {
+      return Duration.ofNanos(totalNanos);
+    }
+
+    public Duration getMeanLatency() {
+      return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+    }
+
+    public Duration getMaxLatency() {
+      return Duration.ofNanos(maxNanos);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("count", count)
+          .add("failures", failures)
+          .add("meanLatency", getMeanLatency())
+          .add("maxLatency", getMaxLatency())
+          .toString();
+    }
+  }
+}
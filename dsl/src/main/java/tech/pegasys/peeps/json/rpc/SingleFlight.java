@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent executions sharing the same key into a single execution.
+ *
+ * <p>The first caller for a key performs the call, while any caller arriving before it completes
+ * waits on and receives the same result (or exception). Once complete the key is released, so
+ * later callers always trigger a fresh call; no result is ever cached.
+ */
+public class SingleFlight {
+
+  private final ConcurrentMap<String, CompletableFuture<Object>> inFlight =
+      new ConcurrentHashMap<>();
+
+  public <T> T execute(final String key, final Class<T> clazz, final Supplier<T> call) {
+    checkNotNull(key, "A key is mandatory");
+
+    final CompletableFuture<Object> flight = new CompletableFuture<>();
+    final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+
+    if (existing != null) {
+      return clazz.cast(awaitResult(existing));
+    }
+
+    try {
+      final T result = call.get();
+      flight.complete(result);
+      return result;
+    } catch (final RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+  private Object awaitResult(final CompletableFuture<Object> shared) {
+    try {
+      return shared.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
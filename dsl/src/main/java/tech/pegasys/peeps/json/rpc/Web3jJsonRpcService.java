@@ -0,0 +1,193 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * Web3j transport over the PEEPS JSON-RPC client, so web3j calls (including contract wrappers)
+ * share its HTTP connections, timeouts, logging and statistics.
+ *
+ * <p>Requests and responses are encoded with the web3j object mapper, as web3j response types rely
+ * upon its configuration. Subscriptions are not supported, as with any HTTP transport.
+ */
+public class Web3jJsonRpcService implements Web3jService {
+
+  private static final String BATCH_LABEL = "batch";
+
+  private final JsonRpcClient rpcClient;
+  private final ObjectMapper mapper;
+
+  public Web3jJsonRpcService(final JsonRpcClient rpcClient) {
+    checkNotNull(rpcClient, "A JSON-RPC client is mandatory");
+    this.rpcClient = rpcClient;
+    this.mapper = ObjectMapperFactory.getObjectMapper();
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public <T extends Response> T send(final Request request, final Class<T> responseType)
+      throws IOException {
+    try {
+      return rpcClient.post(encode(request), response -> decode(response, responseType));
+    } catch (final RuntimeException e) {
+      throw new IOException("Failed JSON-RPC request: " + request.getMethod(), e);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public <T extends Response> CompletableFuture<T> sendAsync(
+      final Request request, final Class<T> responseType) {
+    try {
+      return failingWithIOException(
+          rpcClient.postAsync(encode(request), response -> decode(response, responseType)),
+          "Failed JSON-RPC request: " + request.getMethod());
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  @Override
+  public BatchResponse sendBatch(final BatchRequest batchRequest) throws IOException {
+    if (batchRequest.getRequests().isEmpty()) {
+      return new BatchResponse(Collections.emptyList(), Collections.emptyList());
+    }
+
+    try {
+      return rpcClient.post(encode(batchRequest), response -> decodeBatch(batchRequest, response));
+    } catch (final RuntimeException e) {
+      throw new IOException("Failed JSON-RPC batch request", e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<BatchResponse> sendBatchAsync(final BatchRequest batchRequest) {
+    if (batchRequest.getRequests().isEmpty()) {
+      return CompletableFuture.completedFuture(
+          new BatchResponse(Collections.emptyList(), Collections.emptyList()));
+    }
+
+    try {
+      return failingWithIOException(
+          rpcClient.postAsync(
+              encode(batchRequest), response -> decodeBatch(batchRequest, response)),
+          "Failed JSON-RPC batch request");
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public <T extends Notification<?>> Flowable<T> subscribe(
+      final Request request, final String unsubscribeMethod, final Class<T> responseType) {
+    throw new UnsupportedOperationException(
+        String.format("Subscriptions are not supported, method: %s", request.getMethod()));
+  }
+
+  /** The underlying JSON-RPC client is owned, and closed, by the node. */
+  @Override
+  public void close() {}
+
+  /** Async failures, such as a timed out request, surface as they would from the blocking calls. */
+  private static <T> CompletableFuture<T> failingWithIOException(
+      final CompletableFuture<T> future, final String message) {
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    future.whenComplete(
+        (response, error) -> {
+          if (error == null) {
+            result.complete(response);
+          } else {
+            result.completeExceptionally(new IOException(message, cause(error)));
+          }
+        });
+    return result;
+  }
+
+  private static Throwable cause(final Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null
+        ? error.getCause()
+        : error;
+  }
+
+  private RequestBody encode(final Request<?, ?> request) throws JsonProcessingException {
+    return RequestBody.of(request.getMethod(), mapper.writeValueAsBytes(request));
+  }
+
+  private RequestBody encode(final BatchRequest batchRequest) throws JsonProcessingException {
+    return RequestBody.of(BATCH_LABEL, mapper.writeValueAsBytes(batchRequest.getRequests()));
+  }
+
+  private <T> T decode(final Buffer response, final Class<T> responseType) {
+    try {
+      return mapper.readValue(response.getBytes(), responseType);
+    } catch (final IOException e) {
+      throw new IllegalStateException("Failed decoding web3j response", e);
+    }
+  }
+
+  /** Responses to a batch may arrive in any order, so are matched to their requests by id. */
+  private BatchResponse decodeBatch(final BatchRequest batchRequest, final Buffer response) {
+    final List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+    final Map<Long, Request<?, ? extends Response<?>>> requestsById = new HashMap<>();
+    requests.forEach(request -> requestsById.put(request.getId(), request));
+
+    try {
+      final JsonNode nodes = mapper.readTree(response.getBytes());
+      final Map<Long, Response<?>> responsesById = new HashMap<>();
+
+      for (final JsonNode node : nodes) {
+        final Request<?, ? extends Response<?>> request =
+            requestsById.get(node.path("id").asLong());
+
+        if (request == null) {
+          throw new IllegalStateException("Batch response has an unexpected id: " + node);
+        }
+
+        responsesById.put(request.getId(), mapper.treeToValue(node, request.getResponseType()));
+      }
+
+      final List<Response<?>> responses = new ArrayList<>(requests.size());
+      for (final Request<?, ? extends Response<?>> request : requests) {
+        responses.add(responsesById.get(request.getId()));
+      }
+
+      return new BatchResponse(requests, responses);
+    } catch (final IOException e) {
+      throw new IllegalStateException("Failed decoding web3j batch response", e);
+    }
+  }
+}
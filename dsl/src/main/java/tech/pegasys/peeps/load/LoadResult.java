@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.load;
+
+import tech.pegasys.peeps.util.LatencySummary;
+
+import java.time.Duration;
+
+import com.google.common.base.MoreObjects;
+
+/** Outcome of applying a transaction load to a node. */
+public class LoadResult {
+
+  private final int submitted;
+  private final int rejected;
+  private final int failed;
+  private final Duration elapsed;
+  private final LatencySummary finality;
+
+  public LoadResult(
+      final int submitted,
+      final int rejected,
+      final int failed,
+      final Duration elapsed,
+      final LatencySummary finality) {
+    this.submitted = submitted;
+    this.rejected = rejected;
+    this.failed = failed;
+    this.elapsed = elapsed;
+    this.finality = finality;
+  }
+
+  public int getSubmitted() {
+    return submitted;
+  }
+
+  /** Transactions refused by the node on submission. */
+  public int getRejected() {
+    return rejected;
+  }
+
+  /** Transactions whose submission failed without a reply, though the node may have them. */
+  public int getFailed() {
+    return failed;
+  }
+
+  public int getIncluded() {
+    return finality.getCount();
+  }
+
+  /** Time from the first submission until the last included transaction was seen in a block. */
+  public Duration getElapsed() {
+    return elapsed;
+  }
+
+  /** Included transactions per second, sustained over the elapsed time. */
+  public double getThroughput() {
+    return elapsed.isZero() ? 0 : getIncluded() * 1000d / elapsed.toMillis();
+  }
+
+  /**
+   * Time from submission until the transaction was seen in a block, which for the BFT mechanisms is
+   * when it becomes final.
+   */
+  public LatencySummary getFinality() {
+    return finality;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("submitted", submitted)
+        .add("rejected", rejected)
+        .add("failed", failed)
+        .add("included", getIncluded())
+        .add("elapsed", elapsed)
+        .add("throughput", getThroughput())
+        .add("finality", finality)
+        .toString();
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.load;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import tech.pegasys.peeps.json.rpc.JsonRpcSubscription;
+import tech.pegasys.peeps.node.Account;
+import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.node.model.BlockHeader;
+import tech.pegasys.peeps.node.rpc.eth.NewHeadsNotification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.eth.Address;
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/**
+ * Submits value transfers at a fixed rate through a node, timing each from submission until it is
+ * seen in a block on that node.
+ *
+ * <p>Transfers are signed locally with the sender's key and submitted as raw transactions, so no
+ * signer or unlocked account is needed, and inclusion is observed over a new heads subscription.
+ */
+public class TransferLoad {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration DRAIN_POLL_INTERVAL = Duration.ofMillis(250);
+
+  private final Vertx vertx;
+  private final Web3Provider node;
+  private final Credentials sender;
+  private final String receiver;
+
+  public TransferLoad(
+      final Vertx vertx, final Web3Provider node, final Account sender, final Address receiver) {
+    this.vertx = vertx;
+    this.node = node;
+    this.sender = sender.credentials();
+    this.receiver = receiver.toHexString();
+  }
+
+  /**
+   * Applies the load, blocking until every submitted transfer is included or the drain time passes.
+   *
+   * @param transactionsPerSecond rate at which transfers are submitted.
+   * @param duration time over which transfers are submitted.
+   * @param drain maximum wait after the last submission for transfers to be included.
+   * @return submission counts, throughput and finality latencies.
+   */
+  public LoadResult run(
+      final int transactionsPerSecond, final Duration duration, final Duration drain) {
+    checkArgument(transactionsPerSecond > 0, "Transactions per second must be positive");
+
+    final Web3j web3j = node.getWeb3j();
+    final TransferSubmitter transfers;
+    try {
+      transfers =
+          new TransferSubmitter(
+              web3j,
+              web3j.ethChainId().send().getChainId().longValueExact(),
+              sender,
+              receiver,
+              web3j
+                  .ethGetTransactionCount(sender.getAddress(), DefaultBlockParameterName.PENDING)
+                  .send()
+                  .getTransactionCount());
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to prepare load on: " + node.identity(), e);
+    }
+
+    final JsonRpcSubscription<NewHeadsNotification> heads =
+        new JsonRpcSubscription<>(
+            vertx,
+            NewHeadsNotification.class,
+            notification -> {
+              final Instant seen = Instant.now();
+              notification.getHead().ifPresent(head -> included(web3j, transfers, head, seen));
+            });
+    final ScheduledExecutorService submitter =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("transfer-load-%d").setDaemon(true).build());
+
+    final Instant start = Instant.now();
+    try {
+      heads.subscribe(node.wsRpcEndpoint(), CONNECTION_TIMEOUT, "newHeads");
+      submitter.scheduleAtFixedRate(
+          transfers::submit,
+          0,
+          TimeUnit.SECONDS.toMicros(1) / transactionsPerSecond,
+          TimeUnit.MICROSECONDS);
+
+      Thread.sleep(duration.toMillis());
+      submitter.shutdown();
+      submitter.awaitTermination(CONNECTION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+      final Instant deadline = Instant.now().plus(drain);
+      while (transfers.outstanding() > 0 && Instant.now().isBefore(deadline)) {
+        Thread.sleep(DRAIN_POLL_INTERVAL.toMillis());
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      submitter.shutdownNow();
+      heads.close();
+    }
+
+    if (transfers.outstanding() > 0) {
+      LOG.warn("{} transfers not included on {}", transfers.outstanding(), node.identity());
+    }
+
+    return transfers.result(start);
+  }
+
+  private void included(
+      final Web3j web3j,
+      final TransferSubmitter transfers,
+      final BlockHeader head,
+      final Instant seen) {
+    web3j
+        .ethGetBlockByHash(head.getHash().toString(), false)
+        .sendAsync()
+        .thenAccept(
+            block -> {
+              if (block.getBlock() == null) {
+                return;
+              }
+
+              for (final EthBlock.TransactionResult<?> transaction :
+                  block.getBlock().getTransactions()) {
+                transfers.included(transaction.get().toString(), seen);
+              }
+            })
+        .exceptionally(
+            error -> {
+              LOG.warn("Failed to fetch block {} from {}", head.getHash(), node.identity(), error);
+              return null;
+            });
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.load;
+
+import tech.pegasys.peeps.util.LatencySummary;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.TransactionEncoder;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.utils.Numeric;
+
+/**
+ * Signs and submits the transfers of a load in nonce order, tracking each until it is included.
+ *
+ * <p>A transfer the node refuses, or whose submission fails, leaves a gap in the sender's nonces
+ * that would hold back every later transfer, so the next submission first re-reads the pending
+ * nonce of the sender from the node.
+ */
+class TransferSubmitter {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final BigInteger GAS_LIMIT = BigInteger.valueOf(21000);
+  private static final BigInteger VALUE = BigInteger.ONE;
+
+  private final Web3j web3j;
+  private final long chainId;
+  private final Credentials sender;
+  private final String receiver;
+
+  private final AtomicReference<BigInteger> nonce;
+  private final AtomicBoolean resync = new AtomicBoolean();
+
+  // Submitted transfers awaiting inclusion, and those whose submission failed but may still land
+  private final ConcurrentMap<String, Instant> pending = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Instant> unconfirmed = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Duration> finality = new ConcurrentHashMap<>();
+  private final AtomicReference<Instant> lastInclusion = new AtomicReference<>();
+  private final AtomicInteger submitted = new AtomicInteger();
+  private final AtomicInteger rejected = new AtomicInteger();
+  private final AtomicInteger failed = new AtomicInteger();
+
+  TransferSubmitter(
+      final Web3j web3j,
+      final long chainId,
+      final Credentials sender,
+      final String receiver,
+      final BigInteger nonce) {
+    this.web3j = web3j;
+    this.chainId = chainId;
+    this.sender = sender;
+    this.receiver = receiver;
+    this.nonce = new AtomicReference<>(nonce);
+  }
+
+  /** Submits the next transfer, logging rather than throwing so a fixed rate schedule continues. */
+  void submit() {
+    try {
+      if (resync.getAndSet(false)) {
+        nonce.set(pendingNonce());
+      }
+
+      send(nonce.getAndUpdate(BigInteger.ONE::add));
+    } catch (final IOException | RuntimeException e) {
+      resync.set(true);
+      LOG.error("Failed to submit transfer from {}", sender.getAddress(), e);
+    }
+  }
+
+  /** Records a transaction seen in a block, when it is one of the submitted transfers. */
+  void included(final String transactionHash, final Instant seen) {
+    final String hash = transactionHash.toLowerCase(Locale.ROOT);
+    final Instant pendingSince = pending.remove(hash);
+    final Instant submittedAt = pendingSince == null ? unconfirmed.remove(hash) : pendingSince;
+
+    if (submittedAt != null) {
+      finality.put(hash, Duration.between(submittedAt, seen));
+      lastInclusion.accumulateAndGet(
+          seen, (last, next) -> last == null || next.isAfter(last) ? next : last);
+    }
+  }
+
+  /** Number of submitted transfers still awaiting inclusion. */
+  int outstanding() {
+    return pending.size();
+  }
+
+  LoadResult result(final Instant start) {
+    final Instant end = lastInclusion.get() == null ? start : lastInclusion.get();
+    return new LoadResult(
+        submitted.get(),
+        rejected.get(),
+        failed.get(),
+        Duration.between(start, end),
+        new LatencySummary(finality.values()));
+  }
+
+  private BigInteger pendingNonce() throws IOException {
+    return web3j
+        .ethGetTransactionCount(sender.getAddress(), DefaultBlockParameterName.PENDING)
+        .send()
+        .getTransactionCount();
+  }
+
+  private void send(final BigInteger nonce) {
+    final RawTransaction transfer =
+        RawTransaction.createEtherTransaction(nonce, BigInteger.ZERO, GAS_LIMIT, receiver, VALUE);
+    final String signed =
+        Numeric.toHexString(TransactionEncoder.signMessage(transfer, chainId, sender));
+    final String hash = Hash.sha3(signed).toLowerCase(Locale.ROOT);
+
+    submitted.incrementAndGet();
+    pending.put(hash, Instant.now());
+
+    try {
+      web3j
+          .ethSendRawTransaction(signed)
+          .sendAsync()
+          .whenComplete(
+              (response, error) -> {
+                if (error != null) {
+                  sendFailed(hash, nonce, error);
+                } else if (response.hasError()) {
+                  refused(hash, nonce, response);
+                }
+              });
+    } catch (final RuntimeException e) {
+      sendFailed(hash, nonce, e);
+    }
+  }
+
+  private void refused(final String hash, final BigInteger nonce, final EthSendTransaction reply) {
+    pending.remove(hash);
+    rejected.incrementAndGet();
+    resync.set(true);
+    LOG.debug("Transfer with nonce {} rejected: {}", nonce, reply.getError().getMessage());
+  }
+
+  private void sendFailed(final String hash, final BigInteger nonce, final Throwable error) {
+    final Instant submittedAt = pending.remove(hash);
+    if (submittedAt != null) {
+      unconfirmed.put(hash, submittedAt);
+    }
+    failed.incrementAndGet();
+    resync.set(true);
+    LOG.warn("Failed to send transfer with nonce {}", nonce, error);
+  }
+}
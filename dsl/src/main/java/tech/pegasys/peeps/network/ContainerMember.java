@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import tech.pegasys.peeps.util.ContainerStats;
+import tech.pegasys.peeps.util.ContainerStatsStream;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/** Network member running within its own Docker container. */
+public interface ContainerMember extends NetworkMember {
+
+  /** Streams the resource usage of the started container to the listener, until closed. */
+  ContainerStatsStream statsStream(Consumer<ContainerStats> listener);
+
+  /** Docker image the member runs, including the version tag. */
+  String imageName();
+
+  /**
+   * Releases what the test holds for the member, without stopping its container, for the container
+   * to be removed by the caller instead.
+   *
+   * @return id of the container to remove, when there is one left running.
+   */
+  Optional<String> release();
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Starts and stops members with bounded concurrency, so the Docker daemon receives at most a fixed
+ * number of concurrent container operations, however many cores the test has.
+ *
+ * <p>Defaults to the system properties peeps.lifecycle.concurrency and peeps.lifecycle.ordered.
+ */
+class MemberLifecycle {
+
+  static final String CONCURRENCY_PROPERTY = "peeps.lifecycle.concurrency";
+  static final String ORDERED_PROPERTY = "peeps.lifecycle.ordered";
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final int DEFAULT_CONCURRENCY = 8;
+
+  private final int concurrency;
+  private final boolean ordered;
+
+  MemberLifecycle(final int concurrency, final boolean ordered) {
+    checkArgument(concurrency > 0, "Concurrency must be at least one");
+    this.concurrency = concurrency;
+    this.ordered = ordered;
+  }
+
+  static MemberLifecycle fromSystemProperties() {
+    return new MemberLifecycle(
+        Integer.getInteger(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY),
+        Boolean.getBoolean(ORDERED_PROPERTY));
+  }
+
+  /**
+   * Starts the members, when ordered each stage being started before the next begins.
+   *
+   * @param stages members grouped in their start order, e.g. privacy managers, nodes then signers.
+   */
+  List<MemberTiming> start(final List<List<NetworkMember>> stages) {
+    final List<List<NetworkMember>> startOrder =
+        ordered
+            ? stages
+            : List.of(stages.stream().flatMap(List::stream).collect(Collectors.toList()));
+    return run("start", startOrder, NetworkMember::start);
+  }
+
+  List<MemberTiming> stop(final List<NetworkMember> members) {
+    return run("stop", List.of(members), NetworkMember::stop);
+  }
+
+  /**
+   * Releases the container members, some of which may stop gracefully instead, e.g. to write out a
+   * recording, so are released concurrently as with stopping. A member failing to release is
+   * logged, so the containers of the others are still returned.
+   *
+   * @return ids of the containers the members left running.
+   */
+  List<String> release(final List<NetworkMember> members) {
+    final List<String> containers = Collections.synchronizedList(new ArrayList<>());
+    run(
+        "release",
+        List.of(
+            members.stream()
+                .filter(member -> member instanceof ContainerMember)
+                .collect(Collectors.toList())),
+        member -> {
+          try {
+            ((ContainerMember) member).release().ifPresent(containers::add);
+          } catch (final RuntimeException e) {
+            LOG.warn("Failed to release member: {}", e.getMessage());
+          }
+        });
+    return containers;
+  }
+
+  /**
+   * Every member of a stage is attempted, even after another fails, with the first failure thrown
+   * once the stage completes and any later stages skipped.
+   */
+  private List<MemberTiming> run(
+      final String operation,
+      final List<List<NetworkMember>> stages,
+      final Consumer<NetworkMember> action) {
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            concurrency,
+            new ThreadFactoryBuilder()
+                .setNameFormat("member-" + operation + "-%d")
+                .setDaemon(true)
+                .build());
+    final Instant begin = Instant.now();
+    final List<MemberTiming> timings = new ArrayList<>();
+    Throwable failure = null;
+
+    try {
+      for (final List<NetworkMember> stage : stages) {
+        final Instant queuedAt = Instant.now();
+        final List<Future<MemberTiming>> running =
+            stage.stream()
+                .map(member -> executor.submit(() -> timed(member, queuedAt, action)))
+                .collect(Collectors.toList());
+
+        for (final Future<MemberTiming> member : running) {
+          try {
+            timings.add(member.get());
+          } catch (final ExecutionException e) {
+            if (failure == null) {
+              failure = e.getCause();
+            } else {
+              failure.addSuppressed(e.getCause());
+            }
+          }
+        }
+
+        if (failure != null) {
+          break;
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted during member " + operation, e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    log(operation, Duration.between(begin, Instant.now()), timings);
+
+    if (failure != null) {
+      Throwables.throwIfUnchecked(failure);
+      throw new IllegalStateException("Failed member " + operation, failure);
+    }
+
+    return timings;
+  }
+
+  private MemberTiming timed(
+      final NetworkMember member, final Instant queuedAt, final Consumer<NetworkMember> action) {
+    final Instant startedAt = Instant.now();
+    action.accept(member);
+    return new MemberTiming(
+        member,
+        startedAt,
+        Duration.between(queuedAt, startedAt),
+        Duration.between(startedAt, Instant.now()));
+  }
+
+  private void log(final String operation, final Duration took, final List<MemberTiming> timings) {
+    LOG.info(
+        "Lifecycle {} of {} members took {}ms with concurrency {}: {}ms queued, {}ms in Docker",
+        operation,
+        timings.size(),
+        took.toMillis(),
+        concurrency,
+        timings.stream().mapToLong(timing -> timing.getQueued().toMillis()).sum(),
+        timings.stream().mapToLong(timing -> timing.getDuration().toMillis()).sum());
+  }
+}
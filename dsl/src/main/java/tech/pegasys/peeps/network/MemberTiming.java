@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import tech.pegasys.peeps.network.report.StartupStep;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * When a lifecycle operation on a member began, how long it waited for a free slot beforehand and
+ * how long it took, recorded before the member can be named.
+ */
+class MemberTiming {
+
+  private final NetworkMember member;
+  private final Instant startedAt;
+  private final Duration queued;
+  private final Duration duration;
+
+  MemberTiming(
+      final NetworkMember member,
+      final Instant startedAt,
+      final Duration queued,
+      final Duration duration) {
+    this.member = member;
+    this.startedAt = startedAt;
+    this.queued = queued;
+    this.duration = duration;
+  }
+
+  NetworkMember getMember() {
+    return member;
+  }
+
+  Instant getStartedAt() {
+    return startedAt;
+  }
+
+  Duration getQueued() {
+    return queued;
+  }
+
+  Duration getDuration() {
+    return duration;
+  }
+
+  StartupStep step(final String name) {
+    return new StartupStep(name, startedAt, queued, duration);
+  }
+}
@@ -18,7 +18,30 @@ import static com.google.common.base.Preconditions.checkState;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.peeps.util.Await.await;
 
+import tech.pegasys.peeps.image.ImageManager;
+import tech.pegasys.peeps.image.ImagePrewarm;
+import tech.pegasys.peeps.json.rpc.RpcStatistics;
+import tech.pegasys.peeps.load.TransferLoad;
+import tech.pegasys.peeps.network.jfr.FlightRecording;
+import tech.pegasys.peeps.network.jfr.TestJvmRecording;
+import tech.pegasys.peeps.network.metrics.Metric;
+import tech.pegasys.peeps.network.metrics.MetricsScraper;
+import tech.pegasys.peeps.network.monitor.ChainMonitor;
+import tech.pegasys.peeps.network.propagation.BlockPropagationProbe;
+import tech.pegasys.peeps.network.propagation.Probe;
+import tech.pegasys.peeps.network.propagation.TransactionPropagationProbe;
+import tech.pegasys.peeps.network.report.BlockSummary;
+import tech.pegasys.peeps.network.report.CallSummary;
+import tech.pegasys.peeps.network.report.MemberSummary;
+import tech.pegasys.peeps.network.report.PerformanceReport;
+import tech.pegasys.peeps.network.report.PerformanceReportWriter;
+import tech.pegasys.peeps.network.report.ResourceSummary;
+import tech.pegasys.peeps.network.report.StartupStep;
+import tech.pegasys.peeps.network.resources.MemberStats;
+import tech.pegasys.peeps.network.resources.ResourceSampler;
+import tech.pegasys.peeps.network.soak.Soak;
 import tech.pegasys.peeps.network.subnet.Subnet;
+import tech.pegasys.peeps.network.teardown.ContainerReaper;
 import tech.pegasys.peeps.node.Account;
 import tech.pegasys.peeps.node.Besu;
 import tech.pegasys.peeps.node.GoQuorum;
@@ -48,6 +71,7 @@ import tech.pegasys.peeps.node.genesis.ibft2.GenesisExtraDataIbft2;
 import tech.pegasys.peeps.node.genesis.qbft.GenesisConfigQbft;
 import tech.pegasys.peeps.node.genesis.qbft.GenesisExtraDataQbft;
 import tech.pegasys.peeps.node.genesis.qbft.GoQuorumConfigQbft;
+import tech.pegasys.peeps.node.model.BlockHeader;
 import tech.pegasys.peeps.node.model.GenesisAddress;
 import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.model.PrivacyTransactionReceipt;
@@ -72,28 +96,46 @@ import tech.pegasys.peeps.signer.EthSignerConfigurationBuilder;
 import tech.pegasys.peeps.signer.SignerConfiguration;
 import tech.pegasys.peeps.signer.model.WalletFileResources;
 import tech.pegasys.peeps.signer.rpc.SignerRpcSenderKnown;
+import tech.pegasys.peeps.util.Await;
 import tech.pegasys.peeps.util.PathGenerator;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.common.annotations.VisibleForTesting;
 import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.crypto.SECP256K1.KeyPair;
 import org.apache.tuweni.eth.Address;
 import org.apache.tuweni.units.ethereum.Wei;
 
 public class Network implements Closeable {
 
+  private static final int CHAIN_MONITOR_WINDOW = 1024;
+  private static final long MAX_REPORTED_BLOCKS = 1000;
+
+  private static final Logger LOG = LogManager.getLogger();
+
   private final Map<PrivacyManagerIdentifier, PrivateTransactionManager> privacyManagers;
   private final Map<String, EthSigner> signers;
   private final List<Web3Provider> nodes;
@@ -107,11 +149,23 @@ public class Network implements Closeable {
 
   private final NetworkState state;
   private final Map<Web3ProviderType, Genesis> genesisConfigurations = new HashMap<>();
+  private final List<Probe> probes = new ArrayList<>();
   private Wei minGasPrice = Wei.valueOf(0);
   private long blockRewardTransitionBlock;
   private Wei blockReward = Wei.valueOf(0);
   private long miningBeneficiaryBlock;
   private Address miningBeneficiary;
+  private boolean rpcSingleFlight;
+  private boolean metricsEnabled;
+  private boolean directAccess;
+  private boolean fastTeardown;
+  private Optional<FlightRecording> flightRecording = Optional.empty();
+  private MemberLifecycle lifecycle = MemberLifecycle.fromSystemProperties();
+  private final List<MemberTiming> memberStartups =
+      Collections.synchronizedList(new ArrayList<>());
+  private Optional<StartupStep> imagePrewarm = Optional.empty();
+  private Optional<StartupStep> connectivityStartup = Optional.empty();
+  private Optional<ChainMonitor> chainMonitor = Optional.empty();
 
   public Network(final Path configurationDirectory, final Subnet subnet) {
     checkArgument(configurationDirectory != null, "Path to configuration directory is mandatory");
@@ -138,23 +192,43 @@ public class Network implements Closeable {
 
   public void start() {
     state.start();
+    Await.statistics().reset();
+    memberStartups.clear();
     genesisFiles.forEach((k, v) -> v.ensureExists(genesisConfigurations.get(k)));
     staticNodesFiles.forEach((k, v) -> v.ensureExists(k, nodes));
     if (members.size() != 0) {
-      members.stream().parallel().forEach(NetworkMember::start);
+      memberStartups.addAll(lifecycle.start(startStages()));
     }
+
+    final Instant connecting = Instant.now();
     awaitConnectivity();
+    connectivityStartup =
+        Optional.of(
+            new StartupStep(
+                "connectivity", connecting, Duration.between(connecting, Instant.now())));
   }
 
   public void stop() {
     state.stop();
-    everyMember(NetworkMember::stop);
+    stopChainMonitor();
+    stopProbes();
+    lifecycle.stop(members);
   }
 
   @Override
   public void close() {
+    stopChainMonitor();
+    stopProbes();
+
+    if (fastTeardown) {
+      final List<String> containers = state.isStarted() ? lifecycle.release(members) : List.of();
+      vertx.close();
+      ContainerReaper.instance().reap(containers, subnet::close);
+      return;
+    }
+
     if (state.isStarted()) {
-      everyMember(NetworkMember::stop);
+      lifecycle.stop(members);
     }
     vertx.close();
     subnet.close();
@@ -180,6 +254,234 @@ public class Network implements Closeable {
             validators));
   }
 
+  /**
+   * Resolves the distinct images of every member concurrently, pulling any required, so that
+   * starting the network is not slowed by pulls.
+   *
+   * @return what resolving each image took.
+   * @throws IllegalStateException when any image could not be resolved.
+   */
+  public ImagePrewarm prewarmImages() {
+    checkState(!state.isStarted(), "Images must be pre-warmed before the Network is started");
+
+    final ImagePrewarm prewarm =
+        ImageManager.instance()
+            .prewarm(
+                containerMembers().values().stream()
+                    .map(ContainerMember::imageName)
+                    .sorted()
+                    .collect(Collectors.toList()));
+    imagePrewarm =
+        Optional.of(new StartupStep("images", prewarm.getStartedAt(), prewarm.getDuration()));
+    return prewarm.verify();
+  }
+
+  /**
+   * Bounds the members starting or stopping at once, as the Docker daemon slows when given more
+   * concurrent container operations than it handles well.
+   *
+   * @param concurrency most members starting or stopping at once.
+   * @param ordered whether privacy managers start before nodes, and nodes before signers.
+   */
+  public void configureLifecycle(final int concurrency, final boolean ordered) {
+    checkState(!state.isStarted(), "Lifecycle must be configured before the Network is started");
+    this.lifecycle = new MemberLifecycle(concurrency, ordered);
+  }
+
+  /**
+   * Concurrent identical side effect free RPC calls on the same node will share a single in-flight
+   * request, reducing redundant load on the nodes during heavy verification.
+   */
+  public void enableRpcSingleFlight() {
+    checkState(nodes.isEmpty(), "RPC single-flight must be enabled before adding nodes");
+    this.rpcSingleFlight = true;
+  }
+
+  /**
+   * The test will reach every member at its subnet address and internal ports, rather than through
+   * ports mapped onto the host. Requires the host to route to the subnet, as on Linux.
+   */
+  public void enableDirectContainerAccess() {
+    checkState(members.isEmpty(), "Direct container access must be enabled before adding members");
+    this.directAccess = true;
+  }
+
+  /**
+   * Closing the network will kill and remove its containers and Docker network in the background,
+   * returning immediately instead of waiting on their graceful shutdown. Cleanup completes before
+   * the JVM exits.
+   */
+  public void enableFastTeardown() {
+    this.fastTeardown = true;
+  }
+
+  /** Every node will expose its Prometheus metrics, for scraping by the test. */
+  public void enableMetrics() {
+    checkState(nodes.isEmpty(), "Metrics must be enabled before adding nodes");
+    this.metricsEnabled = true;
+  }
+
+  /**
+   * Besu nodes will record with the Java Flight Recorder, their recordings collected into the
+   * directory when stopped.
+   *
+   * @param directory where the recordings are collected.
+   * @param testName prefix of each recording, followed by the identity of the node recorded.
+   */
+  public void enableFlightRecording(final Path directory, final String testName) {
+    checkState(nodes.isEmpty(), "Flight recording must be enabled before adding nodes");
+    this.flightRecording = Optional.of(new FlightRecording(directory, testName));
+  }
+
+  /**
+   * Records the test JVM with the Java Flight Recorder until the network stops, alongside the
+   * recordings of the nodes. When begun before the network starts, its startup is recorded too.
+   *
+   * @return recording of the test JVM.
+   */
+  public TestJvmRecording recordTestJvm() {
+    checkState(flightRecording.isPresent(), "Flight recording must be enabled first");
+
+    final TestJvmRecording recording = new TestJvmRecording(flightRecording.get());
+    probes.add(recording);
+    recording.start();
+    return recording;
+  }
+
+  /**
+   * Follows the chain head of every node in the background, recording the block at which any of
+   * the nodes first disagree on the chain.
+   *
+   * @param pollInterval delay between successive polls of each node's chain head.
+   */
+  public void monitorChain(final Duration pollInterval) {
+    checkState(state.isStarted(), "Chain can only be monitored on a started Network");
+    stopChainMonitor();
+
+    final ChainMonitor monitor = new ChainMonitor(nodes, pollInterval, CHAIN_MONITOR_WINDOW);
+    monitor.start();
+    this.chainMonitor = Optional.of(monitor);
+  }
+
+  public void verifyNoFork() {
+    checkState(chainMonitor.isPresent(), "Chain monitoring has not been started");
+    chainMonitor.get().verifyNoFork();
+  }
+
+  /**
+   * Records when every node first sees each new block, until the network stops.
+   *
+   * @return probe providing the propagation of blocks seen since it started.
+   */
+  public BlockPropagationProbe probeBlockPropagation() {
+    return startProbe(new BlockPropagationProbe(vertx, nodes));
+  }
+
+  /**
+   * Records when every node first has each transaction submitted through the probe pending in its
+   * pool, until the network stops.
+   *
+   * @return probe through which to submit the transactions to time.
+   */
+  public TransactionPropagationProbe probeTransactionPropagation() {
+    return startProbe(new TransactionPropagationProbe(vertx, nodes));
+  }
+
+  /**
+   * Samples the container resource usage of every member at a fixed interval, until the network
+   * stops.
+   *
+   * @param interval time between samples of each member.
+   * @param capacity samples retained, beyond which the oldest are evicted.
+   * @return sampler retaining the samples for export.
+   */
+  public ResourceSampler sampleResources(final Duration interval, final int capacity) {
+    return startProbe(new ResourceSampler(containerMembers(), interval, capacity));
+  }
+
+  /**
+   * Performance of the network since it started, including the resource usage and metrics of any
+   * running sampler and scraper.
+   *
+   * @param testName name of the test the network is running.
+   * @return report for persisting with a {@link PerformanceReportWriter}.
+   */
+  public PerformanceReport report(final String testName) {
+    checkState(state.isStarted(), "Reports can only be made of a started Network");
+
+    final Map<String, ContainerMember> containers = containerMembers();
+    final Map<NetworkMember, String> names = new IdentityHashMap<>();
+    containers.forEach((name, member) -> names.put(member, name));
+
+    final List<MemberSummary> topology =
+        containers.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(
+                entry ->
+                    new MemberSummary(
+                        entry.getKey(), role(entry.getValue()), entry.getValue().imageName()))
+            .collect(Collectors.toList());
+
+    final List<StartupStep> startup = new ArrayList<>();
+    imagePrewarm.ifPresent(startup::add);
+    synchronized (memberStartups) {
+      memberStartups.stream()
+          .sorted(Comparator.comparing(MemberTiming::getStartedAt))
+          .map(
+              started ->
+                  started.step(
+                      names.getOrDefault(
+                          started.getMember(), started.getMember().getClass().getSimpleName())))
+          .forEach(startup::add);
+    }
+    connectivityStartup.ifPresent(startup::add);
+
+    final Map<String, SortedMap<String, CallSummary>> rpcCalls = new HashMap<>();
+    nodes.forEach(node -> rpcCalls.put(node.identity(), callSummaries(node.rpcStatistics())));
+
+    return new PerformanceReport(
+        testName,
+        Instant.now(),
+        topology,
+        startup,
+        rpcCalls,
+        callSummaries(Await.statistics()),
+        blockSummary(),
+        resourceSummaries(),
+        metricSeries());
+  }
+
+  /**
+   * Scrapes the Prometheus metrics of every node at a fixed interval, until the network stops.
+   *
+   * @param interval time between scrapes of each node.
+   * @param capacity samples retained per time series, beyond which the oldest are evicted.
+   * @return scraper providing the time series of each node by its identity.
+   */
+  public MetricsScraper scrapeMetrics(final Duration interval, final int capacity) {
+    checkState(metricsEnabled, "Metrics must be enabled to be scraped");
+    return startProbe(new MetricsScraper(nodes, interval, capacity));
+  }
+
+  /**
+   * Load of value transfers, signed locally and submitted through the given node.
+   *
+   * @param node node the transfers are submitted through and their inclusion observed on.
+   * @param sender funded account the transfers are sent from, which no other load may use.
+   * @param receiver account the transfers are sent to.
+   * @return load to run against the started network.
+   */
+  public TransferLoad transferLoad(
+      final Web3Provider node, final Account sender, final Address receiver) {
+    checkArgument(nodes.contains(node), "Node is not a member of the Network");
+    return new TransferLoad(vertx, node, sender, receiver);
+  }
+
+  /** Soak of every node, under a transfer load submitted through the given node. */
+  public Soak soak(final Web3Provider node, final Account sender, final Address receiver) {
+    return new Soak(transferLoad(node, sender, receiver), nodes);
+  }
+
   public Web3Provider addNode(final String nodeIdentifier, final KeyPair nodeKeys) {
     return addNode(
         new Web3ProviderConfigurationBuilder().withIdentity(nodeIdentifier).withNodeKey(nodeKeys),
@@ -277,7 +579,11 @@ public class Network implements Closeable {
         .withIpAddress(subnet.getAddressAndIncrement())
         .withGenesisFile(genesisFiles.get(providerType))
         .withStaticNodesFile(staticNodesFile)
-        .withBootnodeEnodeAddress(bootnodeEnodeAddresses());
+        .withBootnodeEnodeAddress(bootnodeEnodeAddresses())
+        .withRpcSingleFlight(rpcSingleFlight)
+        .withMetricsEnabled(metricsEnabled)
+        .withDirectAccess(directAccess);
+    flightRecording.ifPresent(config::withFlightRecording);
     if (providerType.equals(Web3ProviderType.BESU)) {
       web3Provider = new Besu(config.build());
     } else {
@@ -301,6 +607,7 @@ public class Network implements Closeable {
             .withFileSystemConfigurationFile(pathGenerator.uniqueFile())
             .withBootnodeUrls(privacyManagerBootnodeUrls())
             .withKeyPairs(keys)
+            .withDirectAccess(directAccess)
             .build();
     if (privateTransactionManagerType.equals(PrivateTransactionManagerType.ORION)) {
       OrionConfigurationFile.write(configuration);
@@ -331,6 +638,7 @@ public class Network implements Closeable {
                         .getConfig()
                         .getChainId()) // yeah, this is a bit of a hack.
                 .witWallet(resources)
+                .withDirectAccess(directAccess)
                 .build());
 
     signers.put(wallet, signer);
@@ -358,6 +666,7 @@ public class Network implements Closeable {
                         .getConfig()
                         .getChainId()) // yeah, this is a bit of a hack.
                 .witWallet(resources)
+                .withDirectAccess(directAccess)
                 .build());
 
     signers.put(wallet, signer);
@@ -390,7 +699,7 @@ public class Network implements Closeable {
           for (final TransactionReceipt receipt : receipts) {
             assertThat(receipt).isNotNull();
             assertThat(receipt.isSuccess()).isTrue();
-            assertThat(receipt).usingRecursiveComparison().isEqualTo(firstReceipt);
+            assertSameContent(receipt, firstReceipt, TransactionReceipt::getDigest);
           }
         },
         timeout,
@@ -412,6 +721,76 @@ public class Network implements Closeable {
     nodes.parallelStream().forEach(node -> node.verifyValue(values));
   }
 
+  /**
+   * Verifies every node has the same block hash and state root at the given block height.
+   *
+   * <p>Only when the nodes disagree are the balances of the given accounts compared at that height,
+   * to detail where their state diverges.
+   *
+   * @param blockNumber height at which to compare state, waiting for any node yet to reach it.
+   * @param accounts accounts whose balances are compared should the state roots differ.
+   */
+  public void verifyConsensusOnState(final long blockNumber, final Address... accounts) {
+    checkState(
+        nodes.size() > 1, "There must be two or more nodes to be able to verify on consensus");
+
+    final List<BlockHeader> headers =
+        nodes
+            .parallelStream()
+            .map(node -> node.rpc().getBlockHeader(blockNumber))
+            .collect(Collectors.toList());
+
+    final BlockHeader firstHeader = headers.get(0);
+    final boolean consensus =
+        headers.stream()
+            .allMatch(
+                header ->
+                    header.getHash().equals(firstHeader.getHash())
+                        && header.getStateRoot().equals(firstHeader.getStateRoot()));
+
+    if (consensus) {
+      return;
+    }
+
+    final StringBuilder report =
+        new StringBuilder(String.format("No consensus on state at block %s", blockNumber));
+    for (int i = 0; i < nodes.size(); i++) {
+      report.append(
+          String.format(
+              "%n  %s: hash %s, state root %s",
+              nodes.get(i).identity(), headers.get(i).getHash(), headers.get(i).getStateRoot()));
+    }
+
+    Stream.of(accounts)
+        .parallel()
+        .map(account -> accountDivergence(account, blockNumber))
+        .flatMap(Optional::stream)
+        .collect(Collectors.toList())
+        .forEach(divergence -> report.append(String.format("%n  %s", divergence)));
+
+    throw new AssertionError(report.toString());
+  }
+
+  private Optional<String> accountDivergence(final Address account, final long blockNumber) {
+    final List<Wei> balances =
+        nodes
+            .parallelStream()
+            .map(node -> node.rpc().getBalance(account, blockNumber))
+            .collect(Collectors.toList());
+
+    if (balances.stream().distinct().count() == 1) {
+      return Optional.empty();
+    }
+
+    final List<String> nodeBalances = new ArrayList<>();
+    for (int i = 0; i < nodes.size(); i++) {
+      nodeBalances.add(nodes.get(i).identity() + "=" + balances.get(i).toBigInteger());
+    }
+
+    return Optional.of(
+        String.format("Account %s balances: %s", account, String.join(", ", nodeBalances)));
+  }
+
   public void verifyConsensusOnTransaction(final Hash transaction) {
     checkState(
         nodes.size() > 1, "There must be two or more nodes to be able to verify on consensus");
@@ -428,7 +807,7 @@ public class Network implements Closeable {
     for (final Transaction tx : transactions) {
       assertThat(tx).isNotNull();
       assertThat(tx.isProcessed()).isTrue();
-      assertThat(tx).usingRecursiveComparison().isEqualTo(firstTx);
+      assertSameContent(tx, firstTx, Transaction::getDigest);
     }
   }
 
@@ -447,7 +826,7 @@ public class Network implements Closeable {
 
     for (final PrivacyTransactionReceipt tx : transactions) {
       assertThat(tx).isNotNull();
-      assertThat(tx).usingRecursiveComparison().isEqualTo(firstTx);
+      assertSameContent(tx, firstTx, PrivacyTransactionReceipt::getDigest);
     }
   }
 
@@ -521,8 +900,135 @@ public class Network implements Closeable {
     return nodes.parallelStream().map(Web3Provider::enodeAddress).collect(Collectors.joining(","));
   }
 
-  private void everyMember(final Consumer<NetworkMember> action) {
-    members.parallelStream().forEach(action);
+  /**
+   * Compares by digest, only resorting to the costly field by field comparison to describe any
+   * difference.
+   */
+  private static <T> void assertSameContent(
+      final T actual, final T expected, final Function<T, Bytes32> digest) {
+    if (!digest.apply(actual).equals(digest.apply(expected))) {
+      assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+      assertThat(digest.apply(actual)).isEqualTo(digest.apply(expected));
+    }
+  }
+
+  private void stopChainMonitor() {
+    chainMonitor.ifPresent(ChainMonitor::close);
+    chainMonitor = Optional.empty();
+  }
+
+  /** Privacy managers, then nodes, then signers, each stage relying on the one before. */
+  private List<List<NetworkMember>> startStages() {
+    final List<NetworkMember> privacy = new ArrayList<>();
+    final List<NetworkMember> web3Providers = new ArrayList<>();
+    final List<NetworkMember> others = new ArrayList<>();
+    for (final NetworkMember member : members) {
+      if (member instanceof PrivateTransactionManager) {
+        privacy.add(member);
+      } else if (member instanceof Web3Provider) {
+        web3Providers.add(member);
+      } else {
+        others.add(member);
+      }
+    }
+    return List.of(privacy, web3Providers, others);
+  }
+
+  private Map<String, ContainerMember> containerMembers() {
+    final Map<String, ContainerMember> containers = new HashMap<>();
+    nodes.forEach(node -> containers.put(node.identity(), node));
+    privacyManagers.forEach(
+        (identity, manager) -> containers.put("privacy-manager-" + identity.get(), manager));
+    signers.forEach((wallet, signer) -> containers.put("signer-" + wallet, signer));
+    return containers;
+  }
+
+  private String role(final ContainerMember member) {
+    if (member instanceof Web3Provider) {
+      return ((Web3Provider) member).type().name();
+    }
+    return member instanceof PrivateTransactionManager ? "PRIVACY_MANAGER" : "SIGNER";
+  }
+
+  private SortedMap<String, CallSummary> callSummaries(final RpcStatistics statistics) {
+    final SortedMap<String, CallSummary> summaries = new TreeMap<>();
+    statistics.snapshot().forEach((label, calls) -> summaries.put(label, new CallSummary(calls)));
+    return summaries;
+  }
+
+  /** Production of the most recent blocks, as seen by the first node. */
+  private BlockSummary blockSummary() {
+    if (nodes.isEmpty()) {
+      return null;
+    }
+
+    final Web3Provider node = nodes.get(0);
+    try {
+      // Not the mandatory response RPC, that would wait out its timeout on a stopped node
+      final long head = node.getWeb3j().ethBlockNumber().send().getBlockNumber().longValueExact();
+      if (head < 1) {
+        return null;
+      }
+
+      final long first = Math.max(1, head - MAX_REPORTED_BLOCKS + 1);
+      return new BlockSummary(node.identity(), first, head, node.blockProduction(first, head + 1));
+    } catch (final IOException | RuntimeException | AssertionError e) {
+      LOG.warn("Block production omitted from the report: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private Map<String, ResourceSummary> resourceSummaries() {
+    return probe(ResourceSampler.class)
+        .map(
+            sampler ->
+                sampler.samples().stream()
+                    .collect(Collectors.groupingBy(MemberStats::getMember))
+                    .entrySet()
+                    .stream()
+                    .collect(
+                        Collectors.toMap(
+                            Map.Entry::getKey, entry -> new ResourceSummary(entry.getValue()))))
+        .orElse(Map.of());
+  }
+
+  private Map<String, SortedMap<String, SortedMap<String, Double>>> metricSeries() {
+    final Map<String, SortedMap<String, SortedMap<String, Double>>> metrics = new HashMap<>();
+    probe(MetricsScraper.class)
+        .ifPresent(
+            scraper ->
+                scraper.nodes().forEach(node -> metrics.put(node, metricSeries(scraper, node))));
+    return metrics;
+  }
+
+  private SortedMap<String, SortedMap<String, Double>> metricSeries(
+      final MetricsScraper scraper, final String node) {
+    final SortedMap<String, SortedMap<String, Double>> series = new TreeMap<>();
+    for (final Metric metric : scraper.metrics(node)) {
+      final SortedMap<String, Double> samples = new TreeMap<>();
+      scraper
+          .series(node, metric)
+          .forEach(sample -> samples.put(sample.getTimestamp().toString(), sample.getValue()));
+      series.put(metric.format(), samples);
+    }
+    return series;
+  }
+
+  private <T extends Probe> Optional<T> probe(final Class<T> type) {
+    return probes.stream().filter(type::isInstance).map(type::cast).findFirst();
+  }
+
+  private <T extends Probe> T startProbe(final T probe) {
+    checkState(state.isStarted(), "Probes can only be started on a started Network");
+
+    probes.add(probe);
+    probe.start();
+    return probe;
+  }
+
+  private void stopProbes() {
+    probes.forEach(Probe::close);
+    probes.clear();
   }
 
   private Map<Web3ProviderType, Genesis> createGenesis(
@@ -621,8 +1127,8 @@ public class Network implements Closeable {
   }
 
   public void restart() {
-    everyMember(NetworkMember::stop);
-    everyMember(NetworkMember::start);
+    lifecycle.stop(members);
+    lifecycle.start(startStages());
   }
 
   public void addBlockRewardTransition(
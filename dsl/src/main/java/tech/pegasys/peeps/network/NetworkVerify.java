@@ -31,6 +31,14 @@ public class NetworkVerify {
     network.verifyConsensusOnValue(accounts);
   }
 
+  public void consensusOnStateAt(final long blockNumber, final Address... accounts) {
+    network.verifyConsensusOnState(blockNumber, accounts);
+  }
+
+  public void noFork() {
+    network.verifyNoFork();
+  }
+
   public void consensusOnTransaction(final Hash transaction) {
     network.verifyConsensusOnTransaction(transaction);
   }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.jfr;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.file.Path;
+
+import com.google.common.base.MoreObjects;
+
+/** Where the Java Flight Recorder recordings of a test are collected, and how they are named. */
+public class FlightRecording {
+
+  public static final String TEST_JVM = "test-jvm";
+
+  private final Path directory;
+  private final String testName;
+
+  public FlightRecording(final Path directory, final String testName) {
+    checkArgument(directory != null, "Recording directory is mandatory");
+    checkArgument(testName != null && !testName.isBlank(), "Test name is mandatory");
+    this.directory = directory;
+    this.testName = testName;
+  }
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /** Recording file name of the JVM, safe for use in both host and container paths. */
+  public String fileName(final String recorded) {
+    return (testName + "-" + recorded).replaceAll("[^A-Za-z0-9._-]", "_") + ".jfr";
+  }
+
+  /** Collected recording of the JVM, e.g. a node identity or the test JVM. */
+  public Path file(final String recorded) {
+    return directory.resolve(fileName(recorded));
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("directory", directory)
+        .add("testName", testName)
+        .toString();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.jfr;
+
+import tech.pegasys.peeps.network.propagation.Probe;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Optional;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Records the test JVM with the Java Flight Recorder, so the overhead of the RPC clients and
+ * verification appears alongside the node recordings.
+ */
+public class TestJvmRecording implements Probe {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final String SETTINGS = "profile";
+
+  private final Path file;
+  private Optional<Recording> recording = Optional.empty();
+
+  public TestJvmRecording(final FlightRecording flightRecording) {
+    this.file = flightRecording.file(FlightRecording.TEST_JVM);
+  }
+
+  @Override
+  public synchronized void start() {
+    try {
+      final Recording started = new Recording(Configuration.getConfiguration(SETTINGS));
+      started.setName(file.getFileName().toString());
+      started.start();
+      recording = Optional.of(started);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to read the flight recorder settings", e);
+    } catch (final ParseException e) {
+      throw new IllegalStateException("Invalid flight recorder settings: " + SETTINGS, e);
+    }
+  }
+
+  /** Where the recording is written once closed. */
+  public Path file() {
+    return file;
+  }
+
+  @Override
+  public synchronized void close() {
+    recording.ifPresent(
+        started -> {
+          try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            started.dump(file);
+            LOG.info("Test JVM flight recording written to {}", file);
+          } catch (final IOException e) {
+            LOG.warn("Failed to write the test JVM flight recording: {}", e.getMessage());
+          } finally {
+            started.close();
+          }
+        });
+    recording = Optional.empty();
+  }
+}
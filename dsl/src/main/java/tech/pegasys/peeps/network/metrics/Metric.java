@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.google.common.base.MoreObjects;
+
+/** A single Prometheus time series of a node, identified by its name and labels. */
+public class Metric {
+
+  private final String name;
+  private final Map<String, String> labels;
+
+  public Metric(final String name) {
+    this(name, Map.of());
+  }
+
+  public Metric(final String name, final Map<String, String> labels) {
+    this.name = name;
+    this.labels = new TreeMap<>(labels);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Map<String, String> getLabels() {
+    return Map.copyOf(labels);
+  }
+
+  /** Whether the series has this name and at least these labels, when used as a selector. */
+  public boolean selects(final Metric series) {
+    return name.equals(series.name) && series.labels.entrySet().containsAll(labels.entrySet());
+  }
+
+  /** Prometheus exposition form, e.g. <code>name{label="value"}</code>. */
+  public String format() {
+    if (labels.isEmpty()) {
+      return name;
+    }
+
+    return labels.entrySet().stream()
+        .map(label -> String.format("%s=\"%s\"", label.getKey(), label.getValue()))
+        .collect(Collectors.joining(",", name + "{", "}"));
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final Metric that = (Metric) o;
+    return name.equals(that.name) && labels.equals(that.labels);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, labels);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("name", name).add("labels", labels).toString();
+  }
+}
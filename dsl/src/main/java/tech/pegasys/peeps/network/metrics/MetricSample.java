@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.metrics;
+
+import java.time.Instant;
+
+import com.google.common.base.MoreObjects;
+
+/** Value of a metric when scraped from a node. */
+public class MetricSample {
+
+  public static final String CSV_HEADER = "timestamp,node,metric,value";
+
+  private final Instant timestamp;
+  private final double value;
+
+  public MetricSample(final Instant timestamp, final double value) {
+    this.timestamp = timestamp;
+    this.value = value;
+  }
+
+  public Instant getTimestamp() {
+    return timestamp;
+  }
+
+  public double getValue() {
+    return value;
+  }
+
+  public String toCsv(final String node, final Metric metric) {
+    // Labels contain commas, so the metric is quoted with any inner quotes doubled
+    return String.join(
+        ",",
+        timestamp.toString(),
+        node,
+        "\"" + metric.format().replace("\"", "\"\"") + "\"",
+        Double.toString(value));
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("timestamp", timestamp)
+        .add("value", value)
+        .toString();
+  }
+}
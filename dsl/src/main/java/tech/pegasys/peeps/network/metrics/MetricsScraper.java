@@ -0,0 +1,219 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.metrics;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import tech.pegasys.peeps.network.propagation.Probe;
+import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.util.RingBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Scrapes the Prometheus metrics of every node at a fixed interval, retaining the most recent
+ * samples of each time series keyed by the node identity.
+ */
+public class MetricsScraper implements Probe {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+  private final Map<String, Web3Provider> nodes;
+  private final Duration interval;
+  private final int capacity;
+  private final Map<String, Map<Metric, RingBuffer<MetricSample>>> series =
+      new ConcurrentHashMap<>();
+  private final HttpClient client;
+  private final ScheduledExecutorService executor;
+
+  public MetricsScraper(
+      final List<Web3Provider> nodes, final Duration interval, final int capacity) {
+    checkArgument(!nodes.isEmpty(), "At least one node is required to scrape");
+    checkArgument(!interval.isNegative() && !interval.isZero(), "Scrape interval is zero");
+    checkArgument(capacity > 0, "Samples retained per series must be positive");
+
+    this.nodes =
+        nodes.stream().collect(Collectors.toUnmodifiableMap(Web3Provider::identity, node -> node));
+    this.interval = interval;
+    this.capacity = capacity;
+    this.client = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("metrics-scraper-%d").setDaemon(true).build());
+  }
+
+  @Override
+  public synchronized void start() {
+    final Map<String, URI> endpoints =
+        nodes.values().stream()
+            .collect(
+                Collectors.toUnmodifiableMap(
+                    Web3Provider::identity,
+                    node ->
+                        node.metricsEndpoint()
+                            .orElseThrow(
+                                () ->
+                                    new IllegalStateException(
+                                        "Metrics are not enabled on node: " + node.identity()))));
+
+    executor.scheduleAtFixedRate(
+        () -> endpoints.forEach(this::scrape), 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /** Identities of the scraped nodes. */
+  public Set<String> nodes() {
+    return nodes.keySet();
+  }
+
+  /** Every time series scraped from the node. */
+  public Set<Metric> metrics(final String node) {
+    return Set.copyOf(seriesOf(node).keySet());
+  }
+
+  /** Retained samples of the time series, oldest first. */
+  public List<MetricSample> series(final String node, final Metric metric) {
+    final RingBuffer<MetricSample> samples = seriesOf(node).get(metric);
+    return samples == null ? List.of() : samples.snapshot();
+  }
+
+  /**
+   * Most recent value of the series selected, summed when the selector matches more than one.
+   *
+   * @param node identity of the node scraped.
+   * @param selector metric name, with the labels the series must have.
+   * @return latest value, or empty when no sample of a selected series has been scraped.
+   */
+  public OptionalDouble latest(final String node, final Metric selector) {
+    final List<Double> values =
+        seriesOf(node).entrySet().stream()
+            .filter(entry -> selector.selects(entry.getKey()))
+            .map(entry -> latest(entry.getValue()))
+            .flatMap(Optional::stream)
+            .map(MetricSample::getValue)
+            .collect(Collectors.toList());
+
+    return values.isEmpty()
+        ? OptionalDouble.empty()
+        : OptionalDouble.of(values.stream().mapToDouble(Double::doubleValue).sum());
+  }
+
+  public OptionalDouble latest(final String node, final String name) {
+    return latest(node, new Metric(name));
+  }
+
+  /** Most recent value of the metric, or empty when the node's client does not export it. */
+  public OptionalDouble latest(final String node, final NodeMetric metric) {
+    checkArgument(nodes.containsKey(node), "Metrics are not scraped for node: %s", node);
+    return metric
+        .selector(nodes.get(node).type())
+        .map(selector -> latest(node, selector))
+        .orElse(OptionalDouble.empty());
+  }
+
+  public void writeCsv(final Path file) {
+    final List<String> lines = new ArrayList<>();
+    lines.add(MetricSample.CSV_HEADER);
+
+    series.keySet().stream()
+        .sorted()
+        .forEach(
+            node ->
+                seriesOf(node).entrySet().stream()
+                    .sorted(Comparator.comparing(entry -> entry.getKey().format()))
+                    .forEach(
+                        entry ->
+                            entry.getValue().snapshot().stream()
+                                .map(sample -> sample.toCsv(node, entry.getKey()))
+                                .forEach(lines::add)));
+
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      Files.write(file, lines, StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to write metric samples: " + file, e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    executor.shutdownNow();
+  }
+
+  private void scrape(final String node, final URI endpoint) {
+    try {
+      final HttpResponse<String> response =
+          client.send(
+              HttpRequest.newBuilder(endpoint).timeout(REQUEST_TIMEOUT).GET().build(),
+              HttpResponse.BodyHandlers.ofString());
+      final Instant scraped = Instant.now();
+
+      if (response.statusCode() != 200) {
+        LOG.warn("Metrics scrape of {} returned status {}", node, response.statusCode());
+        return;
+      }
+
+      final Map<Metric, RingBuffer<MetricSample>> nodeSeries =
+          series.computeIfAbsent(node, identity -> new ConcurrentHashMap<>());
+      PrometheusTextParser.parse(response.body())
+          .forEach(
+              (metric, value) ->
+                  nodeSeries
+                      .computeIfAbsent(metric, key -> new RingBuffer<>(capacity))
+                      .add(new MetricSample(scraped, value)));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final IOException | RuntimeException e) {
+      LOG.warn("Failed to scrape metrics of {}: {}", node, e.getMessage());
+    }
+  }
+
+  private Map<Metric, RingBuffer<MetricSample>> seriesOf(final String node) {
+    checkArgument(nodes.containsKey(node), "Metrics are not scraped for node: %s", node);
+    return series.getOrDefault(node, Map.of());
+  }
+
+  private static Optional<MetricSample> latest(final RingBuffer<MetricSample> samples) {
+    final List<MetricSample> snapshot = samples.snapshot();
+    return snapshot.isEmpty()
+        ? Optional.empty()
+        : Optional.of(snapshot.get(snapshot.size() - 1));
+  }
+}
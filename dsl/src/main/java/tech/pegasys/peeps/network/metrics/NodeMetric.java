@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.metrics;
+
+import tech.pegasys.peeps.node.Web3ProviderType;
+
+import java.util.Map;
+import java.util.Optional;
+
+/** Metrics of interest, named differently by each client. */
+public enum NodeMetric {
+  PEER_COUNT(new Metric("ethereum_peer_count"), new Metric("p2p_peers")),
+  CHAIN_HEIGHT(new Metric("ethereum_blockchain_height"), new Metric("chain_head_block")),
+  PENDING_TRANSACTIONS(
+      new Metric("besu_transaction_pool_transactions"), new Metric("txpool_pending")),
+  /** Median block insertion time in nanoseconds, not exported by Besu. */
+  BLOCK_IMPORT_TIME(null, new Metric("chain_inserts", Map.of("quantile", "0.5")));
+
+  private final Metric besu;
+  private final Metric goQuorum;
+
+  NodeMetric(final Metric besu, final Metric goQuorum) {
+    this.besu = besu;
+    this.goQuorum = goQuorum;
+  }
+
+  /** Selector of the series exported by the client, when it has an equivalent metric. */
+  public Optional<Metric> selector(final Web3ProviderType type) {
+    return Optional.ofNullable(type == Web3ProviderType.BESU ? besu : goQuorum);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.metrics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses the Prometheus text exposition format into the value of each time series.
+ *
+ * <p>Comments, including the HELP and TYPE metadata, and any sample timestamps are ignored.
+ */
+public class PrometheusTextParser {
+
+  private PrometheusTextParser() {}
+
+  /**
+   * @param text scraped from a Prometheus metrics endpoint.
+   * @return value of every time series, in the order exposed.
+   * @throws IllegalArgumentException when a sample line is malformed.
+   */
+  public static Map<Metric, Double> parse(final String text) {
+    final Map<Metric, Double> samples = new LinkedHashMap<>();
+
+    for (final String line : text.split("\\R")) {
+      final String sample = line.strip();
+      if (!sample.isEmpty() && !sample.startsWith("#")) {
+        parseSample(sample, samples);
+      }
+    }
+
+    return samples;
+  }
+
+  private static void parseSample(final String line, final Map<Metric, Double> samples) {
+    int position = 0;
+    while (position < line.length() && isNameCharacter(line.charAt(position))) {
+      position++;
+    }
+
+    final String name = line.substring(0, position);
+    if (name.isEmpty()) {
+      throw malformed(line);
+    }
+
+    final Map<String, String> labels = new HashMap<>();
+    if (position < line.length() && line.charAt(position) == '{') {
+      position = parseLabels(line, position + 1, labels);
+    }
+
+    final String[] valueAndTimestamp = line.substring(position).strip().split("\\s+");
+    if (valueAndTimestamp.length == 0 || valueAndTimestamp[0].isEmpty()) {
+      throw malformed(line);
+    }
+
+    samples.put(new Metric(name, labels), parseValue(valueAndTimestamp[0], line));
+  }
+
+  /** @return position immediately after the closing brace of the labels. */
+  private static int parseLabels(
+      final String line, final int start, final Map<String, String> labels) {
+    int position = start;
+
+    while (true) {
+      position = skipWhitespace(line, position);
+      if (position >= line.length()) {
+        throw malformed(line);
+      }
+      if (line.charAt(position) == '}') {
+        return position + 1;
+      }
+
+      final int equals = line.indexOf('=', position);
+      if (equals < 0) {
+        throw malformed(line);
+      }
+      final String labelName = line.substring(position, equals).strip();
+
+      position = skipWhitespace(line, equals + 1);
+      if (position >= line.length() || line.charAt(position) != '"') {
+        throw malformed(line);
+      }
+
+      final StringBuilder labelValue = new StringBuilder();
+      position++;
+      while (position < line.length() && line.charAt(position) != '"') {
+        char character = line.charAt(position);
+        if (character == '\\' && position + 1 < line.length()) {
+          position++;
+          character = line.charAt(position) == 'n' ? '\n' : line.charAt(position);
+        }
+        labelValue.append(character);
+        position++;
+      }
+      if (position >= line.length()) {
+        throw malformed(line);
+      }
+
+      labels.put(labelName, labelValue.toString());
+      position = skipWhitespace(line, position + 1);
+
+      if (position < line.length() && line.charAt(position) == ',') {
+        position++;
+      }
+    }
+  }
+
+  private static double parseValue(final String value, final String line) {
+    switch (value) {
+      case "+Inf":
+        return Double.POSITIVE_INFINITY;
+      case "-Inf":
+        return Double.NEGATIVE_INFINITY;
+      default:
+        try {
+          return Double.parseDouble(value);
+        } catch (final NumberFormatException e) {
+          throw malformed(line);
+        }
+    }
+  }
+
+  private static int skipWhitespace(final String line, final int start) {
+    int position = start;
+    while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+
+  private static boolean isNameCharacter(final char character) {
+    return Character.isLetterOrDigit(character) || character == '_' || character == ':';
+  }
+
+  private static IllegalArgumentException malformed(final String line) {
+    return new IllegalArgumentException("Malformed Prometheus sample: " + line);
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.monitor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/** Block hash by block number for one node, bounded to a sliding window of the highest blocks. */
+class ChainIndex {
+
+  private final NavigableMap<Long, Hash> hashes = new TreeMap<>();
+  private final int window;
+
+  ChainIndex(final int window) {
+    checkArgument(window > 0, "Window must be positive");
+    this.window = window;
+  }
+
+  void put(final long blockNumber, final Hash hash) {
+    hashes.put(blockNumber, hash);
+
+    while (hashes.size() > window) {
+      hashes.pollFirstEntry();
+    }
+  }
+
+  Optional<Hash> hashAt(final long blockNumber) {
+    return Optional.ofNullable(hashes.get(blockNumber));
+  }
+
+  int size() {
+    return hashes.size();
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.monitor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import tech.pegasys.peeps.node.Web3Provider;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Follows the chain head of every node in the background, indexing each new block's hash to detect
+ * the moment any two nodes disagree on the block at the same height.
+ *
+ * <p>Each node is polled independently, so a slow or unavailable node does not delay the others.
+ * Every poll also re-reads the most recent heights already indexed, so a reorg replacing them is
+ * seen, including one resolving a fork.
+ */
+public class ChainMonitor implements Closeable {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  /** Heights below the head re-read on every poll, being those most likely to be reorganised. */
+  private static final int REREAD_DEPTH = 4;
+
+  private final List<Web3Provider> nodes;
+  private final Duration pollInterval;
+  private final int window;
+  private final ForkDetector detector;
+  private final Map<String, Long> indexedHeads = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService executor;
+
+  public ChainMonitor(
+      final List<Web3Provider> nodes, final Duration pollInterval, final int window) {
+    checkArgument(!nodes.isEmpty(), "At least one node is required to monitor");
+    checkArgument(!pollInterval.isNegative() && !pollInterval.isZero(), "Poll interval is zero");
+
+    this.nodes = List.copyOf(nodes);
+    this.pollInterval = pollInterval;
+    this.window = window;
+    this.detector = new ForkDetector(window);
+    this.executor =
+        Executors.newScheduledThreadPool(
+            nodes.size(),
+            new ThreadFactoryBuilder().setNameFormat("chain-monitor-%d").setDaemon(true).build());
+  }
+
+  public void start() {
+    nodes.forEach(
+        node ->
+            executor.scheduleWithFixedDelay(
+                () -> poll(node), 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS));
+  }
+
+  public Optional<Fork> divergence() {
+    return detector.divergence();
+  }
+
+  public void verifyNoFork() {
+    divergence()
+        .ifPresent(
+            fork -> {
+              throw new AssertionError(
+                  String.format(
+                      "Nodes diverged at block %s: %s", fork.getBlockNumber(), fork.getHashes()));
+            });
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  void poll(final Web3Provider node) {
+    final String identity = node.identity();
+
+    try {
+      final long head = node.rpc().getBlockNumber();
+      final long next = indexedHeads.getOrDefault(identity, -1L) + 1;
+      final long reread = Math.min(next, Math.max(0, head - REREAD_DEPTH + 1));
+
+      // Only blocks within the window are indexed, any older are already beyond comparison
+      for (long blockNumber = Math.max(reread, head - window + 1);
+          blockNumber <= head;
+          blockNumber++) {
+        detector
+            .record(identity, blockNumber, node.rpc().getBlockHeader(blockNumber).getHash())
+            .ifPresent(fork -> LOG.error("Fork detected: {}", fork));
+        indexedHeads.put(identity, blockNumber);
+      }
+    } catch (final RuntimeException | AssertionError e) {
+      LOG.warn("Failed to follow the chain head of {}: {}", identity, e.getMessage());
+    }
+  }
+}
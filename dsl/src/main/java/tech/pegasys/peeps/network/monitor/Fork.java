@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.monitor;
+
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.common.base.MoreObjects;
+
+/** Nodes disagreeing on the block hash at a block number. */
+public class Fork {
+
+  private final long blockNumber;
+  private final Map<String, Hash> hashes;
+
+  public Fork(final long blockNumber, final Map<String, Hash> hashes) {
+    this.blockNumber = blockNumber;
+    this.hashes = Collections.unmodifiableMap(new TreeMap<>(hashes));
+  }
+
+  public long getBlockNumber() {
+    return blockNumber;
+  }
+
+  /** Block hash at the fork's block number, by node identity. */
+  public Map<String, Hash> getHashes() {
+    return hashes;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("blockNumber", blockNumber)
+        .add("hashes", hashes)
+        .toString();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.monitor;
+
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Compares the block hashes reported by each node, as they're recorded, against those of every
+ * other node at the same block number.
+ *
+ * <p>Each node's hashes, and the forks between them, are held in a sliding window, so memory is
+ * bounded however long the chain. A hash recorded again for the same block number replaces the
+ * earlier one, so a fork is cleared once a reorg brings the nodes back into agreement, or once it
+ * falls out of the window without one.
+ */
+public class ForkDetector {
+
+  private final int window;
+  private final Map<String, ChainIndex> chains = new HashMap<>();
+  private final NavigableMap<Long, Fork> forks = new TreeMap<>();
+
+  public ForkDetector(final int window) {
+    this.window = window;
+  }
+
+  /**
+   * Records the hash a node has at a block number.
+   *
+   * @param node identity of the node reporting the block.
+   * @param blockNumber number of the block.
+   * @param hash hash of the block on the node.
+   * @return the fork, when any other node has a different hash at the same block number.
+   */
+  public synchronized Optional<Fork> record(
+      final String node, final long blockNumber, final Hash hash) {
+    chains.computeIfAbsent(node, id -> new ChainIndex(window)).put(blockNumber, hash);
+    forks.headMap(blockNumber - window + 1).clear();
+
+    final Map<String, Hash> hashes = new HashMap<>();
+    chains.forEach(
+        (id, chain) -> chain.hashAt(blockNumber).ifPresent(other -> hashes.put(id, other)));
+
+    if (hashes.values().stream().allMatch(hash::equals)) {
+      forks.remove(blockNumber);
+      return Optional.empty();
+    }
+
+    final Fork fork = new Fork(blockNumber, hashes);
+    forks.put(blockNumber, fork);
+    return Optional.of(fork);
+  }
+
+  /** The lowest block number at which any nodes still disagree. */
+  public synchronized Optional<Fork> divergence() {
+    return Optional.ofNullable(forks.firstEntry()).map(Map.Entry::getValue);
+  }
+}
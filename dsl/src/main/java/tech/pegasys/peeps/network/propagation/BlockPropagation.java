@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.propagation;
+
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Time each node first saw each block, from which how long blocks take to reach every node is
+ * derived.
+ */
+public class BlockPropagation {
+
+  private final Set<String> nodes;
+  private final ConcurrentMap<Hash, Sightings> blocks = new ConcurrentHashMap<>();
+
+  public BlockPropagation(final Collection<String> nodes) {
+    this.nodes = Set.copyOf(nodes);
+  }
+
+  /**
+   * Records a node seeing a block, with only the first sighting of any block by a node retained.
+   *
+   * @param node identity of the node that has the block.
+   * @param blockNumber number of the block.
+   * @param hash hash of the block.
+   * @param seen wall-clock time the node was seen with the block.
+   */
+  public void record(
+      final String node, final long blockNumber, final Hash hash, final Instant seen) {
+    blocks
+        .computeIfAbsent(hash, key -> new Sightings(blockNumber))
+        .firstSeen
+        .putIfAbsent(node, seen);
+  }
+
+  /** Only blocks seen by every node contribute to the spread and lag. */
+  public BlockPropagationReport report() {
+    final Map<Long, Duration> spreadByBlock = new TreeMap<>();
+    final Map<String, List<Duration>> lagByNode = new HashMap<>();
+    int incomplete = 0;
+
+    for (final Sightings block : blocks.values()) {
+      final Map<String, Instant> firstSeen = Map.copyOf(block.firstSeen);
+
+      if (!firstSeen.keySet().containsAll(nodes)) {
+        incomplete++;
+        continue;
+      }
+
+      final Instant earliest = Collections.min(firstSeen.values());
+      final Instant latest = Collections.max(firstSeen.values());
+      spreadByBlock.merge(block.blockNumber, Duration.between(earliest, latest), this::longest);
+
+      firstSeen.forEach(
+          (node, seen) ->
+              lagByNode
+                  .computeIfAbsent(node, key -> new ArrayList<>())
+                  .add(Duration.between(earliest, seen)));
+    }
+
+    return new BlockPropagationReport(spreadByBlock, lagByNode, incomplete);
+  }
+
+  private Duration longest(final Duration a, final Duration b) {
+    return a.compareTo(b) >= 0 ? a : b;
+  }
+
+  private static class Sightings {
+    private final long blockNumber;
+    private final ConcurrentMap<String, Instant> firstSeen = new ConcurrentHashMap<>();
+
+    private Sightings(final long blockNumber) {
+      this.blockNumber = blockNumber;
+    }
+  }
+}
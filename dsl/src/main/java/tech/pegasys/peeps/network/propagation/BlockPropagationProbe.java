@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.propagation;
+
+import tech.pegasys.peeps.json.rpc.JsonRpcSubscription;
+import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.node.model.BlockHeader;
+import tech.pegasys.peeps.node.rpc.eth.NewHeadsNotification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.vertx.core.Vertx;
+
+/**
+ * Subscribes to new heads on every node, recording when each node first announces each block.
+ *
+ * <p>Sightings are timestamped as the notification message arrives, before it is decoded.
+ */
+public class BlockPropagationProbe implements Probe {
+
+  private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(10);
+
+  private final Vertx vertx;
+  private final List<Web3Provider> nodes;
+  private final BlockPropagation propagation;
+  private final List<JsonRpcSubscription<NewHeadsNotification>> subscriptions = new ArrayList<>();
+
+  public BlockPropagationProbe(final Vertx vertx, final List<Web3Provider> nodes) {
+    this.vertx = vertx;
+    this.nodes = List.copyOf(nodes);
+    this.propagation =
+        new BlockPropagation(
+            nodes.stream().map(Web3Provider::identity).collect(Collectors.toList()));
+  }
+
+  @Override
+  public void start() {
+    for (final Web3Provider node : nodes) {
+      final JsonRpcSubscription<NewHeadsNotification> subscription =
+          JsonRpcSubscription.timestamped(
+              vertx,
+              NewHeadsNotification.class,
+              (notification, seen) ->
+                  notification.getHead().ifPresent(head -> record(node, head, seen)));
+      subscriptions.add(subscription);
+      subscription.subscribe(node.wsRpcEndpoint(), CONNECTION_TIMEOUT, "newHeads");
+    }
+  }
+
+  public BlockPropagationReport report() {
+    return propagation.report();
+  }
+
+  @Override
+  public void close() {
+    subscriptions.forEach(JsonRpcSubscription::close);
+    subscriptions.clear();
+  }
+
+  private void record(final Web3Provider node, final BlockHeader head, final Instant seen) {
+    propagation.record(node.identity(), head.getNumber(), head.getHash(), seen);
+  }
+}
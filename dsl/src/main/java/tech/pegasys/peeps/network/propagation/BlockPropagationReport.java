@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.propagation;
+
+import tech.pegasys.peeps.util.LatencySummary;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Propagation of blocks across the network.
+ *
+ * <p>Spread is the time between the first and the last node seeing a block, while the lag of a
+ * node is the time between the first node seeing a block and that node seeing it.
+ */
+public class BlockPropagationReport {
+
+  private final SortedMap<Long, Duration> spreadByBlock;
+  private final LatencySummary spread;
+  private final SortedMap<String, LatencySummary> lagByNode;
+  private final int incompleteBlockCount;
+
+  public BlockPropagationReport(
+      final Map<Long, Duration> spreadByBlock,
+      final Map<String, List<Duration>> lagByNode,
+      final int incompleteBlockCount) {
+    this.spreadByBlock = Collections.unmodifiableSortedMap(new TreeMap<>(spreadByBlock));
+    this.spread = new LatencySummary(spreadByBlock.values());
+    final SortedMap<String, LatencySummary> lag = new TreeMap<>();
+    lagByNode.forEach((node, lags) -> lag.put(node, new LatencySummary(lags)));
+    this.lagByNode = Collections.unmodifiableSortedMap(lag);
+    this.incompleteBlockCount = incompleteBlockCount;
+  }
+
+  public SortedMap<Long, Duration> getSpreadByBlock() {
+    return spreadByBlock;
+  }
+
+  public LatencySummary getSpread() {
+    return spread;
+  }
+
+  public SortedMap<String, LatencySummary> getLagByNode() {
+    return lagByNode;
+  }
+
+  /** Blocks not (yet) seen by every node, which are excluded from the spread and lag. */
+  public int getIncompleteBlockCount() {
+    return incompleteBlockCount;
+  }
+
+  /**
+   * Nodes that typically receive blocks well after the first node does.
+   *
+   * @param threshold median lag above which a node is considered slow.
+   * @return identities of the slow nodes.
+   */
+  public Set<String> slowNodes(final Duration threshold) {
+    return lagByNode.entrySet().stream()
+        .filter(entry -> entry.getValue().getMedian().compareTo(threshold) > 0)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toCollection(TreeSet::new));
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("blocks", spreadByBlock.size())
+        .add("incompleteBlocks", incompleteBlockCount)
+        .add("spread", spread)
+        .add("lagByNode", lagByNode)
+        .toString();
+  }
+}
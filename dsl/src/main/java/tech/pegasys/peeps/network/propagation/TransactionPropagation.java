@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.propagation;
+
+import tech.pegasys.peeps.node.Web3ProviderType;
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Time each transaction was submitted and the time each node first saw it pending, from which how
+ * long transactions take to be gossiped between pools is derived.
+ *
+ * <p>A node may announce a transaction before its submission is recorded, so sightings of
+ * transactions not (yet) submitted are kept, but only for a retention period, as every other
+ * pending transaction, such as those of a background load, is also seen.
+ */
+public class TransactionPropagation {
+
+  private static final Duration UNSUBMITTED_RETENTION = Duration.ofMinutes(1);
+
+  private final Map<String, Web3ProviderType> nodes;
+  private final Duration unsubmittedRetention;
+  private final AtomicReference<Instant> lastEviction = new AtomicReference<>();
+  private final ConcurrentMap<Hash, Submission> submissions = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Hash, ConcurrentMap<String, Instant>> sightings =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Creates the record of transaction propagation between the given nodes.
+   *
+   * @param nodes type of each observed node, keyed by node identity.
+   */
+  public TransactionPropagation(final Map<String, Web3ProviderType> nodes) {
+    this(nodes, UNSUBMITTED_RETENTION);
+  }
+
+  TransactionPropagation(
+      final Map<String, Web3ProviderType> nodes, final Duration unsubmittedRetention) {
+    this.nodes = Map.copyOf(nodes);
+    this.unsubmittedRetention = unsubmittedRetention;
+  }
+
+  /**
+   * Records the submission of a transaction.
+   *
+   * @param submitter identity of the node the transaction entered the network through.
+   * @param transaction hash of the submitted transaction.
+   * @param submitted wall-clock time immediately before the transaction was submitted.
+   */
+  public void submitted(final String submitter, final Hash transaction, final Instant submitted) {
+    submissions.put(transaction, new Submission(submitter, submitted));
+  }
+
+  /**
+   * Records a node having a pending transaction, with only the first sighting by a node retained.
+   *
+   * @param node identity of the node with the pending transaction.
+   * @param transaction hash of the pending transaction.
+   * @param seen wall-clock time the node was seen with the transaction.
+   */
+  public void seen(final String node, final Hash transaction, final Instant seen) {
+    sightings
+        .computeIfAbsent(transaction, key -> new ConcurrentHashMap<>())
+        .putIfAbsent(node, seen);
+
+    evictUnsubmitted(seen);
+  }
+
+  /**
+   * Only sightings of submitted transactions are considered, excluding the sighting by the node the
+   * transaction was submitted through.
+   */
+  public TransactionPropagationReport report() {
+    final Map<String, List<Duration>> bySubmitter = new HashMap<>();
+    final Map<Web3ProviderType, List<Duration>> byNodeType = new HashMap<>();
+    int missing = 0;
+
+    for (final Map.Entry<Hash, Submission> entry : submissions.entrySet()) {
+      final Submission submission = entry.getValue();
+      final Map<String, Instant> seen =
+          sightings.getOrDefault(entry.getKey(), new ConcurrentHashMap<>());
+
+      for (final Map.Entry<String, Web3ProviderType> node : nodes.entrySet()) {
+        if (node.getKey().equals(submission.submitter)) {
+          continue;
+        }
+
+        final Instant firstSeen = seen.get(node.getKey());
+        if (firstSeen == null) {
+          missing++;
+          continue;
+        }
+
+        final Duration latency = Duration.between(submission.submitted, firstSeen);
+        bySubmitter.computeIfAbsent(submission.submitter, key -> new ArrayList<>()).add(latency);
+        byNodeType.computeIfAbsent(node.getValue(), key -> new ArrayList<>()).add(latency);
+      }
+    }
+
+    return new TransactionPropagationReport(submissions.size(), bySubmitter, byNodeType, missing);
+  }
+
+  /** At most once per retention period, drops the sightings of long unsubmitted transactions. */
+  private void evictUnsubmitted(final Instant now) {
+    final Instant last = lastEviction.get();
+    if (last == null) {
+      lastEviction.compareAndSet(null, now);
+      return;
+    }
+    if (now.isBefore(last.plus(unsubmittedRetention)) || !lastEviction.compareAndSet(last, now)) {
+      return;
+    }
+
+    final Instant cutoff = now.minus(unsubmittedRetention);
+    sightings
+        .entrySet()
+        .removeIf(
+            entry ->
+                !submissions.containsKey(entry.getKey())
+                    && entry.getValue().values().stream().allMatch(cutoff::isAfter));
+  }
+
+  /** Number of transactions with sightings currently held. */
+  int sightingCount() {
+    return sightings.size();
+  }
+
+  private static class Submission {
+    private final String submitter;
+    private final Instant submitted;
+
+    private Submission(final String submitter, final Instant submitted) {
+      this.submitter = submitter;
+      this.submitted = submitted;
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.propagation;
+
+import tech.pegasys.peeps.json.rpc.JsonRpcSubscription;
+import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.node.rpc.eth.NewPendingTransactionNotification;
+import tech.pegasys.peeps.signer.EthSigner;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.vertx.core.Vertx;
+
+/**
+ * Subscribes to new pending transactions on every node, recording when each node first has each
+ * transaction submitted through the probe in its pool.
+ *
+ * <p>Sightings are timestamped as the notification message arrives, before it is decoded.
+ */
+public class TransactionPropagationProbe implements Probe {
+
+  private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(10);
+
+  private final Vertx vertx;
+  private final List<Web3Provider> nodes;
+  private final TransactionPropagation propagation;
+  private final List<JsonRpcSubscription<NewPendingTransactionNotification>> subscriptions =
+      new ArrayList<>();
+
+  public TransactionPropagationProbe(final Vertx vertx, final List<Web3Provider> nodes) {
+    this.vertx = vertx;
+    this.nodes = List.copyOf(nodes);
+    this.propagation =
+        new TransactionPropagation(
+            nodes.stream().collect(Collectors.toMap(Web3Provider::identity, Web3Provider::type)));
+  }
+
+  @Override
+  public void start() {
+    for (final Web3Provider node : nodes) {
+      final JsonRpcSubscription<NewPendingTransactionNotification> subscription =
+          JsonRpcSubscription.timestamped(
+              vertx,
+              NewPendingTransactionNotification.class,
+              (notification, seen) ->
+                  notification
+                      .getTransaction()
+                      .ifPresent(
+                          transaction -> propagation.seen(node.identity(), transaction, seen)));
+      subscriptions.add(subscription);
+      subscription.subscribe(node.wsRpcEndpoint(), CONNECTION_TIMEOUT, "newPendingTransactions");
+    }
+  }
+
+  /**
+   * Submits a transaction through a node, timing its propagation to every other node.
+   *
+   * @param node node the transaction is submitted to, which is excluded from the latencies.
+   * @param submission sends the transaction, returning its hash.
+   * @return hash of the submitted transaction.
+   */
+  public Hash submit(final Web3Provider node, final Supplier<Hash> submission) {
+    final Instant submitted = Instant.now();
+    final Hash transaction = submission.get();
+    propagation.submitted(node.identity(), transaction, submitted);
+    return transaction;
+  }
+
+  /**
+   * Submits a transaction through a signer, timing its propagation from the signer's downstream
+   * node to every other node.
+   *
+   * @param signer signer the transaction is submitted to, with its downstream node, which first has
+   *     the transaction, excluded from the latencies.
+   * @param submission sends the transaction, returning its hash.
+   * @return hash of the submitted transaction.
+   */
+  public Hash submit(final EthSigner signer, final Supplier<Hash> submission) {
+    return submit(signer.downstream(), submission);
+  }
+
+  public TransactionPropagationReport report() {
+    return propagation.report();
+  }
+
+  @Override
+  public void close() {
+    subscriptions.forEach(JsonRpcSubscription::close);
+    subscriptions.clear();
+  }
+}
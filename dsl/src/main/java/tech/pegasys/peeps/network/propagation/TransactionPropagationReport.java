@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.propagation;
+
+import tech.pegasys.peeps.node.Web3ProviderType;
+import tech.pegasys.peeps.util.LatencySummary;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Gossip latency of transactions, being the time from submission until a node other than the one
+ * submitted through has the transaction pending.
+ */
+public class TransactionPropagationReport {
+
+  private final int transactionCount;
+  private final SortedMap<String, LatencySummary> latencyBySubmitter;
+  private final Map<Web3ProviderType, LatencySummary> latencyByNodeType;
+  private final int missingSightingCount;
+
+  public TransactionPropagationReport(
+      final int transactionCount,
+      final Map<String, List<Duration>> latencyBySubmitter,
+      final Map<Web3ProviderType, List<Duration>> latencyByNodeType,
+      final int missingSightingCount) {
+    this.transactionCount = transactionCount;
+
+    final SortedMap<String, LatencySummary> bySubmitter = new TreeMap<>();
+    latencyBySubmitter.forEach(
+        (submitter, latencies) -> bySubmitter.put(submitter, new LatencySummary(latencies)));
+    this.latencyBySubmitter = Collections.unmodifiableSortedMap(bySubmitter);
+
+    final Map<Web3ProviderType, LatencySummary> byNodeType =
+        new EnumMap<>(Web3ProviderType.class);
+    latencyByNodeType.forEach(
+        (type, latencies) -> byNodeType.put(type, new LatencySummary(latencies)));
+    this.latencyByNodeType = Collections.unmodifiableMap(byNodeType);
+
+    this.missingSightingCount = missingSightingCount;
+  }
+
+  public int getTransactionCount() {
+    return transactionCount;
+  }
+
+  /** Latency of transactions reaching the other nodes, by the node submitted through. */
+  public SortedMap<String, LatencySummary> getLatencyBySubmitter() {
+    return latencyBySubmitter;
+  }
+
+  /** Latency of transactions reaching the other nodes, by the type of the receiving node. */
+  public Map<Web3ProviderType, LatencySummary> getLatencyByNodeType() {
+    return latencyByNodeType;
+  }
+
+  /** Times a node was not (yet) seen with a submitted transaction. */
+  public int getMissingSightingCount() {
+    return missingSightingCount;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("transactions", transactionCount)
+        .add("missingSightings", missingSightingCount)
+        .add("latencyBySubmitter", latencyBySubmitter)
+        .add("latencyByNodeType", latencyByNodeType)
+        .toString();
+  }
+}
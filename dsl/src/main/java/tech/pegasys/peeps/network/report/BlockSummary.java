@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.report;
+
+import tech.pegasys.peeps.node.production.BlockProductionStatistics;
+
+import java.util.SortedMap;
+
+import com.google.common.base.MoreObjects;
+
+/** Block production over a range of the chain, as seen by a single node. */
+public class BlockSummary {
+
+  private final String node;
+  private final long firstBlock;
+  private final long lastBlock;
+  private final int blockCount;
+  private final long meanBlockTimeMillis;
+  private final long maxBlockTimeMillis;
+  private final long blockTimeJitterMillis;
+  private final double emptyBlockRatio;
+  private final double meanTransactionsPerBlock;
+  private final double gasUtilisation;
+  private final double roundChangeRatio;
+  private final SortedMap<String, Long> proposerDistribution;
+
+  public BlockSummary(
+      final String node,
+      final long firstBlock,
+      final long lastBlock,
+      final BlockProductionStatistics statistics) {
+    this.node = node;
+    this.firstBlock = firstBlock;
+    this.lastBlock = lastBlock;
+    this.blockCount = statistics.getBlockCount();
+    this.meanBlockTimeMillis = statistics.getMeanBlockTime().toMillis();
+    this.maxBlockTimeMillis = statistics.getMaxBlockTime().toMillis();
+    this.blockTimeJitterMillis = statistics.getBlockTimeJitter().toMillis();
+    this.emptyBlockRatio = statistics.getEmptyBlockRatio();
+    this.meanTransactionsPerBlock = statistics.getMeanTransactionsPerBlock();
+    this.gasUtilisation = statistics.getGasUtilisation();
+    this.roundChangeRatio = statistics.getRoundChangeRatio();
+    this.proposerDistribution = statistics.getProposerDistribution();
+  }
+
+  public String getNode() {
+    return node;
+  }
+
+  public long getFirstBlock() {
+    return firstBlock;
+  }
+
+  public long getLastBlock() {
+    return lastBlock;
+  }
+
+  public int getBlockCount() {
+    return blockCount;
+  }
+
+  public long getMeanBlockTimeMillis() {
+    return meanBlockTimeMillis;
+  }
+
+  public long getMaxBlockTimeMillis() {
+    return maxBlockTimeMillis;
+  }
+
+  public long getBlockTimeJitterMillis() {
+    return blockTimeJitterMillis;
+  }
+
+  public double getEmptyBlockRatio() {
+    return emptyBlockRatio;
+  }
+
+  public double getMeanTransactionsPerBlock() {
+    return meanTransactionsPerBlock;
+  }
+
+  public double getGasUtilisation() {
+    return gasUtilisation;
+  }
+
+  public double getRoundChangeRatio() {
+    return roundChangeRatio;
+  }
+
+  public SortedMap<String, Long> getProposerDistribution() {
+    return proposerDistribution;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("node", node)
+        .add("firstBlock", firstBlock)
+        .add("lastBlock", lastBlock)
+        .add("blockCount", blockCount)
+        .add("meanBlockTimeMillis", meanBlockTimeMillis)
+        .add("maxBlockTimeMillis", maxBlockTimeMillis)
+        .toString();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.report;
+
+import tech.pegasys.peeps.json.rpc.RpcStatistics;
+
+import com.google.common.base.MoreObjects;
+
+/** Count and latency of calls sharing a label, e.g. a RPC method or a wait condition. */
+public class CallSummary {
+
+  private final long count;
+  private final long failures;
+  private final double meanMillis;
+  private final double maxMillis;
+  private final double totalMillis;
+
+  public CallSummary(final RpcStatistics.Snapshot snapshot) {
+    this.count = snapshot.getCount();
+    this.failures = snapshot.getFailures();
+    this.meanMillis = millis(snapshot.getMeanLatency().toNanos());
+    this.maxMillis = millis(snapshot.getMaxLatency().toNanos());
+    this.totalMillis = millis(snapshot.getTotalLatency().toNanos());
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getFailures() {
+    return failures;
+  }
+
+  public double getMeanMillis() {
+    return meanMillis;
+  }
+
+  public double getMaxMillis() {
+    return maxMillis;
+  }
+
+  public double getTotalMillis() {
+    return totalMillis;
+  }
+
+  private static double millis(final long nanos) {
+    return nanos / 1_000_000d;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("count", count)
+        .add("failures", failures)
+        .add("meanMillis", meanMillis)
+        .add("maxMillis", maxMillis)
+        .add("totalMillis", totalMillis)
+        .toString();
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.report;
+
+import com.google.common.base.MoreObjects;
+
+/** Network member, the role it plays and the Docker image it runs. */
+public class MemberSummary {
+
+  private final String name;
+  private final String role;
+  private final String image;
+
+  public MemberSummary(final String name, final String role, final String image) {
+    this.name = name;
+    this.role = role;
+    this.image = image;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getRole() {
+    return role;
+  }
+
+  public String getImage() {
+    return image;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("name", name)
+        .add("role", role)
+        .add("image", image)
+        .toString();
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.report;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Performance of a network over a single test: its topology, how long it took to start, the RPC
+ * calls and waits made by the test, the blocks produced and the resources used.
+ *
+ * <p>Resource usage and metrics are only present when sampled or scraped during the test.
+ */
+@JsonPropertyOrder({
+  "testName",
+  "generatedAt",
+  "members",
+  "startup",
+  "rpcCalls",
+  "waits",
+  "blocks",
+  "resources",
+  "metrics"
+})
+public class PerformanceReport {
+
+  private final String testName;
+  private final Instant generatedAt;
+  private final List<MemberSummary> members;
+  private final List<StartupStep> startup;
+  private final SortedMap<String, SortedMap<String, CallSummary>> rpcCalls;
+  private final SortedMap<String, CallSummary> waits;
+  private final BlockSummary blocks;
+  private final SortedMap<String, ResourceSummary> resources;
+  private final SortedMap<String, SortedMap<String, SortedMap<String, Double>>> metrics;
+
+  public PerformanceReport(
+      final String testName,
+      final Instant generatedAt,
+      final List<MemberSummary> members,
+      final List<StartupStep> startup,
+      final Map<String, SortedMap<String, CallSummary>> rpcCalls,
+      final Map<String, CallSummary> waits,
+      final BlockSummary blocks,
+      final Map<String, ResourceSummary> resources,
+      final Map<String, SortedMap<String, SortedMap<String, Double>>> metrics) {
+    this.testName = testName;
+    this.generatedAt = generatedAt;
+    this.members = List.copyOf(members);
+    this.startup = List.copyOf(startup);
+    this.rpcCalls = Collections.unmodifiableSortedMap(new TreeMap<>(rpcCalls));
+    this.waits = Collections.unmodifiableSortedMap(new TreeMap<>(waits));
+    this.blocks = blocks;
+    this.resources = Collections.unmodifiableSortedMap(new TreeMap<>(resources));
+    this.metrics = Collections.unmodifiableSortedMap(new TreeMap<>(metrics));
+  }
+
+  public String getTestName() {
+    return testName;
+  }
+
+  public String getGeneratedAt() {
+    return generatedAt.toString();
+  }
+
+  public List<MemberSummary> getMembers() {
+    return members;
+  }
+
+  /** Steps of the network start, in the order they began. */
+  public List<StartupStep> getStartup() {
+    return startup;
+  }
+
+  /** Calls made to each node, keyed by node identity then RPC method. */
+  public SortedMap<String, SortedMap<String, CallSummary>> getRpcCalls() {
+    return rpcCalls;
+  }
+
+  /** Waits made by the test keyed by condition, with a timeout counted as a failure. */
+  public SortedMap<String, CallSummary> getWaits() {
+    return waits;
+  }
+
+  /** Block production, or null when no blocks were produced. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public BlockSummary getBlocks() {
+    return blocks;
+  }
+
+  /** Resource usage keyed by member name. */
+  public SortedMap<String, ResourceSummary> getResources() {
+    return resources;
+  }
+
+  /** Scraped metric values keyed by node identity, then metric, then time scraped. */
+  public SortedMap<String, SortedMap<String, SortedMap<String, Double>>> getMetrics() {
+    return metrics;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("testName", testName)
+        .add("generatedAt", generatedAt)
+        .add("members", members)
+        .add("startup", startup)
+        .add("blocks", blocks)
+        .toString();
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.report;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.SortedMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.html.HtmlEscapers;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/** Writes a performance report as both JSON and a standalone HTML page, named after the test. */
+public class PerformanceReportWriter {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  private static final String STYLE =
+      "body{font-family:sans-serif;margin:2em}table{border-collapse:collapse;margin-bottom:2em}"
+          + "th,td{border:1px solid #ccc;padding:4px 8px;text-align:left}"
+          + "th{background:#eee}.bar{background:#4a90d9;height:1em}";
+
+  private final Path directory;
+
+  public PerformanceReportWriter(final Path directory) {
+    this.directory = directory;
+  }
+
+  /** @return the JSON report written, with the HTML report alongside it. */
+  public Path write(final PerformanceReport report) {
+    final String name = report.getTestName().replaceAll("[^A-Za-z0-9._-]", "_");
+    final Path json = directory.resolve(name + ".json");
+    final Path html = directory.resolve(name + ".html");
+
+    try {
+      Files.createDirectories(directory);
+      MAPPER.writeValue(json.toFile(), report);
+      Files.writeString(html, html(report), StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to write performance report: " + json, e);
+    }
+
+    LOG.info("Performance report written to: {}", html);
+    return json;
+  }
+
+  private static String html(final PerformanceReport report) {
+    final StringBuilder html = new StringBuilder();
+    html.append("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>")
+        .append(escape(report.getTestName()))
+        .append("</title><style>")
+        .append(STYLE)
+        .append("</style></head><body><h1>")
+        .append(escape(report.getTestName()))
+        .append("</h1><p>Generated ")
+        .append(escape(report.getGeneratedAt()))
+        .append("</p>");
+
+    section(html, "Topology", "Member", "Role", "Image");
+    report
+        .getMembers()
+        .forEach(member -> row(html, member.getName(), member.getRole(), member.getImage()));
+    endSection(html);
+
+    startupSection(html, report.getStartup());
+
+    section(html, "RPC calls", "Node", "Method", "Count", "Failures", "Mean ms", "Max ms");
+    report
+        .getRpcCalls()
+        .forEach(
+            (node, calls) ->
+                calls.forEach(
+                    (method, call) ->
+                        row(
+                            html,
+                            node,
+                            method,
+                            call.getCount(),
+                            call.getFailures(),
+                            millis(call.getMeanMillis()),
+                            millis(call.getMaxMillis()))));
+    endSection(html);
+
+    section(html, "Waits", "Condition", "Count", "Timeouts", "Mean ms", "Max ms", "Total ms");
+    report
+        .getWaits()
+        .forEach(
+            (condition, wait) ->
+                row(
+                    html,
+                    condition,
+                    wait.getCount(),
+                    wait.getFailures(),
+                    millis(wait.getMeanMillis()),
+                    millis(wait.getMaxMillis()),
+                    millis(wait.getTotalMillis())));
+    endSection(html);
+
+    blockSection(html, report.getBlocks());
+
+    section(
+        html,
+        "Resource usage",
+        "Member",
+        "Samples",
+        "Mean CPU %",
+        "Max CPU %",
+        "Max memory MiB",
+        "Network rx MiB",
+        "Network tx MiB",
+        "Block read MiB",
+        "Block written MiB");
+    report
+        .getResources()
+        .forEach(
+            (member, usage) ->
+                row(
+                    html,
+                    member,
+                    usage.getSamples(),
+                    String.format("%.1f", usage.getMeanCpuPercent()),
+                    String.format("%.1f", usage.getMaxCpuPercent()),
+                    mebibytes(usage.getMaxMemoryBytes()),
+                    mebibytes(usage.getNetworkReceivedBytes()),
+                    mebibytes(usage.getNetworkTransmittedBytes()),
+                    mebibytes(usage.getBlockReadBytes()),
+                    mebibytes(usage.getBlockWrittenBytes())));
+    endSection(html);
+
+    section(html, "Metrics", "Node", "Metric", "Samples", "Latest");
+    report
+        .getMetrics()
+        .forEach(
+            (node, metrics) ->
+                metrics.forEach(
+                    (metric, series) ->
+                        row(
+                            html,
+                            node,
+                            metric,
+                            series.size(),
+                            series.isEmpty() ? "" : series.get(series.lastKey()))));
+    endSection(html);
+
+    return html.append("</body></html>").toString();
+  }
+
+  private static void startupSection(final StringBuilder html, final List<StartupStep> steps) {
+    section(html, "Startup timeline", "Step", "Offset ms", "Queued ms", "Duration ms", "");
+    if (!steps.isEmpty()) {
+      final Instant first = Instant.parse(steps.get(0).getStartedAt());
+      final long end =
+          steps.stream()
+              .mapToLong(
+                  step ->
+                      Duration.between(first, Instant.parse(step.getStartedAt())).toMillis()
+                          + step.getDurationMillis())
+              .max()
+              .orElse(0);
+
+      for (final StartupStep step : steps) {
+        final long offset = Duration.between(first, Instant.parse(step.getStartedAt())).toMillis();
+        html.append("<tr><td>")
+            .append(escape(step.getName()))
+            .append("</td><td>")
+            .append(offset)
+            .append("</td><td>")
+            .append(step.getQueuedMillis())
+            .append("</td><td>")
+            .append(step.getDurationMillis())
+            .append("</td><td style=\"width:40em\">")
+            .append(
+                String.format(
+                    "<div class=\"bar\" style=\"margin-left:%.1f%%;width:%.1f%%\"></div>",
+                    percentage(offset, end),
+                    percentage(step.getDurationMillis(), end)))
+            .append("</td></tr>");
+      }
+    }
+    endSection(html);
+  }
+
+  private static void blockSection(final StringBuilder html, final BlockSummary blocks) {
+    if (blocks == null) {
+      return;
+    }
+
+    section(html, "Block production", "Statistic", "Value");
+    row(html, "Node", blocks.getNode());
+    row(html, "Blocks", blocks.getFirstBlock() + " to " + blocks.getLastBlock());
+    row(html, "Block count", blocks.getBlockCount());
+    row(html, "Mean block time ms", blocks.getMeanBlockTimeMillis());
+    row(html, "Max block time ms", blocks.getMaxBlockTimeMillis());
+    row(html, "Block time jitter ms", blocks.getBlockTimeJitterMillis());
+    row(html, "Empty block ratio", String.format("%.3f", blocks.getEmptyBlockRatio()));
+    row(html, "Mean transactions", String.format("%.1f", blocks.getMeanTransactionsPerBlock()));
+    row(html, "Gas utilisation", String.format("%.3f", blocks.getGasUtilisation()));
+    row(html, "Round change ratio", String.format("%.3f", blocks.getRoundChangeRatio()));
+    final SortedMap<String, Long> proposers = blocks.getProposerDistribution();
+    proposers.forEach((proposer, count) -> row(html, "Proposed by " + proposer, count));
+    endSection(html);
+  }
+
+  private static void section(final StringBuilder html, final String title, final String... heads) {
+    html.append("<h2>").append(escape(title)).append("</h2><table><tr>");
+    for (final String head : heads) {
+      html.append("<th>").append(escape(head)).append("</th>");
+    }
+    html.append("</tr>");
+  }
+
+  private static void endSection(final StringBuilder html) {
+    html.append("</table>");
+  }
+
+  private static void row(final StringBuilder html, final Object... cells) {
+    html.append("<tr>");
+    for (final Object cell : cells) {
+      html.append("<td>").append(escape(String.valueOf(cell))).append("</td>");
+    }
+    html.append("</tr>");
+  }
+
+  private static String escape(final String text) {
+    return HtmlEscapers.htmlEscaper().escape(text);
+  }
+
+  private static String millis(final double millis) {
+    return String.format("%.2f", millis);
+  }
+
+  private static String mebibytes(final long bytes) {
+    return String.format("%.1f", bytes / (1024d * 1024d));
+  }
+
+  private static double percentage(final long part, final long whole) {
+    return whole == 0 ? 0 : 100d * part / whole;
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.report;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import tech.pegasys.peeps.network.resources.MemberStats;
+import tech.pegasys.peeps.util.ContainerStats;
+
+import java.util.List;
+import java.util.stream.DoubleStream;
+
+import com.google.common.base.MoreObjects;
+
+/** Container resource usage of a member over the samples taken, with totals as of the last. */
+public class ResourceSummary {
+
+  private final int samples;
+  private final double meanCpuPercent;
+  private final double maxCpuPercent;
+  private final long maxMemoryBytes;
+  private final long networkReceivedBytes;
+  private final long networkTransmittedBytes;
+  private final long blockReadBytes;
+  private final long blockWrittenBytes;
+
+  public ResourceSummary(final List<MemberStats> samples) {
+    checkArgument(!samples.isEmpty(), "At least one sample is required to summarise");
+
+    final ContainerStats last = samples.get(samples.size() - 1).getStats();
+    this.samples = samples.size();
+    this.meanCpuPercent = cpuPercent(samples).average().orElse(0);
+    this.maxCpuPercent = cpuPercent(samples).max().orElse(0);
+    this.maxMemoryBytes =
+        samples.stream().mapToLong(sample -> sample.getStats().getMemoryBytes()).max().orElse(0);
+    this.networkReceivedBytes = last.getNetworkReceivedBytes();
+    this.networkTransmittedBytes = last.getNetworkTransmittedBytes();
+    this.blockReadBytes = last.getBlockReadBytes();
+    this.blockWrittenBytes = last.getBlockWrittenBytes();
+  }
+
+  public int getSamples() {
+    return samples;
+  }
+
+  public double getMeanCpuPercent() {
+    return meanCpuPercent;
+  }
+
+  public double getMaxCpuPercent() {
+    return maxCpuPercent;
+  }
+
+  public long getMaxMemoryBytes() {
+    return maxMemoryBytes;
+  }
+
+  public long getNetworkReceivedBytes() {
+    return networkReceivedBytes;
+  }
+
+  public long getNetworkTransmittedBytes() {
+    return networkTransmittedBytes;
+  }
+
+  public long getBlockReadBytes() {
+    return blockReadBytes;
+  }
+
+  public long getBlockWrittenBytes() {
+    return blockWrittenBytes;
+  }
+
+  private static DoubleStream cpuPercent(final List<MemberStats> samples) {
+    return samples.stream().mapToDouble(sample -> sample.getStats().getCpuPercent());
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("samples", samples)
+        .add("meanCpuPercent", meanCpuPercent)
+        .add("maxCpuPercent", maxCpuPercent)
+        .add("maxMemoryBytes", maxMemoryBytes)
+        .toString();
+  }
+}
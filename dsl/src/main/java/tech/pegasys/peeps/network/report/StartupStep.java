@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.report;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.google.common.base.MoreObjects;
+
+/** Step of the network start, e.g. the start of a member or awaiting connectivity. */
+public class StartupStep {
+
+  private final String name;
+  private final Instant startedAt;
+  private final Duration queued;
+  private final Duration duration;
+
+  public StartupStep(final String name, final Instant startedAt, final Duration duration) {
+    this(name, startedAt, Duration.ZERO, duration);
+  }
+
+  /**
+   * @param queued time waiting for a free slot before starting, e.g. when starts are bounded.
+   */
+  public StartupStep(
+      final String name, final Instant startedAt, final Duration queued, final Duration duration) {
+    this.name = name;
+    this.startedAt = startedAt;
+    this.queued = queued;
+    this.duration = duration;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getStartedAt() {
+    return startedAt.toString();
+  }
+
+  public long getQueuedMillis() {
+    return queued.toMillis();
+  }
+
+  public long getDurationMillis() {
+    return duration.toMillis();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("name", name)
+        .add("startedAt", startedAt)
+        .add("queued", queued)
+        .add("duration", duration)
+        .toString();
+  }
+}
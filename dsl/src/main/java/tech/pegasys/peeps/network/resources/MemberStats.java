@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.resources;
+
+import tech.pegasys.peeps.util.ContainerStats;
+
+import com.google.common.base.MoreObjects;
+
+/** Container resource usage of a network member at a point in time. */
+public class MemberStats {
+
+  public static final String CSV_HEADER =
+      "timestamp,member,cpuPercent,memoryBytes,networkReceivedBytes,networkTransmittedBytes,"
+          + "blockReadBytes,blockWrittenBytes";
+
+  private final String member;
+  private final ContainerStats stats;
+
+  public MemberStats(final String member, final ContainerStats stats) {
+    this.member = member;
+    this.stats = stats;
+  }
+
+  public String getMember() {
+    return member;
+  }
+
+  public ContainerStats getStats() {
+    return stats;
+  }
+
+  public String toCsv() {
+    return String.join(
+        ",",
+        stats.getTimestamp().toString(),
+        member,
+        String.format("%.2f", stats.getCpuPercent()),
+        Long.toString(stats.getMemoryBytes()),
+        Long.toString(stats.getNetworkReceivedBytes()),
+        Long.toString(stats.getNetworkTransmittedBytes()),
+        Long.toString(stats.getBlockReadBytes()),
+        Long.toString(stats.getBlockWrittenBytes()));
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("member", member).add("stats", stats).toString();
+  }
+}
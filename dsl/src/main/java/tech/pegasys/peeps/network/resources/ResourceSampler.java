@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.resources;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import tech.pegasys.peeps.network.ContainerMember;
+import tech.pegasys.peeps.network.propagation.Probe;
+import tech.pegasys.peeps.util.ContainerStats;
+import tech.pegasys.peeps.util.ContainerStatsStream;
+import tech.pegasys.peeps.util.RingBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Samples the container resource usage of every network member at a fixed interval, retaining the
+ * most recent samples in a ring buffer.
+ *
+ * <p>Each member's Docker stats are streamed continuously, with the sampler recording the latest of
+ * each at every interval, so a member slow to report never delays the others. A stream that ends,
+ * as when its member is stopped or restarted, is reopened at the next interval, with the member
+ * having no samples until it is running again.
+ */
+public class ResourceSampler implements Probe {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Map<String, ContainerMember> members;
+  private final Duration interval;
+  private final RingBuffer<MemberStats> samples;
+  private final Map<String, ContainerStats> latest = new ConcurrentHashMap<>();
+  private final Map<String, ContainerStatsStream> streams = new HashMap<>();
+  private final ScheduledExecutorService executor;
+
+  public ResourceSampler(
+      final Map<String, ContainerMember> members, final Duration interval, final int capacity) {
+    checkArgument(!members.isEmpty(), "At least one member is required to sample");
+    checkArgument(!interval.isNegative() && !interval.isZero(), "Sample interval is zero");
+
+    this.members = Map.copyOf(members);
+    this.interval = interval;
+    this.samples = new RingBuffer<>(capacity);
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("resource-sampler-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  @Override
+  public synchronized void start() {
+    members.keySet().forEach(this::open);
+
+    executor.scheduleAtFixedRate(
+        this::sample, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /** Retained samples, oldest first. */
+  public List<MemberStats> samples() {
+    return samples.snapshot();
+  }
+
+  public List<MemberStats> samples(final String member) {
+    return samples().stream()
+        .filter(sample -> sample.getMember().equals(member))
+        .collect(Collectors.toList());
+  }
+
+  /** Count of samples dropped from the ring buffer once full. */
+  public long evicted() {
+    return samples.evicted();
+  }
+
+  public void writeCsv(final Path file) {
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      Files.write(
+          file,
+          Stream.concat(
+                  Stream.of(MemberStats.CSV_HEADER), samples().stream().map(MemberStats::toCsv))
+              .collect(Collectors.toList()),
+          StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to write resource samples: " + file, e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    executor.shutdownNow();
+    streams.values().forEach(ContainerStatsStream::close);
+    streams.clear();
+  }
+
+  @VisibleForTesting
+  void sample() {
+    try {
+      reopenEnded();
+      members
+          .keySet()
+          .forEach(
+              identity -> {
+                // A member without fresh stats since the last interval leaves a gap
+                final ContainerStats stats = latest.remove(identity);
+                if (stats != null) {
+                  samples.add(new MemberStats(identity, stats));
+                }
+              });
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to sample member resources: {}", e.getMessage());
+    }
+  }
+
+  private synchronized void reopenEnded() {
+    if (executor.isShutdown()) {
+      return;
+    }
+
+    members
+        .keySet()
+        .forEach(
+            identity -> {
+              final ContainerStatsStream stream = streams.get(identity);
+              if (stream == null || stream.isEnded()) {
+                if (stream != null) {
+                  LOG.info("Stats stream of member {} ended, reopening", identity);
+                  stream.close();
+                  streams.remove(identity);
+                }
+                open(identity);
+              }
+            });
+  }
+
+  /** A member not running cannot be streamed, but is retried at the next interval. */
+  private void open(final String identity) {
+    try {
+      streams.put(
+          identity, members.get(identity).statsStream(stats -> latest.put(identity, stats)));
+    } catch (final RuntimeException e) {
+      LOG.debug("Stats stream of member {} not opened: {}", identity, e.getMessage());
+    }
+  }
+}
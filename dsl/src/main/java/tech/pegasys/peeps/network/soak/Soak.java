@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.soak;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import tech.pegasys.peeps.load.LoadResult;
+import tech.pegasys.peeps.load.TransferLoad;
+import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.util.ContainerStats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Steady transfer load held for a long duration, while every node is periodically sampled for its
+ * container resource usage, head and peer count.
+ *
+ * <p>Each node is sampled independently, with a failed sample logged and skipped rather than
+ * ending the soak.
+ */
+public class Soak {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Duration STATS_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration DRAIN = Duration.ofSeconds(30);
+
+  private final TransferLoad load;
+  private final List<Web3Provider> nodes;
+
+  private int transactionsPerSecond = 10;
+  private Duration duration = Duration.ofHours(1);
+  private Duration sampleInterval = Duration.ofSeconds(30);
+  private OptionalLong maxMemoryGrowthPerHour = OptionalLong.empty();
+  private OptionalLong maxDataDirectoryGrowthPerHour = OptionalLong.empty();
+
+  public Soak(final TransferLoad load, final List<Web3Provider> nodes) {
+    checkArgument(!nodes.isEmpty(), "At least one node is required to soak");
+    this.load = load;
+    this.nodes = List.copyOf(nodes);
+  }
+
+  public Soak withTransactionsPerSecond(final int transactionsPerSecond) {
+    this.transactionsPerSecond = transactionsPerSecond;
+    return this;
+  }
+
+  public Soak withDuration(final Duration duration) {
+    this.duration = duration;
+    return this;
+  }
+
+  public Soak withSampleInterval(final Duration sampleInterval) {
+    checkArgument(
+        !sampleInterval.isNegative() && !sampleInterval.isZero(), "Sample interval is zero");
+    this.sampleInterval = sampleInterval;
+    return this;
+  }
+
+  public Soak withMaxMemoryGrowthPerHour(final long bytes) {
+    this.maxMemoryGrowthPerHour = OptionalLong.of(bytes);
+    return this;
+  }
+
+  public Soak withMaxDataDirectoryGrowthPerHour(final long bytes) {
+    this.maxDataDirectoryGrowthPerHour = OptionalLong.of(bytes);
+    return this;
+  }
+
+  /** Blocks for the soak duration, returning the samples without verifying the growth limits. */
+  public SoakReport run() {
+    final ConcurrentLinkedQueue<SoakSample> samples = new ConcurrentLinkedQueue<>();
+    final ScheduledExecutorService sampler =
+        Executors.newScheduledThreadPool(
+            nodes.size(),
+            new ThreadFactoryBuilder().setNameFormat("soak-sampler-%d").setDaemon(true).build());
+
+    LOG.info(
+        "Soaking {} nodes for {} at {} transactions per second",
+        nodes.size(),
+        duration,
+        transactionsPerSecond);
+
+    final LoadResult result;
+    try {
+      nodes.forEach(
+          node ->
+              sampler.scheduleAtFixedRate(
+                  () -> sample(node, samples),
+                  0,
+                  sampleInterval.toMillis(),
+                  TimeUnit.MILLISECONDS));
+
+      result = load.run(transactionsPerSecond, duration, DRAIN);
+    } finally {
+      sampler.shutdownNow();
+    }
+
+    final SoakReport report =
+        new SoakReport(
+            new ArrayList<>(samples),
+            result,
+            maxMemoryGrowthPerHour,
+            maxDataDirectoryGrowthPerHour);
+    LOG.info("Soak completed: {}", report);
+    return report;
+  }
+
+  private void sample(final Web3Provider node, final ConcurrentLinkedQueue<SoakSample> samples) {
+    try {
+      final ContainerStats stats = node.containerStats(STATS_TIMEOUT);
+
+      samples.add(
+          new SoakSample(
+              stats.getTimestamp(),
+              node.identity(),
+              stats.getMemoryBytes(),
+              stats.getCpuPercent(),
+              node.openFileDescriptors(),
+              node.dataDirectorySize(),
+              node.rpc().getBlockNumber(),
+              node.rpc().getConnectedPeerIds().size()));
+    } catch (final RuntimeException | AssertionError e) {
+      LOG.warn("Failed to sample {} during soak: {}", node.identity(), e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.soak;
+
+import tech.pegasys.peeps.load.LoadResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Time series sampled from every node over a soak, with the memory and data directory trend of
+ * each node checked against the configured growth limits.
+ */
+public class SoakReport {
+
+  private final List<SoakSample> samples;
+  private final LoadResult load;
+  private final OptionalLong maxMemoryGrowthPerHour;
+  private final OptionalLong maxDataDirectoryGrowthPerHour;
+
+  public SoakReport(
+      final List<SoakSample> samples,
+      final LoadResult load,
+      final OptionalLong maxMemoryGrowthPerHour,
+      final OptionalLong maxDataDirectoryGrowthPerHour) {
+    final List<SoakSample> ordered = new ArrayList<>(samples);
+    ordered.sort(Comparator.comparing(SoakSample::getTimestamp));
+
+    this.samples = Collections.unmodifiableList(ordered);
+    this.load = load;
+    this.maxMemoryGrowthPerHour = maxMemoryGrowthPerHour;
+    this.maxDataDirectoryGrowthPerHour = maxDataDirectoryGrowthPerHour;
+  }
+
+  public List<SoakSample> getSamples() {
+    return samples;
+  }
+
+  public LoadResult getLoad() {
+    return load;
+  }
+
+  /** Memory trend line of each node, in bytes per hour. */
+  public SortedMap<String, TrendLine> getMemoryTrends() {
+    return trends(sample -> OptionalLong.of(sample.getMemoryBytes()));
+  }
+
+  /** Data directory trend line of each node, in bytes per hour. */
+  public SortedMap<String, TrendLine> getDataDirectoryTrends() {
+    return trends(SoakSample::getDataDirectoryBytes);
+  }
+
+  public void verifyWithinLimits() {
+    final List<String> failures = new ArrayList<>();
+    maxMemoryGrowthPerHour.ifPresent(
+        limit -> exceeding("Memory", getMemoryTrends(), limit, failures));
+    maxDataDirectoryGrowthPerHour.ifPresent(
+        limit -> exceeding("Data directory", getDataDirectoryTrends(), limit, failures));
+
+    if (!failures.isEmpty()) {
+      throw new AssertionError(
+          "Soak growth limits exceeded:"
+              + System.lineSeparator()
+              + String.join(System.lineSeparator(), failures));
+    }
+  }
+
+  public void writeCsv(final Path file) {
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      Files.write(
+          file,
+          Stream.concat(
+                  Stream.of(SoakSample.CSV_HEADER), samples.stream().map(SoakSample::toCsv))
+              .collect(Collectors.toList()),
+          StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to write soak samples: " + file, e);
+    }
+  }
+
+  private SortedMap<String, TrendLine> trends(final Function<SoakSample, OptionalLong> value) {
+    final Map<String, List<Map.Entry<Instant, Double>>> points = new TreeMap<>();
+    for (final SoakSample sample : samples) {
+      final OptionalLong measured = value.apply(sample);
+      if (measured.isPresent()) {
+        points
+            .computeIfAbsent(sample.getNode(), node -> new ArrayList<>())
+            .add(new SimpleImmutableEntry<>(sample.getTimestamp(), (double) measured.getAsLong()));
+      }
+    }
+
+    final SortedMap<String, TrendLine> trends = new TreeMap<>();
+    points.forEach(
+        (node, series) -> {
+          if (series.size() >= 2) {
+            final TrendLine trend = TrendLine.fit(series);
+            if (!Double.isNaN(trend.getSlopePerHour())) {
+              trends.put(node, trend);
+            }
+          }
+        });
+    return Collections.unmodifiableSortedMap(trends);
+  }
+
+  private static void exceeding(
+      final String resource,
+      final Map<String, TrendLine> trends,
+      final long limit,
+      final List<String> failures) {
+    trends.forEach(
+        (node, trend) -> {
+          if (trend.getSlopePerHour() > limit) {
+            failures.add(
+                String.format(
+                    "%s of %s grew by %.0f bytes per hour, limit %s bytes per hour",
+                    resource, node, trend.getSlopePerHour(), limit));
+          }
+        });
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("samples", samples.size())
+        .add("load", load)
+        .add("memoryTrends", getMemoryTrends())
+        .add("dataDirectoryTrends", getDataDirectoryTrends())
+        .toString();
+  }
+}
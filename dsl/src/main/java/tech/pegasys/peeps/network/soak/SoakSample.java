@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.soak;
+
+import java.time.Instant;
+import java.util.OptionalLong;
+
+import com.google.common.base.MoreObjects;
+
+/** Resource usage and chain progress of a single node at a point during a soak. */
+public class SoakSample {
+
+  public static final String CSV_HEADER =
+      "timestamp,node,memoryBytes,cpuPercent,fileDescriptors,dataDirectoryBytes,blockNumber,"
+          + "peerCount";
+
+  private final Instant timestamp;
+  private final String node;
+  private final long memoryBytes;
+  private final double cpuPercent;
+  private final OptionalLong fileDescriptors;
+  private final OptionalLong dataDirectoryBytes;
+  private final long blockNumber;
+  private final int peerCount;
+
+  public SoakSample(
+      final Instant timestamp,
+      final String node,
+      final long memoryBytes,
+      final double cpuPercent,
+      final OptionalLong fileDescriptors,
+      final OptionalLong dataDirectoryBytes,
+      final long blockNumber,
+      final int peerCount) {
+    this.timestamp = timestamp;
+    this.node = node;
+    this.memoryBytes = memoryBytes;
+    this.cpuPercent = cpuPercent;
+    this.fileDescriptors = fileDescriptors;
+    this.dataDirectoryBytes = dataDirectoryBytes;
+    this.blockNumber = blockNumber;
+    this.peerCount = peerCount;
+  }
+
+  public Instant getTimestamp() {
+    return timestamp;
+  }
+
+  public String getNode() {
+    return node;
+  }
+
+  public long getMemoryBytes() {
+    return memoryBytes;
+  }
+
+  public double getCpuPercent() {
+    return cpuPercent;
+  }
+
+  public OptionalLong getFileDescriptors() {
+    return fileDescriptors;
+  }
+
+  public OptionalLong getDataDirectoryBytes() {
+    return dataDirectoryBytes;
+  }
+
+  public long getBlockNumber() {
+    return blockNumber;
+  }
+
+  public int getPeerCount() {
+    return peerCount;
+  }
+
+  /** Values unavailable when sampled are left empty. */
+  public String toCsv() {
+    return String.join(
+        ",",
+        timestamp.toString(),
+        node,
+        Long.toString(memoryBytes),
+        String.format("%.2f", cpuPercent),
+        fileDescriptors.isPresent() ? Long.toString(fileDescriptors.getAsLong()) : "",
+        dataDirectoryBytes.isPresent() ? Long.toString(dataDirectoryBytes.getAsLong()) : "",
+        Long.toString(blockNumber),
+        Integer.toString(peerCount));
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("timestamp", timestamp)
+        .add("node", node)
+        .add("memoryBytes", memoryBytes)
+        .add("cpuPercent", cpuPercent)
+        .add("fileDescriptors", fileDescriptors)
+        .add("dataDirectoryBytes", dataDirectoryBytes)
+        .add("blockNumber", blockNumber)
+        .add("peerCount", peerCount)
+        .toString();
+  }
+}
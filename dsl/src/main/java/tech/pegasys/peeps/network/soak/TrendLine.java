@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.soak;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Least squares fit of a value over time, with the slope expressed per hour.
+ *
+ * <p>The slope is not a number when every point shares the same time.
+ */
+public class TrendLine {
+
+  private static final double SECONDS_PER_HOUR = Duration.ofHours(1).toSeconds();
+
+  private final double slopePerHour;
+  private final double intercept;
+  private final int points;
+
+  private TrendLine(final double slopePerHour, final double intercept, final int points) {
+    this.slopePerHour = slopePerHour;
+    this.intercept = intercept;
+    this.points = points;
+  }
+
+  public static TrendLine fit(final List<Map.Entry<Instant, Double>> points) {
+    checkArgument(points.size() >= 2, "At least two points are needed to fit a trend line");
+
+    final Instant origin = points.get(0).getKey();
+    double sumX = 0;
+    double sumY = 0;
+    for (final Map.Entry<Instant, Double> point : points) {
+      sumX += hoursSince(origin, point.getKey());
+      sumY += point.getValue();
+    }
+    final double meanX = sumX / points.size();
+    final double meanY = sumY / points.size();
+
+    double covariance = 0;
+    double variance = 0;
+    for (final Map.Entry<Instant, Double> point : points) {
+      final double dx = hoursSince(origin, point.getKey()) - meanX;
+      covariance += dx * (point.getValue() - meanY);
+      variance += dx * dx;
+    }
+
+    final double slope = variance == 0 ? Double.NaN : covariance / variance;
+    return new TrendLine(slope, meanY - slope * meanX, points.size());
+  }
+
+  private static double hoursSince(final Instant origin, final Instant time) {
+    return Duration.between(origin, time).toMillis() / 1000.0 / SECONDS_PER_HOUR;
+  }
+
+  public double getSlopePerHour() {
+    return slopePerHour;
+  }
+
+  /** Value at the time of the first point. */
+  public double getIntercept() {
+    return intercept;
+  }
+
+  public int getPoints() {
+    return points;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("slopePerHour", slopePerHour)
+        .add("intercept", intercept)
+        .add("points", points)
+        .toString();
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.subnet;
+
+import java.util.Optional;
+
+import com.google.common.base.MoreObjects;
+import org.testcontainers.containers.ContainerState;
+import org.testcontainers.containers.GenericContainer;
+
+/**
+ * How the test reaches the ports of a container: through the ports Docker maps onto the host, or
+ * directly at the container's subnet address and internal ports.
+ *
+ * <p>Direct access avoids the Docker proxy on every request, but requires the host to route to the
+ * subnet, as on Linux.
+ */
+public class ContainerAddressing {
+
+  private static final ContainerAddressing MAPPED_PORTS = new ContainerAddressing(Optional.empty());
+
+  private final Optional<SubnetAddress> ipAddress;
+
+  private ContainerAddressing(final Optional<SubnetAddress> ipAddress) {
+    this.ipAddress = ipAddress;
+  }
+
+  public static ContainerAddressing mappedPorts() {
+    return MAPPED_PORTS;
+  }
+
+  public static ContainerAddressing direct(final SubnetAddress ipAddress) {
+    return new ContainerAddressing(Optional.of(ipAddress));
+  }
+
+  public static ContainerAddressing of(final boolean direct, final SubnetAddress ipAddress) {
+    return direct ? direct(ipAddress) : mappedPorts();
+  }
+
+  public boolean isDirect() {
+    return ipAddress.isPresent();
+  }
+
+  /** With direct access, no ports are published on the host when the container is created. */
+  public void configure(final GenericContainer<?> container) {
+    if (isDirect()) {
+      container.withCreateContainerCmdModifier(
+          cmd -> cmd.getHostConfig().withPublishAllPorts(false));
+    }
+  }
+
+  public String host(final ContainerState container) {
+    return ipAddress.map(SubnetAddress::get).orElseGet(container::getHost);
+  }
+
+  public int port(final ContainerState container, final int containerPort) {
+    return isDirect() ? containerPort : container.getMappedPort(containerPort);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("ipAddress", ipAddress.map(SubnetAddress::get))
+        .toString();
+  }
+}
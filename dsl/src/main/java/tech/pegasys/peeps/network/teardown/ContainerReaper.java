@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.teardown;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testcontainers.DockerClientFactory;
+
+/**
+ * Kills and removes containers in the background, so a test need not wait on their graceful
+ * shutdown.
+ *
+ * <p>Before the JVM exits, any teardown still in progress is waited on, so no container outlives
+ * the tests. Shutdown hooks run concurrently in no set order, so work that may start a teardown on
+ * exit, e.g. closing a network, is registered with {@link #beforeExit(Runnable)} to run first, and
+ * removed with {@link #removeBeforeExit(Runnable)} once no longer needed.
+ */
+public class ContainerReaper {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final int CONCURRENCY = 4;
+  private static final Duration EXIT_TIMEOUT = Duration.ofMinutes(2);
+
+  private static final ContainerReaper INSTANCE = withShutdownHook();
+
+  private final DockerClient docker;
+  private final Queue<Runnable> exitActions = new ConcurrentLinkedQueue<>();
+  private final ExecutorService executor =
+      Executors.newFixedThreadPool(
+          CONCURRENCY,
+          new ThreadFactoryBuilder().setNameFormat("container-reaper-%d").setDaemon(true).build());
+  private final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+
+  ContainerReaper(final DockerClient docker) {
+    this.docker = docker;
+  }
+
+  private static ContainerReaper withShutdownHook() {
+    final ContainerReaper reaper = new ContainerReaper(DockerClientFactory.lazyClient());
+    Runtime.getRuntime().addShutdownHook(new Thread(reaper::exit, "container-reaper-shutdown"));
+    return reaper;
+  }
+
+  /** Reaper shared by every network in the JVM. */
+  public static ContainerReaper instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Runs the action when the JVM exits, before waiting on the teardowns in progress, so any
+   * teardown the action starts is waited on too.
+   */
+  public void beforeExit(final Runnable action) {
+    exitActions.add(action);
+  }
+
+  /** Removes an action registered to run on exit, so it is neither run nor held any longer. */
+  public void removeBeforeExit(final Runnable action) {
+    exitActions.remove(action);
+  }
+
+  /**
+   * Removes the containers, killing any running, then runs the actions depending on their removal,
+   * e.g. removing their Docker network. Returns immediately.
+   *
+   * @param containerIds containers to kill and remove, with their volumes.
+   * @param afterwards run once every container is removed, whether or not removal succeeded.
+   * @return completes when the containers are removed and the actions have run.
+   */
+  public CompletableFuture<Void> reap(
+      final Collection<String> containerIds, final Runnable... afterwards) {
+    final List<CompletableFuture<Void>> removals =
+        containerIds.stream()
+            .map(id -> CompletableFuture.runAsync(() -> remove(id), executor))
+            .collect(Collectors.toList());
+
+    final CompletableFuture<Void> teardown =
+        CompletableFuture.allOf(removals.toArray(new CompletableFuture<?>[0]))
+            .handle((ignored, error) -> null)
+            .thenRunAsync(() -> runAll(afterwards), executor);
+
+    pending.add(teardown);
+    teardown.whenComplete((ignored, error) -> pending.remove(teardown));
+    return teardown;
+  }
+
+  private void remove(final String containerId) {
+    try {
+      docker.removeContainerCmd(containerId).withForce(true).withRemoveVolumes(true).exec();
+    } catch (final NotFoundException e) {
+      // Already removed
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to remove container {}: {}", containerId, e.getMessage());
+    }
+  }
+
+  private void runAll(final Runnable... actions) {
+    for (final Runnable action : actions) {
+      try {
+        action.run();
+      } catch (final RuntimeException e) {
+        LOG.warn("Failed teardown action: {}", e.getMessage());
+      }
+    }
+  }
+
+  void exit() {
+    runAll(exitActions.toArray(new Runnable[0]));
+    awaitPending(EXIT_TIMEOUT);
+  }
+
+  void awaitPending(final Duration timeout) {
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    LOG.info("Awaiting {} container teardowns before exit", pending.size());
+    try {
+      CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+          .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException | TimeoutException e) {
+      LOG.warn("Container teardown incomplete at exit: {}", e.getMessage());
+    }
+  }
+}
@@ -14,55 +14,71 @@ package tech.pegasys.peeps.node;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import tech.pegasys.peeps.image.ImageManager;
+import tech.pegasys.peeps.network.jfr.FlightRecording;
 import tech.pegasys.peeps.node.rpc.BesuQbftRpcClient;
 import tech.pegasys.peeps.node.rpc.QbftRpc;
 import tech.pegasys.peeps.util.DockerLogs;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.Duration;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.List;
+import java.util.Optional;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Lists;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.testcontainers.containers.BindMode;
 import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.strategy.HttpWaitStrategy;
-import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.utility.MountableFile;
 
 public class Besu extends Web3Provider {
 
   private static final Logger LOG = LogManager.getLogger();
 
-  private static final String AM_I_ALIVE_ENDPOINT = "/liveness";
-  private static final int ALIVE_STATUS_CODE = 200;
+  private static final String METRICS_PATH = "/metrics";
 
   private static final String IMAGE_NAME = "hyperledger/besu:%s";
   private static final String IMAGE_VERSION = "23.4.0"; // fix besu version
   private static final String CONTAINER_GENESIS_FILE = "/etc/besu/genesis.json";
   private static final String CONTAINER_STATIC_NODES_FILE = "/opt/besu/static-nodes.json";
+  private static final String CONTAINER_DATA_DIRECTORY = "/opt/besu/database";
   private static final String CONTAINER_PRIVACY_PUBLIC_KEY_FILE =
       "/etc/besu/privacy_public_key.pub";
   private static final String CONTAINER_NODE_PRIVATE_KEY_FILE = "/etc/besu/keys/node.priv";
   private static final String CONTAINER_PRIVACY_SIGNING_PRIVATE_KEY_FILE =
       "/etc/besu/keys/pmt_signing.priv";
+  private static final String CONTAINER_FLIGHT_RECORDING_DIRECTORY = "/opt/besu/jfr";
+  private static final int GRACEFUL_STOP_TIMEOUT_SECONDS = 30;
   private static final String DATA_STORAGE_FORMAT="FOREST"; // Bonsai cannot be enabled with privacy
 
+  private final Optional<FlightRecording> flightRecording;
+  private final Optional<Path> flightRecordingMount;
+  private int flightRecordingsCollected;
+
   public Besu(final Web3ProviderConfiguration config) {
     super(
         config,
-        new GenericContainer<>(String.format(IMAGE_NAME, config.getImageVersion().
-                equalsIgnoreCase("develop") ? IMAGE_VERSION : config.getImageVersion()))
-            .withImagePullPolicy(new LocalAgeBasedPullPolicy(Duration.ofHours(1))));
+        ImageManager.instance()
+            .container(
+                String.format(
+                    IMAGE_NAME,
+                    config.getImageVersion().equalsIgnoreCase("develop")
+                        ? IMAGE_VERSION
+                        : config.getImageVersion())));
     final List<String> commandLineOptions = standardCommandLineOptions();
 
     addPeerToPeerHost(config, commandLineOptions);
@@ -76,12 +92,20 @@ public class Besu extends Web3Provider {
     addStaticNodesFile(config, container);
     commandLineOptions.addAll(List.of("--network-id", "15"));
 
+    if (config.isMetricsEnabled()) {
+      addMetrics(commandLineOptions);
+    }
+
+    this.flightRecording = config.getFlightRecording();
+    this.flightRecordingMount =
+        flightRecording.map(recording -> addFlightRecording(recording, config, container));
+
     if (config.isPrivacyEnabled()) {
       addPrivacy(config, commandLineOptions, container);
     }
 
     LOG.info("Besu command line: {}", commandLineOptions);
-    container.withCommand(commandLineOptions.toArray(new String[0])).waitingFor(liveliness());
+    container.withCommand(commandLineOptions.toArray(new String[0]));
   }
 
   private void addMinGasPrice(
@@ -90,6 +114,38 @@ public class Besu extends Web3Provider {
     commandLineOptions.add(config.getMinGasPrice().toString());
   }
 
+  /** The flight recording directory, deleted when last stopped, is recreated for a restart. */
+  @Override
+  public void start() {
+    flightRecordingMount.ifPresent(this::createFlightRecordingMount);
+    super.start();
+  }
+
+  /** With flight recording, the JVM exits gracefully to write its recording before collection. */
+  @Override
+  public void stop() {
+    if (flightRecording.isPresent()) {
+      stopGracefully();
+    }
+
+    super.stop();
+
+    flightRecording.ifPresent(this::collectFlightRecording);
+  }
+
+  /**
+   * A flight recording is only written on a graceful stop, so is stopped rather than released,
+   * concurrently with releasing the other members.
+   */
+  @Override
+  public Optional<String> release() {
+    if (flightRecording.isPresent()) {
+      stop();
+      return Optional.empty();
+    }
+    return super.release();
+  }
+
   @Override
   protected QbftRpc qbftRpc(final Web3ProviderConfiguration config) {
     return new BesuQbftRpcClient(jsonRpcClient);
@@ -100,6 +156,21 @@ public class Besu extends Web3Provider {
     return DockerLogs.format("Besu", container);
   }
 
+  @Override
+  public Web3ProviderType type() {
+    return Web3ProviderType.BESU;
+  }
+
+  @Override
+  protected String metricsPath() {
+    return METRICS_PATH;
+  }
+
+  @Override
+  protected String dataDirectory() {
+    return CONTAINER_DATA_DIRECTORY;
+  }
+
   @Override
   public void setQBFTValidatorSmartContractTransition(
       final BigInteger blockNumber, final String contractAddress) {
@@ -128,12 +199,6 @@ public class Besu extends Web3Provider {
     }
   }
 
-  private HttpWaitStrategy liveliness() {
-    return Wait.forHttp(AM_I_ALIVE_ENDPOINT)
-        .forStatusCode(ALIVE_STATUS_CODE)
-        .forPort(CONTAINER_HTTP_RPC_PORT);
-  }
-
   private List<String> standardCommandLineOptions() {
     return Lists.newArrayList(
         "--logging",
@@ -239,6 +304,106 @@ public class Besu extends Web3Provider {
         BindMode.READ_ONLY);
   }
 
+  private void addMetrics(final List<String> commandLineOptions) {
+    commandLineOptions.add("--metrics-enabled");
+    commandLineOptions.add("--metrics-host");
+    commandLineOptions.add("0.0.0.0");
+    commandLineOptions.add("--metrics-port");
+    commandLineOptions.add(String.valueOf(CONTAINER_METRICS_PORT));
+  }
+
+  private Path addFlightRecording(
+      final FlightRecording recording,
+      final Web3ProviderConfiguration config,
+      final GenericContainer<?> container) {
+    final Path mount;
+    try {
+      mount = Files.createTempDirectory("peeps-jfr");
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to create the flight recording directory", e);
+    }
+    createFlightRecordingMount(mount);
+
+    container
+        .withFileSystemBind(
+            mount.toString(), CONTAINER_FLIGHT_RECORDING_DIRECTORY, BindMode.READ_WRITE)
+        .withEnv(
+            "JAVA_OPTS",
+            String.format(
+                "-XX:StartFlightRecording=settings=profile,dumponexit=true,filename=%s/%s",
+                CONTAINER_FLIGHT_RECORDING_DIRECTORY,
+                recording.fileName(config.getIdentity())));
+    return mount;
+  }
+
+  private void stopGracefully() {
+    if (container == null || !container.isRunning()) {
+      return;
+    }
+
+    try {
+      container
+          .getDockerClient()
+          .stopContainerCmd(container.getContainerId())
+          .withTimeout(GRACEFUL_STOP_TIMEOUT_SECONDS)
+          .exec();
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to gracefully stop {}: {}", identity(), e.getMessage());
+    }
+  }
+
+  private void createFlightRecordingMount(final Path mount) {
+    try {
+      Files.createDirectories(mount);
+      // The Besu image runs as a non-root user, that must be able to write the recording
+      Files.setPosixFilePermissions(mount, PosixFilePermissions.fromString("rwxrwxrwx"));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to create the flight recording directory", e);
+    }
+  }
+
+  /**
+   * Copies the recording out of the bind mounted directory, which is then deleted. Each run of the
+   * node after the first has its recording collected under its own name, e.g. after a restart.
+   */
+  private void collectFlightRecording(final FlightRecording recording) {
+    final Path mount = flightRecordingMount.orElseThrow();
+    if (!Files.isDirectory(mount)) {
+      // Not started again since the last recording was collected
+      return;
+    }
+
+    flightRecordingsCollected++;
+    final Path written = mount.resolve(recording.fileName(identity()));
+    final Path collected =
+        recording.file(
+            flightRecordingsCollected == 1
+                ? identity()
+                : identity() + "-" + flightRecordingsCollected);
+
+    try {
+      if (Files.exists(written)) {
+        Files.createDirectories(collected.toAbsolutePath().getParent());
+        Files.copy(written, collected, StandardCopyOption.REPLACE_EXISTING);
+        LOG.info("Flight recording of {} collected to {}", identity(), collected);
+      } else {
+        LOG.warn("No flight recording was written by {}", identity());
+      }
+    } catch (final IOException e) {
+      LOG.warn("Failed to collect the flight recording of {}: {}", identity(), e.getMessage());
+    } finally {
+      deleteFlightRecordingMount(mount);
+    }
+  }
+
+  private void deleteFlightRecordingMount(final Path mount) {
+    try {
+      MoreFiles.deleteRecursively(mount, RecursiveDeleteOption.ALLOW_INSECURE);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete flight recording directory {}: {}", mount, e.getMessage());
+    }
+  }
+
   private void addDataStorageTypeHost(final List<String> commandLineOptions) {
     commandLineOptions.add("--data-storage-format");
     commandLineOptions.add(DATA_STORAGE_FORMAT);
@@ -12,6 +12,7 @@
  */
 package tech.pegasys.peeps.node;
 
+import tech.pegasys.peeps.image.ImageManager;
 import tech.pegasys.peeps.node.rpc.QbftRpc;
 import tech.pegasys.peeps.node.rpc.QuorumQbftRpcClient;
 import tech.pegasys.peeps.util.DockerLogs;
@@ -20,7 +21,6 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.time.Duration;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -33,8 +33,6 @@ import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.testcontainers.containers.BindMode;
 import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
-import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.utility.MountableFile;
 
 public class GoQuorum extends Web3Provider {
@@ -46,14 +44,16 @@ public class GoQuorum extends Web3Provider {
   private static final String CONTAINER_STATIC_NODES_FILE = "/eth/geth/static-nodes.json";
   private static final String CONTAINER_NODE_PRIVATE_KEY_FILE = "/etc/keys/node.priv";
   private static final String DATA_DIR = "/eth";
+  private static final String CONTAINER_DATA_DIRECTORY = DATA_DIR + "/geth";
   private static final String KEYSTORE_DIR = "/eth/keystore/";
   private static final String CONTAINER_PASSWORD_FILE = KEYSTORE_DIR + "password";
+  private static final String METRICS_PATH = "/debug/metrics/prometheus";
 
   public GoQuorum(final Web3ProviderConfiguration config) {
     super(
         config,
-        new GenericContainer<>(String.format(IMAGE_NAME, config.getImageVersion()))
-            .withImagePullPolicy(new LocalAgeBasedPullPolicy(Duration.ofHours(1))));
+        ImageManager.instance()
+            .container(String.format(IMAGE_NAME, config.getImageVersion())));
 
     final List<String> commandLineOptions = standardCommandLineOptions();
     addCorsOrigins(config, commandLineOptions);
@@ -71,6 +71,10 @@ public class GoQuorum extends Web3Provider {
         MountableFile.forHostPath(config.getGenesisFile()), CONTAINER_GENESIS_FILE);
     addMinGasPrice(config, commandLineOptions);
 
+    if (config.isMetricsEnabled()) {
+      addMetrics(commandLineOptions);
+    }
+
     final List<String> entryPoint = Lists.newArrayList("/bin/sh", "-c");
     final String initCmd =
         "mkdir -p '"
@@ -98,9 +102,7 @@ public class GoQuorum extends Web3Provider {
 
     entryPoint.add(goCommandLine);
 
-    container
-        .withCreateContainerCmdModifier(cmd -> cmd.withEntrypoint(entryPoint))
-        .waitingFor(liveliness());
+    container.withCreateContainerCmdModifier(cmd -> cmd.withEntrypoint(entryPoint));
   }
 
   @Override
@@ -108,6 +110,21 @@ public class GoQuorum extends Web3Provider {
     return DockerLogs.format("GoQuorum", container);
   }
 
+  @Override
+  public Web3ProviderType type() {
+    return Web3ProviderType.GOQUORUM;
+  }
+
+  @Override
+  protected String metricsPath() {
+    return METRICS_PATH;
+  }
+
+  @Override
+  protected String dataDirectory() {
+    return CONTAINER_DATA_DIRECTORY;
+  }
+
   @Override
   public void setQBFTValidatorSmartContractTransition(
       final BigInteger blockNumber, final String contractAddress) {
@@ -148,8 +165,14 @@ public class GoQuorum extends Web3Provider {
     return new QuorumQbftRpcClient(jsonRpcClient);
   }
 
-  private AbstractWaitStrategy liveliness() {
-    return Wait.forLogMessage(".*endpoint=0.0.0.0:8545.*", 1);
+  private void addMetrics(final List<String> commandLineOptions) {
+    commandLineOptions.addAll(
+        List.of(
+            "--metrics",
+            "--metrics.addr",
+            "\"0.0.0.0\"",
+            "--metrics.port",
+            String.valueOf(CONTAINER_METRICS_PORT)));
   }
 
   private List<String> standardCommandLineOptions() {
@@ -168,6 +191,10 @@ public class GoQuorum extends Web3Provider {
         "--http.api",
         "admin,debug,web3,eth,txpool,personal,clique,miner,net,istanbul",
         "--ws",
+        "--ws.addr",
+        "\"0.0.0.0\"",
+        "--ws.port",
+        "8546",
         // TODO: put back when [Upgrade] Go-Ethereum release v1.10.2 #1391 is merged
         // "--log.debug",
         "--nodiscover",
@@ -35,9 +35,8 @@ public class NodeVerify {
 
   public void blockRewardsAreTransferredToValidators(
       final int startBlockNumber, final int endBlockNumber, final Wei blockReward) {
-    for (long blockNumber = startBlockNumber; blockNumber < endBlockNumber; blockNumber++) {
-      node.verifyBlockRewardsAreTransferredToValidatorAtBlock(blockNumber, blockReward);
-    }
+    node.verifyBlockRewardsAreTransferredToValidators(
+        startBlockNumber, endBlockNumber, blockReward);
   }
 
   public void blockRewardsAreTransferredToMiningBeneficiary(
@@ -45,10 +44,8 @@ public class NodeVerify {
       final int endBlockNumber,
       final Wei blockReward,
       final Address miningBeneficiary) {
-    for (long blockNumber = startBlockNumber; blockNumber < endBlockNumber; blockNumber++) {
-      node.verifyBlockRewardsAreTransferredToMiningBeneficiary(
-          blockNumber, blockReward, miningBeneficiary);
-    }
+    node.verifyBlockRewardsAreTransferredToMiningBeneficiary(
+        startBlockNumber, endBlockNumber, blockReward, miningBeneficiary);
   }
 
   public void gasRewardsAreTransferredToMiningBeneficiary(
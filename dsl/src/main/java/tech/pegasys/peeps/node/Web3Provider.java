@@ -17,34 +17,52 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.peeps.util.Await.await;
 import static tech.pegasys.peeps.util.HexFormatter.removeAnyHexPrefix;
 
+import tech.pegasys.peeps.json.Json;
 import tech.pegasys.peeps.json.rpc.JsonRpcClient;
-import tech.pegasys.peeps.network.NetworkMember;
+import tech.pegasys.peeps.json.rpc.RpcStatistics;
+import tech.pegasys.peeps.json.rpc.Web3jJsonRpcService;
+import tech.pegasys.peeps.network.ContainerMember;
+import tech.pegasys.peeps.network.subnet.ContainerAddressing;
 import tech.pegasys.peeps.network.subnet.SubnetAddress;
 import tech.pegasys.peeps.node.model.EnodeHelpers;
 import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.model.TransactionReceipt;
+import tech.pegasys.peeps.node.production.BlockProductionCollector;
+import tech.pegasys.peeps.node.production.BlockProductionStatistics;
 import tech.pegasys.peeps.node.rpc.QbftRpc;
 import tech.pegasys.peeps.node.rpc.admin.NodeInfo;
+import tech.pegasys.peeps.node.rpc.admin.NodeInfoResponse;
 import tech.pegasys.peeps.node.verification.AccountValue;
+import tech.pegasys.peeps.node.verification.BlockRewardVerifier;
 import tech.pegasys.peeps.node.verification.NodeValueTransition;
 import tech.pegasys.peeps.signer.rpc.SignerRpcClient;
 import tech.pegasys.peeps.signer.rpc.SignerRpcMandatoryResponse;
 import tech.pegasys.peeps.util.AddressConverter;
+import tech.pegasys.peeps.util.ContainerStats;
+import tech.pegasys.peeps.util.ContainerStatsStream;
+import tech.pegasys.peeps.util.DockerStats;
+import tech.pegasys.peeps.util.Readiness;
 
 import java.io.File;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.google.common.net.HostAndPort;
+import io.vertx.core.buffer.Buffer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -53,15 +71,15 @@ import org.apache.tuweni.units.ethereum.Wei;
 import org.testcontainers.containers.GenericContainer;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameter;
-import org.web3j.protocol.http.HttpService;
 
-public abstract class Web3Provider implements NetworkMember {
+public abstract class Web3Provider implements ContainerMember {
 
   private static final Logger LOG = LogManager.getLogger();
 
   public static final int CONTAINER_HTTP_RPC_PORT = 8545;
   public static final int CONTAINER_WS_RPC_PORT = 8546;
   public static final int CONTAINER_P2P_PORT = 30303;
+  public static final int CONTAINER_METRICS_PORT = 9545;
 
   protected final SignerRpcMandatoryResponse signerRpcResponse;
   protected final JsonRpcClient jsonRpcClient;
@@ -72,15 +90,27 @@ public abstract class Web3Provider implements NetworkMember {
   private final String identity;
   private final String enodeAddress;
   private final String pubKey;
+  private final boolean metricsEnabled;
+  private final ContainerAddressing addressing;
+  private final Readiness readiness;
 
   private String nodeId;
   private String enodeId;
   private Web3j web3j;
 
   public Web3Provider(final Web3ProviderConfiguration config, final GenericContainer<?> container) {
-    this.container = container.withLabel("name", config.getIdentity());
+    this.addressing = ContainerAddressing.of(config.isDirectAccess(), config.getIpAddress());
+    this.readiness =
+        Readiness.jsonRpc(CONTAINER_HTTP_RPC_PORT, "admin_nodeInfo").withAddressing(addressing);
+    this.container = container.withLabel("name", config.getIdentity()).waitingFor(readiness);
+    addressing.configure(container);
     this.jsonRpcClient =
-        new JsonRpcClient(config.getVertx(), Duration.ofSeconds(10), LOG, dockerLogs());
+        new JsonRpcClient(
+            config.getVertx(),
+            Duration.ofSeconds(10),
+            LOG,
+            dockerLogs(),
+            config.isRpcSingleFlight());
     final SignerRpcClient signerRpcClient =
         new SignerRpcClient(jsonRpcClient, qbftRpc(config), config.getMinGasPrice());
     this.signerRpcResponse = new SignerRpcMandatoryResponse(signerRpcClient);
@@ -90,6 +120,11 @@ public abstract class Web3Provider implements NetworkMember {
     this.pubKey = removeAnyHexPrefix(config.getNodeKeys().publicKey().toHexString());
     this.enodeAddress = enodeAddress(config);
     this.genesisFile = config.getGenesisFile().toFile();
+    this.metricsEnabled = config.isMetricsEnabled();
+
+    if (metricsEnabled) {
+      container.addExposedPort(CONTAINER_METRICS_PORT);
+    }
   }
 
   protected abstract QbftRpc qbftRpc(final Web3ProviderConfiguration config);
@@ -109,18 +144,12 @@ public abstract class Web3Provider implements NetworkMember {
 
       jsonRpcClient.bind(
           container.getContainerId(),
-          container.getContainerIpAddress(),
-          container.getMappedPort(CONTAINER_HTTP_RPC_PORT));
+          addressing.host(container),
+          addressing.port(container, CONTAINER_HTTP_RPC_PORT));
 
-      web3j =
-          Web3j.build(
-              new HttpService(
-                  "http://"
-                      + container.getContainerIpAddress()
-                      + ":"
-                      + container.getMappedPort(CONTAINER_HTTP_RPC_PORT)));
+      web3j = Web3j.build(new Web3jJsonRpcService(jsonRpcClient));
 
-      final NodeInfo info = signerRpcResponse.nodeInfo();
+      final NodeInfo info = readyNodeInfo();
       nodeId = info.getId();
 
       // TODO enode must match enodeAddress - otherwise error
@@ -149,6 +178,19 @@ public abstract class Web3Provider implements NetworkMember {
     }
   }
 
+  @Override
+  public Optional<String> release() {
+    if (jsonRpcClient != null) {
+      jsonRpcClient.close();
+    }
+    return Optional.ofNullable(container.getContainerId());
+  }
+
+  @Override
+  public ContainerStatsStream statsStream(final Consumer<ContainerStats> listener) {
+    return new ContainerStatsStream(container, listener);
+  }
+
   public SubnetAddress ipAddress() {
     return ipAddress;
   }
@@ -171,6 +213,11 @@ public abstract class Web3Provider implements NetworkMember {
     return identity;
   }
 
+  @Override
+  public String imageName() {
+    return container.getDockerImageName();
+  }
+
   public int httpRpcPort() {
     return CONTAINER_HTTP_RPC_PORT;
   }
@@ -179,6 +226,27 @@ public abstract class Web3Provider implements NetworkMember {
     return CONTAINER_P2P_PORT;
   }
 
+  /** Host and port on which the test can reach the node's WebSocket JSON-RPC endpoint. */
+  public HostAndPort wsRpcEndpoint() {
+    return HostAndPort.fromParts(
+        addressing.host(container), addressing.port(container, CONTAINER_WS_RPC_PORT));
+  }
+
+  /** URL from which the test can scrape the node's Prometheus metrics, when enabled. */
+  public Optional<URI> metricsEndpoint() {
+    if (!metricsEnabled) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        URI.create(
+            String.format(
+                "http://%s:%d%s",
+                addressing.host(container),
+                addressing.port(container, CONTAINER_METRICS_PORT),
+                metricsPath())));
+  }
+
   public Address address() {
     return AddressConverter.fromPublicKey(pubKey);
   }
@@ -187,6 +255,30 @@ public abstract class Web3Provider implements NetworkMember {
     return web3j;
   }
 
+  /** Statistics of all JSON-RPC calls made to the node, including those made through web3j. */
+  public RpcStatistics rpcStatistics() {
+    return jsonRpcClient.statistics();
+  }
+
+  /** Block production statistics for the blocks in the range [start, end). */
+  public BlockProductionStatistics blockProduction(final long startBlock, final long endBlock) {
+    return new BlockProductionCollector(web3j).collect(startBlock, endBlock);
+  }
+
+  /**
+   * Collects block production statistics in the background as the node imports new blocks.
+   *
+   * @param startBlock first block to collect.
+   * @param pollInterval delay between successive polls of the chain head.
+   * @return collector providing the statistics so far, that must be closed to stop collection.
+   */
+  public BlockProductionCollector followBlockProduction(
+      final long startBlock, final Duration pollInterval) {
+    final BlockProductionCollector collector = new BlockProductionCollector(web3j);
+    collector.follow(startBlock, pollInterval);
+    return collector;
+  }
+
   public void awaitConnectivity(final Collection<Web3Provider> peers) {
     awaitPeerIdConnections(excludeSelf(expectedEnodes(peers)));
   }
@@ -234,6 +326,27 @@ public abstract class Web3Provider implements NetworkMember {
 
   public abstract String getLogs();
 
+  public abstract Web3ProviderType type();
+
+  /** Path of the node's Prometheus metrics endpoint. */
+  protected abstract String metricsPath();
+
+  /** Directory within the container holding the chain data. */
+  protected abstract String dataDirectory();
+
+  /** Resource usage of the node container, from the Docker stats API. */
+  public ContainerStats containerStats(final Duration timeout) {
+    return DockerStats.sample(container, timeout);
+  }
+
+  public OptionalLong openFileDescriptors() {
+    return DockerStats.openFileDescriptors(container);
+  }
+
+  public OptionalLong dataDirectorySize() {
+    return DockerStats.directorySize(container, dataDirectory());
+  }
+
   public SignerRpcMandatoryResponse rpc() {
     return signerRpcResponse;
   }
@@ -249,12 +362,30 @@ public abstract class Web3Provider implements NetworkMember {
     assertThat(receipt.isSuccess()).isTrue();
   }
 
+  /** Node info from the call that found the node ready, sparing a further admin_nodeInfo. */
+  private NodeInfo readyNodeInfo() {
+    readiness.latency().ifPresent(latency -> LOG.info("{} ready after {}", identity, latency));
+
+    return readiness
+        .response()
+        .map(body -> Json.decode(Buffer.buffer(body), NodeInfoResponse.class).getResult())
+        .orElseGet(signerRpcResponse::nodeInfo);
+  }
+
   private String enodeAddress(final Web3ProviderConfiguration config) {
     return String.format(
         "enode://%s@%s:%d", pubKey, config.getIpAddress().get(), CONTAINER_P2P_PORT);
   }
 
   private void logPortMappings() {
+    if (addressing.isDirect()) {
+      LOG.info(
+          "Web3Provider Container: {}, addressed directly at {}",
+          container.getContainerId(),
+          ipAddress.get());
+      return;
+    }
+
     LOG.info(
         "Web3Provider Container: {}, HTTP RPC port mapping: {} -> {}, WS RPC port mapping: {} -> {}, p2p port mapping: {} -> {}",
         container.getContainerId(),
@@ -331,55 +462,20 @@ public abstract class Web3Provider implements NetworkMember {
     }
   }
 
-  public void verifyBlockRewardsAreTransferredToValidatorAtBlock(
-      final long blockNumber, final Wei blockReward) {
-
-    try {
-      var minedBlock = DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber));
-
-      var validator = web3j.ethGetBlockByNumber(minedBlock, true).send().getBlock().getMiner();
-
-      var previousBalance =
-          web3j
-              .ethGetBalance(
-                  validator, DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber - 1)))
-              .send()
-              .getBalance();
-      var minedBalance = web3j.ethGetBalance(validator, minedBlock).send().getBalance();
-
-      assertThat(minedBalance.subtract(previousBalance).longValue())
-          .isEqualTo(blockReward.toLong());
-
-    } catch (IOException e) {
-      throw new AssertionError("Could not verify block rewards");
-    }
+  public void verifyBlockRewardsAreTransferredToValidators(
+      final long startBlockNumber, final long endBlockNumber, final Wei blockReward) {
+    new BlockRewardVerifier(web3j)
+        .validatorsRewarded(startBlockNumber, endBlockNumber, blockReward);
   }
 
   public void verifyBlockRewardsAreTransferredToMiningBeneficiary(
-      final long blockNumber, final Wei blockReward, final Address miningBeneficiary) {
-    try {
-      var minedBlock = DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber));
-
-      var validator = web3j.ethGetBlockByNumber(minedBlock, true).send().getBlock().getMiner();
-
-      assertThat(validator).isNotEqualTo(miningBeneficiary.toHexString());
-
-      var previousBalance =
-          web3j
-              .ethGetBalance(
-                  miningBeneficiary.toHexString(),
-                  DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber - 1)))
-              .send()
-              .getBalance();
-      var minedBalance =
-          web3j.ethGetBalance(miningBeneficiary.toHexString(), minedBlock).send().getBalance();
-
-      assertThat(minedBalance.subtract(previousBalance).longValue())
-          .isEqualTo(blockReward.toLong());
-
-    } catch (IOException e) {
-      throw new AssertionError("Could not verify block rewards for mining beneficiary");
-    }
+      final long startBlockNumber,
+      final long endBlockNumber,
+      final Wei blockReward,
+      final Address miningBeneficiary) {
+    new BlockRewardVerifier(web3j)
+        .miningBeneficiaryRewarded(
+            startBlockNumber, endBlockNumber, blockReward, miningBeneficiary);
   }
 
   public void verifyGasRewardsAreTransferredToMiningBeneficiary(
@@ -12,6 +12,7 @@
  */
 package tech.pegasys.peeps.node;
 
+import tech.pegasys.peeps.network.jfr.FlightRecording;
 import tech.pegasys.peeps.network.subnet.SubnetAddress;
 import tech.pegasys.peeps.signer.SignerConfiguration;
 
@@ -42,6 +43,10 @@ public class Web3ProviderConfiguration {
   private final SubnetAddress ipAddress;
   private final Vertx vertx;
   private Wei minGasPrice = Wei.valueOf(0);
+  private final boolean rpcSingleFlight;
+  private final boolean metricsEnabled;
+  private final boolean directAccess;
+  private final Optional<FlightRecording> flightRecording;
 
   public Web3ProviderConfiguration(
       final Path genesisFile,
@@ -58,7 +63,11 @@ public class Web3ProviderConfiguration {
       final SignerConfiguration wallet,
       final Path staticNodesFile,
       final String imageVersion,
-      final Wei minGasPrice) {
+      final Wei minGasPrice,
+      final boolean rpcSingleFlight,
+      final boolean metricsEnabled,
+      final boolean directAccess,
+      final FlightRecording flightRecording) {
     this.genesisFile = genesisFile;
     this.enclavePublicKeyResource = privacyManagerPublicKeyResource;
     this.privacyMarkerSigningPrivateKeyFile = privacyMarkerSigningPrivateKeyFile;
@@ -74,6 +83,10 @@ public class Web3ProviderConfiguration {
     this.staticNodesFile = staticNodesFile;
     this.imageVersion = imageVersion;
     this.minGasPrice = minGasPrice;
+    this.rpcSingleFlight = rpcSingleFlight;
+    this.metricsEnabled = metricsEnabled;
+    this.directAccess = directAccess;
+    this.flightRecording = Optional.ofNullable(flightRecording);
   }
 
   public Path getGenesisFile() {
@@ -140,4 +153,20 @@ public class Web3ProviderConfiguration {
   public Wei getMinGasPrice() {
     return this.minGasPrice;
   }
+
+  public boolean isRpcSingleFlight() {
+    return rpcSingleFlight;
+  }
+
+  public boolean isMetricsEnabled() {
+    return metricsEnabled;
+  }
+
+  public boolean isDirectAccess() {
+    return directAccess;
+  }
+
+  public Optional<FlightRecording> getFlightRecording() {
+    return flightRecording;
+  }
 }
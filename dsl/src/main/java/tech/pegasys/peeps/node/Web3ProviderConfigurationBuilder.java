@@ -14,6 +14,7 @@ package tech.pegasys.peeps.node;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import tech.pegasys.peeps.network.jfr.FlightRecording;
 import tech.pegasys.peeps.network.subnet.SubnetAddress;
 import tech.pegasys.peeps.node.genesis.GenesisFile;
 import tech.pegasys.peeps.privacy.PrivateTransactionManager;
@@ -50,6 +51,10 @@ public class Web3ProviderConfigurationBuilder {
   private String imageVersion = "develop";
 
   private Wei minGasPrice = Wei.valueOf(0);
+  private boolean rpcSingleFlight;
+  private boolean metricsEnabled;
+  private boolean directAccess;
+  private FlightRecording flightRecording;
 
   public Web3ProviderConfigurationBuilder() {
     this.privacyMarkerSigningPrivateKeyFile = DEFAULT_PRIVACY_MARKER_SIGNER_PRIVATE_KEY_FILE;
@@ -129,6 +134,27 @@ public class Web3ProviderConfigurationBuilder {
     return this;
   }
 
+  public Web3ProviderConfigurationBuilder withRpcSingleFlight(final boolean rpcSingleFlight) {
+    this.rpcSingleFlight = rpcSingleFlight;
+    return this;
+  }
+
+  public Web3ProviderConfigurationBuilder withMetricsEnabled(final boolean metricsEnabled) {
+    this.metricsEnabled = metricsEnabled;
+    return this;
+  }
+
+  public Web3ProviderConfigurationBuilder withDirectAccess(final boolean directAccess) {
+    this.directAccess = directAccess;
+    return this;
+  }
+
+  public Web3ProviderConfigurationBuilder withFlightRecording(
+      final FlightRecording flightRecording) {
+    this.flightRecording = flightRecording;
+    return this;
+  }
+
   public Web3ProviderConfiguration build() {
     checkNotNull(genesisFile, "A genesis file path is mandatory");
     checkNotNull(identity, "An identity is mandatory");
@@ -153,6 +179,10 @@ public class Web3ProviderConfigurationBuilder {
         wallet,
         staticNodesFile.getStaticNodesFile(),
         imageVersion,
-        minGasPrice);
+        minGasPrice,
+        rpcSingleFlight,
+        metricsEnabled,
+        directAccess,
+        flightRecording);
   }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.bigints.UInt64;
+
+/**
+ * Header fields of a block, as reported by a node.
+ *
+ * <p>Hex encoded quantities and addresses are retained as received, only being parsed when
+ * accessed.
+ */
+@JsonDeserialize(using = BlockHeaderDeserializer.class)
+public class BlockHeader {
+
+  private final Hash hash;
+  private final Hash parentHash;
+  private final String number;
+  private final Hash stateRoot;
+  private final String miner;
+  private final String timestamp;
+  private final String gasUsed;
+  private final String gasLimit;
+
+  public BlockHeader(
+      final Hash hash,
+      final Hash parentHash,
+      final String number,
+      final Hash stateRoot,
+      final String miner,
+      final String timestamp,
+      final String gasUsed,
+      final String gasLimit) {
+    this.hash = hash;
+    this.parentHash = parentHash;
+    this.number = number;
+    this.stateRoot = stateRoot;
+    this.miner = miner;
+    this.timestamp = timestamp;
+    this.gasUsed = gasUsed;
+    this.gasLimit = gasLimit;
+  }
+
+  public Hash getHash() {
+    return hash;
+  }
+
+  public Hash getParentHash() {
+    return parentHash;
+  }
+
+  public long getNumber() {
+    return UInt64.fromHexString(number).toLong();
+  }
+
+  public Hash getStateRoot() {
+    return stateRoot;
+  }
+
+  public Address getMiner() {
+    return Address.fromHexString(miner);
+  }
+
+  /** Seconds since the epoch. */
+  public long getTimestamp() {
+    return UInt64.fromHexString(timestamp).toLong();
+  }
+
+  public long getGasUsed() {
+    return UInt64.fromHexString(gasUsed).toLong();
+  }
+
+  public long getGasLimit() {
+    return UInt64.fromHexString(gasLimit).toLong();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("number", number)
+        .add("hash", hash)
+        .add("stateRoot", stateRoot)
+        .toString();
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import tech.pegasys.peeps.json.StreamingDeserializer;
+
+import java.util.List;
+
+/** Skips the block's transactions, uncles and logs bloom. */
+public class BlockHeaderDeserializer extends StreamingDeserializer<BlockHeader> {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final List<String> MANDATORY_FIELDS =
+      List.of(
+          "hash", "parentHash", "number", "stateRoot", "miner", "timestamp", "gasUsed", "gasLimit");
+
+  public BlockHeaderDeserializer() {
+    super(BlockHeader.class, MANDATORY_FIELDS, List.of());
+  }
+
+  @Override
+  protected BlockHeader create(final FieldValues values) {
+    return new BlockHeader(
+        new Hash(values.get("hash")),
+        new Hash(values.get("parentHash")),
+        values.get("number"),
+        new Hash(values.get("stateRoot")),
+        values.get("miner"),
+        values.get("timestamp"),
+        values.get("gasUsed"),
+        values.get("gasLimit"));
+  }
+}
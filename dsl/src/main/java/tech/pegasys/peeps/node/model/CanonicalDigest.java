@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Digest over the normalised RPC fields of a model, allowing two instances to be compared by a
+ * single value instead of field by field.
+ *
+ * <p>Fields are ordered by name, with absent (null) fields omitted and hex values lower cased, so
+ * the digest is independent of field order and hex casing in the node's response. Every name and
+ * value is length prefixed, so no two different sets of fields hash the same content.
+ */
+public class CanonicalDigest {
+
+  private final SortedMap<String, List<String>> fields = new TreeMap<>();
+
+  public CanonicalDigest with(final String name, final Object value) {
+    if (value != null) {
+      fields.put(name, List.of(normalise(value)));
+    }
+    return this;
+  }
+
+  /** A field of many values, each kept distinct rather than joined into a single value. */
+  public CanonicalDigest withEach(final String name, final Object[] values) {
+    if (values != null) {
+      fields.put(
+          name, Stream.of(values).map(CanonicalDigest::normalise).collect(Collectors.toList()));
+    }
+    return this;
+  }
+
+  public Bytes32 digest() {
+    final Hasher hasher = Hashing.sha256().newHasher();
+
+    for (final Map.Entry<String, List<String>> field : fields.entrySet()) {
+      put(hasher, field.getKey());
+      hasher.putInt(field.getValue().size());
+      field.getValue().forEach(value -> put(hasher, value));
+    }
+
+    return Bytes32.wrap(hasher.hash().asBytes());
+  }
+
+  private static void put(final Hasher hasher, final String value) {
+    final byte[] bytes = value.getBytes(UTF_8);
+    hasher.putInt(bytes.length).putBytes(bytes);
+  }
+
+  private static String normalise(final Object value) {
+    return String.valueOf(value).toLowerCase(Locale.ROOT);
+  }
+}
@@ -14,9 +14,12 @@ package tech.pegasys.peeps.node.model;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import java.util.Locale;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
+/** Hex encoded hash, equal to another regardless of the case a client encoded it in. */
 public class Hash {
 
   private final String hash;
@@ -37,11 +40,11 @@ public class Hash {
 
   @Override
   public int hashCode() {
-    return hash.hashCode();
+    return hash.toLowerCase(Locale.ROOT).hashCode();
   }
 
   @Override
   public boolean equals(final Object other) {
-    return other instanceof Hash && hash.equals(((Hash) other).hash);
+    return other instanceof Hash && hash.equalsIgnoreCase(((Hash) other).hash);
   }
 }
@@ -18,6 +18,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
+import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.eth.Address;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -31,6 +32,7 @@ public class PrivacyTransactionReceipt {
   private final String status;
 
   private Address recipient;
+  private Bytes32 digest;
 
   @JsonCreator
   public PrivacyTransactionReceipt(
@@ -49,6 +51,7 @@ public class PrivacyTransactionReceipt {
   @JsonSetter("to")
   public void setRecipient(final String recipient) {
     this.recipient = Address.fromHexString(recipient);
+    this.digest = null;
   }
 
   public Address getContractAddress() {
@@ -74,4 +77,20 @@ public class PrivacyTransactionReceipt {
   public boolean isSuccess() {
     return status.contentEquals("0x1");
   }
+
+  /** Digest of the receipt fields, equal for receipts with equal content. */
+  public Bytes32 getDigest() {
+    if (digest == null) {
+      digest =
+          new CanonicalDigest()
+              .with("contractAddress", contract)
+              .with("from", sender)
+              .withEach("logs", logs)
+              .with("output", output)
+              .with("status", status)
+              .with("to", recipient)
+              .digest();
+    }
+    return digest;
+  }
 }
@@ -12,24 +12,27 @@
  */
 package tech.pegasys.peeps.node.model;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.eth.Address;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.apache.tuweni.units.ethereum.Gas;
 import org.apache.tuweni.units.ethereum.Wei;
 
-@JsonIgnoreProperties(ignoreUnknown = true)
+/**
+ * Transaction as reported by a node, either pending or processed.
+ *
+ * <p>Hex encoded quantities and addresses are retained as received, only being parsed when
+ * accessed.
+ */
+@JsonDeserialize(using = TransactionDeserializer.class)
 public class Transaction {
 
-  private final Address sender;
-  private final Gas gas;
-  private final Wei gasPrice;
-  private final Wei value;
-
   // TODO stricter typing than String
+  private final String sender;
+  private final String gas;
+  private final String gasPrice;
+  private final String value;
   private final String blockHash;
   private final String blockNumber;
   private final String hash;
@@ -39,49 +42,49 @@ public class Transaction {
   private final String r;
   private final String s;
 
-  private Address recipient;
+  private String recipient;
   private String transactionIndex;
+  private Bytes32 digest;
 
-  @JsonCreator
   public Transaction(
-      @JsonProperty("from") final String sender,
-      @JsonProperty("blockHash") final String blockHash,
-      @JsonProperty("blockNumber") final String blockNumber,
-      @JsonProperty("gas") final String gas,
-      @JsonProperty("gasPrice") final String gasPrice,
-      @JsonProperty("hash") final String hash,
-      @JsonProperty("input") final String input,
-      @JsonProperty("nonce") final String nonce,
-      @JsonProperty("value") final String value,
-      @JsonProperty("v") final String v,
-      @JsonProperty("r") final String r,
-      @JsonProperty("s") final String s) {
-    this.sender = Address.fromHexString(sender);
+      final String sender,
+      final String blockHash,
+      final String blockNumber,
+      final String gas,
+      final String gasPrice,
+      final String hash,
+      final String input,
+      final String nonce,
+      final String value,
+      final String v,
+      final String r,
+      final String s) {
+    this.sender = sender;
     this.blockHash = blockHash;
     this.blockNumber = blockNumber;
-    this.gas = Gas.valueOf(UInt256.fromHexString(gas));
-    this.gasPrice = Wei.valueOf(UInt256.fromHexString(gasPrice));
+    this.gas = gas;
+    this.gasPrice = gasPrice;
     this.hash = hash;
     this.input = input;
     this.nonce = nonce;
-    this.value = Wei.valueOf(UInt256.fromHexString(value));
+    this.value = value;
     this.v = v;
     this.r = r;
     this.s = s;
   }
 
-  @JsonSetter("to")
   public void setRecipient(final String recipient) {
-    this.recipient = recipient == null ? null : Address.fromHexString(recipient);
+    this.recipient = recipient;
+    this.digest = null;
   }
 
-  @JsonSetter("transactionIndex")
   public void setTransactionIndex(final String transactionIndex) {
     this.transactionIndex = transactionIndex;
+    this.digest = null;
   }
 
   public Address getSender() {
-    return sender;
+    return Address.fromHexString(sender);
   }
 
   public String getBlockHash() {
@@ -93,11 +96,11 @@ public class Transaction {
   }
 
   public Gas getGas() {
-    return gas;
+    return Gas.valueOf(UInt256.fromHexString(gas));
   }
 
   public Wei getGasPrice() {
-    return gasPrice;
+    return Wei.valueOf(UInt256.fromHexString(gasPrice));
   }
 
   public String getHash() {
@@ -113,7 +116,7 @@ public class Transaction {
   }
 
   public Wei getValue() {
-    return value;
+    return Wei.valueOf(UInt256.fromHexString(value));
   }
 
   public String getV() {
@@ -129,10 +132,34 @@ public class Transaction {
   }
 
   public Address getRecipient() {
-    return recipient;
+    return recipient == null ? null : Address.fromHexString(recipient);
   }
 
   public boolean isProcessed() {
     return transactionIndex != null;
   }
+
+  /** Digest of the transaction fields, equal for transactions with equal content. */
+  public Bytes32 getDigest() {
+    if (digest == null) {
+      digest =
+          new CanonicalDigest()
+              .with("blockHash", blockHash)
+              .with("blockNumber", blockNumber)
+              .with("from", sender)
+              .with("gas", gas)
+              .with("gasPrice", gasPrice)
+              .with("hash", hash)
+              .with("input", input)
+              .with("nonce", nonce)
+              .with("r", r)
+              .with("s", s)
+              .with("to", recipient)
+              .with("transactionIndex", transactionIndex)
+              .with("v", v)
+              .with("value", value)
+              .digest();
+    }
+    return digest;
+  }
 }
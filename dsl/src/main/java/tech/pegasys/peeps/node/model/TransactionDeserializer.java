@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import tech.pegasys.peeps.json.StreamingDeserializer;
+
+import java.util.List;
+
+public class TransactionDeserializer extends StreamingDeserializer<Transaction> {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final List<String> MANDATORY_FIELDS =
+      List.of(
+          "from", "blockHash", "blockNumber", "gas", "gasPrice", "hash", "input", "nonce", "value",
+          "v", "r", "s");
+  private static final List<String> OPTIONAL_FIELDS = List.of("to", "transactionIndex");
+
+  public TransactionDeserializer() {
+    super(Transaction.class, MANDATORY_FIELDS, OPTIONAL_FIELDS);
+  }
+
+  @Override
+  protected Transaction create(final FieldValues values) {
+    final Transaction transaction =
+        new Transaction(
+            values.get("from"),
+            values.get("blockHash"),
+            values.get("blockNumber"),
+            values.get("gas"),
+            values.get("gasPrice"),
+            values.get("hash"),
+            values.get("input"),
+            values.get("nonce"),
+            values.get("value"),
+            values.get("v"),
+            values.get("r"),
+            values.get("s"));
+    transaction.setRecipient(values.get("to"));
+    transaction.setTransactionIndex(values.get("transactionIndex"));
+
+    return transaction;
+  }
+}
@@ -14,21 +14,25 @@ package tech.pegasys.peeps.node.model;
 
 import java.util.Optional;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.eth.Address;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.apache.tuweni.units.ethereum.Gas;
 
-@JsonIgnoreProperties(ignoreUnknown = true)
+/**
+ * Receipt of a processed transaction.
+ *
+ * <p>Hex encoded quantities and addresses are retained as received, only being parsed when
+ * accessed.
+ */
+@JsonDeserialize(using = TransactionReceiptDeserializer.class)
 public class TransactionReceipt {
 
-  private final Address sender;
+  private final String sender;
   private final Hash blockHash;
   private final Hash transactionHash;
-  private final Gas gasUsed;
+  private final String gasUsed;
 
   // TODO stricter typing than String
   private final String blockNumber;
@@ -37,51 +41,51 @@ public class TransactionReceipt {
   private final String transactionIndex;
   private final String status;
 
-  private Address recipient;
-  private Address contract;
+  private String recipient;
+  private String contract;
+  private Bytes32 digest;
 
-  @JsonCreator
   public TransactionReceipt(
-      @JsonProperty("blockHash") final Hash blockHash,
-      @JsonProperty("blockNumber") final String blockNumber,
-      @JsonProperty("from") final String sender,
-      @JsonProperty("transactionHash") final Hash transactionHash,
-      @JsonProperty("transactionIndex") final String transactionIndex,
-      @JsonProperty("status") final String status,
-      @JsonProperty("cumulativeGasUsed") final String cumulativeGasUsed,
-      @JsonProperty("gasUsed") final String gasUsed,
-      @JsonProperty("logsBloom") final String logsBloom) {
+      final Hash blockHash,
+      final String blockNumber,
+      final String sender,
+      final Hash transactionHash,
+      final String transactionIndex,
+      final String status,
+      final String cumulativeGasUsed,
+      final String gasUsed,
+      final String logsBloom) {
     this.blockHash = blockHash;
     this.blockNumber = blockNumber;
-    this.sender = Address.fromHexString(sender);
+    this.sender = sender;
     this.transactionHash = transactionHash;
     this.transactionIndex = transactionIndex;
     this.status = status;
     this.cumulativeGasUsed = cumulativeGasUsed;
-    this.gasUsed = Gas.valueOf(UInt256.fromHexString(gasUsed));
+    this.gasUsed = gasUsed;
     this.logsBloom = logsBloom;
   }
 
-  @JsonSetter("to")
   public void setRecipient(final String recipient) {
-    this.recipient = recipient == null ? null : Address.fromHexString(recipient);
+    this.recipient = recipient;
+    this.digest = null;
   }
 
-  @JsonSetter("contractAddress")
   public void setContractAddress(final String contract) {
-    this.contract = contract == null ? null : Address.fromHexString(contract);
+    this.contract = contract;
+    this.digest = null;
   }
 
   public Optional<Address> getContractAddress() {
-    return Optional.ofNullable(contract);
+    return Optional.ofNullable(contract).map(Address::fromHexString);
   }
 
   public Address getSender() {
-    return sender;
+    return Address.fromHexString(sender);
   }
 
   public Optional<Address> getRecipient() {
-    return Optional.ofNullable(recipient);
+    return Optional.ofNullable(recipient).map(Address::fromHexString);
   }
 
   public Hash getBlockHash() {
@@ -105,7 +109,7 @@ public class TransactionReceipt {
   }
 
   public Gas getGasUsed() {
-    return gasUsed;
+    return Gas.valueOf(UInt256.fromHexString(gasUsed));
   }
 
   public String getLogsBloom() {
@@ -115,4 +119,25 @@ public class TransactionReceipt {
   public boolean isSuccess() {
     return status.contentEquals("0x1");
   }
+
+  /** Digest of the receipt fields, equal for receipts with equal content. */
+  public Bytes32 getDigest() {
+    if (digest == null) {
+      digest =
+          new CanonicalDigest()
+              .with("blockHash", blockHash)
+              .with("blockNumber", blockNumber)
+              .with("contractAddress", contract)
+              .with("cumulativeGasUsed", cumulativeGasUsed)
+              .with("from", sender)
+              .with("gasUsed", gasUsed)
+              .with("logsBloom", logsBloom)
+              .with("status", status)
+              .with("to", recipient)
+              .with("transactionHash", transactionHash)
+              .with("transactionIndex", transactionIndex)
+              .digest();
+    }
+    return digest;
+  }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import tech.pegasys.peeps.json.StreamingDeserializer;
+
+import java.util.List;
+
+/** Skips the receipt logs, which are never inspected and may be sizeable. */
+public class TransactionReceiptDeserializer extends StreamingDeserializer<TransactionReceipt> {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final List<String> MANDATORY_FIELDS =
+      List.of(
+          "blockHash",
+          "blockNumber",
+          "from",
+          "transactionHash",
+          "transactionIndex",
+          "status",
+          "cumulativeGasUsed",
+          "gasUsed",
+          "logsBloom");
+  private static final List<String> OPTIONAL_FIELDS = List.of("to", "contractAddress");
+
+  public TransactionReceiptDeserializer() {
+    super(TransactionReceipt.class, MANDATORY_FIELDS, OPTIONAL_FIELDS);
+  }
+
+  @Override
+  protected TransactionReceipt create(final FieldValues values) {
+    final TransactionReceipt receipt =
+        new TransactionReceipt(
+            new Hash(values.get("blockHash")),
+            values.get("blockNumber"),
+            values.get("from"),
+            new Hash(values.get("transactionHash")),
+            values.get("transactionIndex"),
+            values.get("status"),
+            values.get("cumulativeGasUsed"),
+            values.get("gasUsed"),
+            values.get("logsBloom"));
+    receipt.setRecipient(values.get("to"));
+    receipt.setContractAddress(values.get("contractAddress"));
+
+    return receipt;
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.production;
+
+import java.util.OptionalInt;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.rlp.RLP;
+
+/**
+ * Round in which a block was agreed, as recorded in the extra data of IBFT 2.0 and QBFT blocks.
+ *
+ * <p>Both encode their extra data as the RLP list: vanity, validators, vote, round, seals.
+ */
+public class BftRound {
+
+  private static final int ROUND_INDEX = 3;
+
+  /**
+   * Decodes the round from a block's extra data.
+   *
+   * @param extraData extra data of the block.
+   * @return the round, or empty when the extra data is not that of IBFT 2.0 or QBFT.
+   */
+  public static OptionalInt of(final Bytes extraData) {
+    try {
+      return OptionalInt.of(
+          RLP.decodeList(
+              extraData,
+              reader -> {
+                for (int field = 0; field < ROUND_INDEX; field++) {
+                  reader.skipNext();
+                }
+                return reader.readValue().toInt();
+              }));
+    } catch (final RuntimeException e) {
+      return OptionalInt.empty();
+    }
+  }
+}
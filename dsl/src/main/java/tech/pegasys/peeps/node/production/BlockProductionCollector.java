@@ -0,0 +1,166 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.production;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.Closeable;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/**
+ * Collects block production statistics from a node, either over a range of existing blocks or live
+ * as new blocks are produced.
+ *
+ * <p>Headers are fetched in batched requests of up to a segment of blocks, with the segments of a
+ * range fetched concurrently.
+ */
+public class BlockProductionCollector implements Closeable {
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final int BLOCKS_PER_SEGMENT = 100;
+
+  private final Web3j web3j;
+  private final BlockProductionStatistics followed = new BlockProductionStatistics();
+
+  private ScheduledExecutorService follower;
+  private long nextBlock;
+
+  public BlockProductionCollector(final Web3j web3j) {
+    this.web3j = web3j;
+  }
+
+  /** Statistics for the blocks in the range [start, end), all of which must already exist. */
+  public BlockProductionStatistics collect(final long startBlock, final long endBlock) {
+    checkArgument(startBlock >= 0, "Start block cannot be negative");
+    checkArgument(startBlock <= endBlock, "Start block must not be after the end block");
+
+    final List<CompletableFuture<List<BlockSample>>> segments = new ArrayList<>();
+    for (long segmentStart = startBlock;
+        segmentStart < endBlock;
+        segmentStart += BLOCKS_PER_SEGMENT) {
+      segments.add(segment(segmentStart, Math.min(segmentStart + BLOCKS_PER_SEGMENT, endBlock)));
+    }
+
+    final BlockProductionStatistics statistics = new BlockProductionStatistics();
+    try {
+      segments.stream().map(CompletableFuture::join).forEach(statistics::addAll);
+    } catch (final CompletionException e) {
+      throw new IllegalStateException("Failed to collect block production", e.getCause());
+    }
+
+    return statistics;
+  }
+
+  /**
+   * Polls the node in the background, collecting every new block from the given block onwards.
+   *
+   * @param startBlock first block to collect.
+   * @param pollInterval delay between successive polls of the chain head.
+   */
+  public synchronized void follow(final long startBlock, final Duration pollInterval) {
+    checkState(follower == null, "Already following block production");
+
+    nextBlock = startBlock;
+    follower =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("block-production-%d")
+                .setDaemon(true)
+                .build());
+    follower.scheduleWithFixedDelay(
+        this::collectNewBlocks, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /** Blocks collected so far while following the node. */
+  public BlockProductionStatistics followed() {
+    return followed;
+  }
+
+  @Override
+  public synchronized void close() {
+    Optional.ofNullable(follower).ifPresent(ScheduledExecutorService::shutdownNow);
+    follower = null;
+  }
+
+  private void collectNewBlocks() {
+    try {
+      final long head = web3j.ethBlockNumber().send().getBlockNumber().longValueExact();
+
+      if (head >= nextBlock) {
+        followed.addAll(collect(nextBlock, head + 1).getSamples());
+        nextBlock = head + 1;
+      }
+    } catch (final Exception e) {
+      LOG.warn("Failed to collect new blocks from {}: {}", nextBlock, e.getMessage());
+    }
+  }
+
+  private CompletableFuture<List<BlockSample>> segment(final long first, final long end) {
+    final BatchRequest headers = web3j.newBatch();
+    for (long block = first; block < end; block++) {
+      headers.add(
+          web3j.ethGetBlockByNumber(
+              DefaultBlockParameter.valueOf(BigInteger.valueOf(block)), false));
+    }
+
+    return headers
+        .sendAsync()
+        .thenApply(
+            response -> {
+              final List<BlockSample> samples = new ArrayList<>();
+
+              for (int index = 0; index < response.getResponses().size(); index++) {
+                final EthBlock header = (EthBlock) response.getResponses().get(index);
+
+                if (header.hasError() || header.getBlock() == null) {
+                  throw new IllegalStateException(
+                      String.format("Block %s: header unavailable", first + index));
+                }
+
+                samples.add(sample(header.getBlock()));
+              }
+
+              return samples;
+            });
+  }
+
+  private BlockSample sample(final EthBlock.Block block) {
+    return new BlockSample(
+        block.getNumber().longValueExact(),
+        block.getTimestamp().longValueExact(),
+        block.getTransactions().size(),
+        block.getGasUsed().longValueExact(),
+        block.getGasLimit().longValueExact(),
+        block.getMiner(),
+        BftRound.of(Bytes.fromHexString(block.getExtraData())));
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.production;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Statistics on the production of a run of blocks.
+ *
+ * <p>Block times are the differences between consecutive block timestamps, so have the one second
+ * resolution of the timestamps. Samples may be added concurrently and in any order.
+ */
+public class BlockProductionStatistics {
+
+  private final NavigableMap<Long, BlockSample> samples = new ConcurrentSkipListMap<>();
+
+  public void add(final BlockSample sample) {
+    samples.put(sample.getNumber(), sample);
+  }
+
+  public void addAll(final Collection<BlockSample> blocks) {
+    blocks.forEach(this::add);
+  }
+
+  public List<BlockSample> getSamples() {
+    return List.copyOf(samples.values());
+  }
+
+  public int getBlockCount() {
+    return samples.size();
+  }
+
+  public Duration getMeanBlockTime() {
+    final List<Long> blockTimes = blockTimes();
+    return blockTimes.isEmpty()
+        ? Duration.ZERO
+        : Duration.ofMillis(Math.round(mean(blockTimes) * 1000));
+  }
+
+  public Duration getMaxBlockTime() {
+    return Duration.ofSeconds(blockTimes().stream().mapToLong(Long::longValue).max().orElse(0));
+  }
+
+  /** Standard deviation of the block times. */
+  public Duration getBlockTimeJitter() {
+    final List<Long> blockTimes = blockTimes();
+    if (blockTimes.isEmpty()) {
+      return Duration.ZERO;
+    }
+
+    final double mean = mean(blockTimes);
+    final double variance =
+        blockTimes.stream().mapToDouble(time -> (time - mean) * (time - mean)).sum()
+            / blockTimes.size();
+    return Duration.ofMillis(Math.round(Math.sqrt(variance) * 1000));
+  }
+
+  /** Proportion of the blocks without any transactions. */
+  public double getEmptyBlockRatio() {
+    return samples.isEmpty()
+        ? 0
+        : (double) samples.values().stream().filter(BlockSample::isEmpty).count() / samples.size();
+  }
+
+  public double getMeanTransactionsPerBlock() {
+    return samples.values().stream().mapToInt(BlockSample::getTransactionCount).average().orElse(0);
+  }
+
+  public int getMaxTransactionsPerBlock() {
+    return samples.values().stream().mapToInt(BlockSample::getTransactionCount).max().orElse(0);
+  }
+
+  /** Total gas used as a proportion of the total gas limit. */
+  public double getGasUtilisation() {
+    final long gasLimit = samples.values().stream().mapToLong(BlockSample::getGasLimit).sum();
+    final long gasUsed = samples.values().stream().mapToLong(BlockSample::getGasUsed).sum();
+    return gasLimit == 0 ? 0 : (double) gasUsed / gasLimit;
+  }
+
+  /** Blocks agreed only after one or more round changes, of those with a known round. */
+  public long getRoundChangeBlockCount() {
+    return samples.values().stream()
+        .map(BlockSample::getRound)
+        .filter(round -> round.isPresent() && round.getAsInt() > 0)
+        .count();
+  }
+
+  /** Proportion of the blocks with a known round that required a round change. */
+  public double getRoundChangeRatio() {
+    final long known =
+        samples.values().stream().filter(block -> block.getRound().isPresent()).count();
+    return known == 0 ? 0 : (double) getRoundChangeBlockCount() / known;
+  }
+
+  /** Number of blocks proposed by each validator. */
+  public SortedMap<String, Long> getProposerDistribution() {
+    final SortedMap<String, Long> distribution = new TreeMap<>();
+    samples.values().forEach(sample -> distribution.merge(sample.getProposer(), 1L, Long::sum));
+    return Collections.unmodifiableSortedMap(distribution);
+  }
+
+  /** One line per block, preceded by a header line. */
+  public String toCsv() {
+    final StringBuilder csv = new StringBuilder(BlockSample.CSV_HEADER).append('\n');
+    samples.values().forEach(sample -> csv.append(sample.toCsv()).append('\n'));
+    return csv.toString();
+  }
+
+  public void writeCsv(final Path file) {
+    try {
+      Files.writeString(file, toCsv(), StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to write block production CSV to: " + file, e);
+    }
+  }
+
+  private List<Long> blockTimes() {
+    final List<Long> blockTimes = new ArrayList<>();
+    Map.Entry<Long, BlockSample> previous = null;
+
+    for (final Map.Entry<Long, BlockSample> current : samples.entrySet()) {
+      // Only consecutive blocks give a block time, any gap in the samples is skipped
+      if (previous != null && previous.getKey() + 1 == current.getKey()) {
+        blockTimes.add(current.getValue().getTimestamp() - previous.getValue().getTimestamp());
+      }
+      previous = current;
+    }
+
+    return blockTimes;
+  }
+
+  private double mean(final List<Long> values) {
+    return values.stream().mapToLong(Long::longValue).average().orElse(0);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("blocks", getBlockCount())
+        .add("meanBlockTime", getMeanBlockTime())
+        .add("blockTimeJitter", getBlockTimeJitter())
+        .add("maxBlockTime", getMaxBlockTime())
+        .add("emptyBlockRatio", getEmptyBlockRatio())
+        .add("meanTransactionsPerBlock", getMeanTransactionsPerBlock())
+        .add("maxTransactionsPerBlock", getMaxTransactionsPerBlock())
+        .add("gasUtilisation", getGasUtilisation())
+        .add("roundChangeRatio", getRoundChangeRatio())
+        .add("proposers", getProposerDistribution())
+        .toString();
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.production;
+
+import java.util.OptionalInt;
+
+import com.google.common.base.MoreObjects;
+
+/** Production details of a single block. */
+public class BlockSample {
+
+  static final String CSV_HEADER = "number,timestamp,transactions,gasUsed,gasLimit,proposer,round";
+
+  private final long number;
+  private final long timestamp;
+  private final int transactionCount;
+  private final long gasUsed;
+  private final long gasLimit;
+  private final String proposer;
+  private final OptionalInt round;
+
+  public BlockSample(
+      final long number,
+      final long timestamp,
+      final int transactionCount,
+      final long gasUsed,
+      final long gasLimit,
+      final String proposer,
+      final OptionalInt round) {
+    this.number = number;
+    this.timestamp = timestamp;
+    this.transactionCount = transactionCount;
+    this.gasUsed = gasUsed;
+    this.gasLimit = gasLimit;
+    this.proposer = proposer;
+    this.round = round;
+  }
+
+  public long getNumber() {
+    return number;
+  }
+
+  /** Seconds since the epoch, as set by the proposer. */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public int getTransactionCount() {
+    return transactionCount;
+  }
+
+  public long getGasUsed() {
+    return gasUsed;
+  }
+
+  public long getGasLimit() {
+    return gasLimit;
+  }
+
+  /** Address of the proposer, as given by the coinbase of the block. */
+  public String getProposer() {
+    return proposer;
+  }
+
+  /** Round the block was agreed in, only known for IBFT 2.0 and QBFT blocks. */
+  public OptionalInt getRound() {
+    return round;
+  }
+
+  public boolean isEmpty() {
+    return transactionCount == 0;
+  }
+
+  String toCsv() {
+    return String.join(
+        ",",
+        Long.toString(number),
+        Long.toString(timestamp),
+        Integer.toString(transactionCount),
+        Long.toString(gasUsed),
+        Long.toString(gasLimit),
+        proposer,
+        round.isPresent() ? Integer.toString(round.getAsInt()) : "");
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("number", number)
+        .add("timestamp", timestamp)
+        .add("transactionCount", transactionCount)
+        .add("gasUsed", gasUsed)
+        .add("gasLimit", gasLimit)
+        .add("proposer", proposer)
+        .add("round", round)
+        .toString();
+  }
+}
@@ -12,6 +12,7 @@
  */
 package tech.pegasys.peeps.node.rpc;
 
+import tech.pegasys.peeps.node.model.BlockHeader;
 import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.model.PrivacyTransactionReceipt;
 import tech.pegasys.peeps.node.model.Transaction;
@@ -37,5 +38,9 @@ public interface NodeRpc extends QbftRpc {
 
   Wei getBalance(Address account);
 
+  Wei getBalance(Address account, long blockNumber);
+
+  BlockHeader getBlockHeader(long blockNumber);
+
   long getBlockNumber();
 }
@@ -12,7 +12,10 @@
  */
 package tech.pegasys.peeps.node.rpc;
 
+import static tech.pegasys.peeps.util.HexFormatter.hexQuantity;
+
 import tech.pegasys.peeps.json.rpc.JsonRpcClient;
+import tech.pegasys.peeps.node.model.BlockHeader;
 import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.model.PrivacyTransactionReceipt;
 import tech.pegasys.peeps.node.model.Transaction;
@@ -24,6 +27,7 @@ import tech.pegasys.peeps.node.rpc.admin.NodeInfo;
 import tech.pegasys.peeps.node.rpc.admin.NodeInfoResponse;
 import tech.pegasys.peeps.node.rpc.eth.GetBalanceResponse;
 import tech.pegasys.peeps.node.rpc.eth.GetBlockNumberResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetBlockResponse;
 import tech.pegasys.peeps.node.rpc.eth.GetTransactionByHashResponse;
 import tech.pegasys.peeps.node.rpc.eth.GetTransactionReceiptResponse;
 import tech.pegasys.peeps.node.rpc.priv.GetPrivateTransactionResponse;
@@ -83,6 +87,22 @@ public class NodeRpcClient {
         .getResult();
   }
 
+  public Wei getBalance(final Address account, final long blockNumber) {
+    return rpcClient
+        .post(
+            "eth_getBalance",
+            GetBalanceResponse.class,
+            account.toHexString(),
+            hexQuantity(blockNumber))
+        .getResult();
+  }
+
+  public Optional<BlockHeader> getBlockHeader(final long blockNumber) {
+    return rpcClient
+        .post("eth_getBlockByNumber", GetBlockResponse.class, hexQuantity(blockNumber), false)
+        .getResult();
+  }
+
   public long getBlockNumber() {
     return rpcClient.post("eth_blockNumber", GetBlockNumberResponse.class).getResult();
   }
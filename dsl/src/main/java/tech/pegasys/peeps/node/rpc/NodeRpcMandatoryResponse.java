@@ -15,6 +15,7 @@ package tech.pegasys.peeps.node.rpc;
 import static tech.pegasys.peeps.util.Await.awaitData;
 import static tech.pegasys.peeps.util.Await.awaitPresence;
 
+import tech.pegasys.peeps.node.model.BlockHeader;
 import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.model.PrivacyTransactionReceipt;
 import tech.pegasys.peeps.node.model.Transaction;
@@ -68,6 +69,24 @@ public class NodeRpcMandatoryResponse implements NodeRpc {
         () -> rpc.getBalance(account), "Failed to retrieve the balance for address: %s", account);
   }
 
+  @Override
+  public Wei getBalance(final Address account, final long blockNumber) {
+    return awaitData(
+        () -> rpc.getBalance(account, blockNumber),
+        "Failed to retrieve the balance for address: %s at block: %s",
+        account,
+        blockNumber);
+  }
+
+  @Override
+  public BlockHeader getBlockHeader(final long blockNumber) {
+    return awaitPresence(
+            () -> rpc.getBlockHeader(blockNumber),
+            "Failed to retrieve the block header for block: %s",
+            blockNumber)
+        .get();
+  }
+
   @Override
   public long getBlockNumber() {
     return awaitData(rpc::getBlockNumber, "Failed to retrieve block number");
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.rpc.eth;
+
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSetter;
+
+/** Message received on a <code>newPendingTransactions</code> subscription. */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class NewPendingTransactionNotification {
+
+  private Params params;
+
+  @JsonSetter("params")
+  public void setParams(final Params params) {
+    this.params = params;
+  }
+
+  /** Empty for the subscription confirmation, which carries no transaction. */
+  public Optional<Hash> getTransaction() {
+    return Optional.ofNullable(params).map(Params::getResult);
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class Params {
+
+    private Hash result;
+
+    @JsonSetter("result")
+    public void setResult(final Hash result) {
+      this.result = result;
+    }
+
+    public Hash getResult() {
+      return result;
+    }
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.verification;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Wei;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetBalance;
+
+/**
+ * Verifies the block rewards over a range of blocks.
+ *
+ * <p>The range is split into segments, each having its block headers and historical balances
+ * fetched in batched requests, with the segments verified concurrently. Every failing block is
+ * reported, rather than only the first.
+ */
+public class BlockRewardVerifier {
+
+  private static final int BLOCKS_PER_SEGMENT = 100;
+
+  private final Web3j web3j;
+
+  public BlockRewardVerifier(final Web3j web3j) {
+    this.web3j = web3j;
+  }
+
+  /** Each block in the range [start, end) must reward its proposing validator. */
+  public void validatorsRewarded(final long startBlock, final long endBlock, final Wei reward) {
+    verify(
+        startBlock,
+        endBlock,
+        segmentStart ->
+            validatorSegment(
+                segmentStart, Math.min(segmentStart + BLOCKS_PER_SEGMENT, endBlock), reward));
+  }
+
+  /** Each block in the range [start, end) must reward the beneficiary, not the validator. */
+  public void miningBeneficiaryRewarded(
+      final long startBlock, final long endBlock, final Wei reward, final Address beneficiary) {
+    verify(
+        startBlock,
+        endBlock,
+        segmentStart ->
+            beneficiarySegment(
+                segmentStart,
+                Math.min(segmentStart + BLOCKS_PER_SEGMENT, endBlock),
+                reward,
+                beneficiary.toHexString()));
+  }
+
+  private void verify(
+      final long startBlock, final long endBlock, final SegmentVerification segmentVerification) {
+    checkArgument(startBlock > 0, "Rewards cannot be verified for the genesis block");
+    checkArgument(startBlock <= endBlock, "Start block must not be after the end block");
+
+    final List<CompletableFuture<List<String>>> segments = new ArrayList<>();
+    for (long segmentStart = startBlock;
+        segmentStart < endBlock;
+        segmentStart += BLOCKS_PER_SEGMENT) {
+      segments.add(segmentVerification.verify(segmentStart));
+    }
+
+    final List<String> failures;
+    try {
+      failures =
+          segments.stream()
+              .map(CompletableFuture::join)
+              .flatMap(List::stream)
+              .collect(Collectors.toList());
+    } catch (final CompletionException e) {
+      throw new AssertionError("Could not verify block rewards", e.getCause());
+    }
+
+    if (!failures.isEmpty()) {
+      throw new AssertionError(
+          String.format(
+              "Block rewards failed for %s of %s blocks:%n%s",
+              failures.size(),
+              endBlock - startBlock,
+              String.join(System.lineSeparator(), failures)));
+    }
+  }
+
+  private CompletableFuture<List<String>> validatorSegment(
+      final long first, final long end, final Wei reward) {
+    return headers(first, end)
+        .thenCompose(
+            headers -> {
+              final List<String> failures = new ArrayList<>();
+              final List<Long> blocks = new ArrayList<>();
+              final List<String> validators = new ArrayList<>();
+              final BatchRequest balances = web3j.newBatch();
+
+              for (long block = first; block < end; block++) {
+                final int index = (int) (block - first);
+                final EthBlock header = (EthBlock) headers.getResponses().get(index);
+
+                if (header.hasError() || header.getBlock() == null) {
+                  failures.add(String.format("Block %s: header unavailable", block));
+                } else {
+                  final String validator = header.getBlock().getMiner();
+                  blocks.add(block);
+                  validators.add(validator);
+                  balances.add(web3j.ethGetBalance(validator, blockParameter(block - 1)));
+                  balances.add(web3j.ethGetBalance(validator, blockParameter(block)));
+                }
+              }
+
+              if (blocks.isEmpty()) {
+                return CompletableFuture.completedFuture(failures);
+              }
+
+              return balances
+                  .sendAsync()
+                  .thenApply(
+                      response -> {
+                        for (int i = 0; i < blocks.size(); i++) {
+                          verifyReward(
+                              blocks.get(i),
+                              "validator " + validators.get(i),
+                              response.getResponses().get(2 * i),
+                              response.getResponses().get(2 * i + 1),
+                              reward,
+                              failures);
+                        }
+                        return failures;
+                      });
+            });
+  }
+
+  private CompletableFuture<List<String>> beneficiarySegment(
+      final long first, final long end, final Wei reward, final String beneficiary) {
+    final BatchRequest balances = web3j.newBatch();
+    for (long block = first - 1; block < end; block++) {
+      balances.add(web3j.ethGetBalance(beneficiary, blockParameter(block)));
+    }
+
+    return headers(first, end)
+        .thenCombine(
+            balances.sendAsync(),
+            (headers, response) -> {
+              final List<String> failures = new ArrayList<>();
+
+              for (long block = first; block < end; block++) {
+                final int index = (int) (block - first);
+                final EthBlock header = (EthBlock) headers.getResponses().get(index);
+
+                if (header.hasError() || header.getBlock() == null) {
+                  failures.add(String.format("Block %s: header unavailable", block));
+                } else if (beneficiary.equalsIgnoreCase(header.getBlock().getMiner())) {
+                  failures.add(
+                      String.format(
+                          "Block %s: proposed by the mining beneficiary %s", block, beneficiary));
+                } else {
+                  verifyReward(
+                      block,
+                      "mining beneficiary " + beneficiary,
+                      response.getResponses().get(index),
+                      response.getResponses().get(index + 1),
+                      reward,
+                      failures);
+                }
+              }
+
+              return failures;
+            });
+  }
+
+  private CompletableFuture<BatchResponse> headers(final long first, final long end) {
+    final BatchRequest headers = web3j.newBatch();
+    for (long block = first; block < end; block++) {
+      headers.add(web3j.ethGetBlockByNumber(blockParameter(block), false));
+    }
+    return headers.sendAsync();
+  }
+
+  private void verifyReward(
+      final long block,
+      final String recipient,
+      final Response<?> before,
+      final Response<?> after,
+      final Wei reward,
+      final List<String> failures) {
+
+    if (before.hasError() || after.hasError()) {
+      failures.add(String.format("Block %s: balance of %s unavailable", block, recipient));
+      return;
+    }
+
+    final BigInteger change =
+        ((EthGetBalance) after).getBalance().subtract(((EthGetBalance) before).getBalance());
+
+    if (!change.equals(reward.toBigInteger())) {
+      failures.add(
+          String.format(
+              "Block %s: balance of %s changed by %s, expected block reward %s",
+              block, recipient, change, reward.toBigInteger()));
+    }
+  }
+
+  private DefaultBlockParameter blockParameter(final long block) {
+    return DefaultBlockParameter.valueOf(BigInteger.valueOf(block));
+  }
+
+  @FunctionalInterface
+  private interface SegmentVerification {
+    CompletableFuture<List<String>> verify(long segmentStart);
+  }
+}
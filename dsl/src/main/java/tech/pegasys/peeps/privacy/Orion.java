@@ -12,7 +12,7 @@
  */
 package tech.pegasys.peeps.privacy;
 
-import org.testcontainers.containers.GenericContainer;
+import tech.pegasys.peeps.image.ImageManager;
 
 public class Orion extends PrivateTransactionManager {
 
@@ -20,7 +20,7 @@ public class Orion extends PrivateTransactionManager {
   private static final String ORION_IMAGE = "consensys/quorum-orion:develop";
 
   public Orion(final PrivateTransactionManagerConfiguration config) {
-    super(config, new GenericContainer<>(ORION_IMAGE));
+    super(config, ImageManager.instance().container(ORION_IMAGE));
     addContainerNetwork(config, container);
     addContainerIpAddress(config, container);
     addPrivateKeys(config, CONTAINER_WORKING_DIRECTORY_PREFIX, container);
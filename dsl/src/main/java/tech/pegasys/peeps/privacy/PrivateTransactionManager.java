@@ -15,18 +15,24 @@ package tech.pegasys.peeps.privacy;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.peeps.privacy.rpc.send.SendPayload.generateUniquePayload;
 
-import tech.pegasys.peeps.network.NetworkMember;
+import tech.pegasys.peeps.network.ContainerMember;
+import tech.pegasys.peeps.network.subnet.ContainerAddressing;
 import tech.pegasys.peeps.privacy.model.PrivacyPrivateKeyResource;
 import tech.pegasys.peeps.privacy.model.PrivacyPublicKeyResource;
 import tech.pegasys.peeps.privacy.model.TransactionManagerKey;
 import tech.pegasys.peeps.privacy.rpc.TransactionManagerRpc;
 import tech.pegasys.peeps.privacy.rpc.TransactionManagerRpcExpectingData;
 import tech.pegasys.peeps.util.ClasspathResources;
+import tech.pegasys.peeps.util.ContainerStats;
+import tech.pegasys.peeps.util.ContainerStatsStream;
 import tech.pegasys.peeps.util.DockerLogs;
+import tech.pegasys.peeps.util.Readiness;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
@@ -34,16 +40,13 @@ import org.apache.logging.log4j.Logger;
 import org.testcontainers.containers.BindMode;
 import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.strategy.HttpWaitStrategy;
-import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.utility.MountableFile;
 
-public abstract class PrivateTransactionManager implements NetworkMember {
+public abstract class PrivateTransactionManager implements ContainerMember {
   private static final Logger LOG = LogManager.getLogger();
 
   private static final int CONTAINER_PEER_TO_PEER_PORT = 8080;
   private static final int CONTAINER_HTTP_RPC_PORT = 8888;
-  private static final int ALIVE_STATUS_CODE = 200;
   private static final String AM_I_ALIVE_ENDPOINT = "/upcheck";
   protected static final String CONTAINER_CONFIG_FILE = "/etc/transaction_manager.conf";
 
@@ -55,10 +58,13 @@ public abstract class PrivateTransactionManager implements NetworkMember {
   private final String networkRpcAddress;
 
   protected final String id;
+  private final ContainerAddressing addressing;
 
   public PrivateTransactionManager(
       final PrivateTransactionManagerConfiguration config, final GenericContainer<?> container) {
     this.container = container;
+    this.addressing = ContainerAddressing.of(config.isDirectAccess(), config.getIpAddress());
+    addressing.configure(container);
     this.networkP2PAddress =
         String.format("http://%s:%s", config.getIpAddress().get(), CONTAINER_PEER_TO_PEER_PORT);
     this.networkRpcAddress =
@@ -86,8 +92,8 @@ public abstract class PrivateTransactionManager implements NetworkMember {
 
       transactionManagerRpc.bind(
           container.getContainerId(),
-          container.getContainerIpAddress(),
-          container.getMappedPort(CONTAINER_HTTP_RPC_PORT));
+          addressing.host(container),
+          addressing.port(container, CONTAINER_HTTP_RPC_PORT));
 
       // TODO validate the node has the expected state, e.g. consensus, genesis,
       // networkId,
@@ -112,6 +118,24 @@ public abstract class PrivateTransactionManager implements NetworkMember {
     }
   }
 
+  @Override
+  public Optional<String> release() {
+    if (transactionManagerRpc != null) {
+      transactionManagerRpc.close();
+    }
+    return Optional.ofNullable(container.getContainerId());
+  }
+
+  @Override
+  public ContainerStatsStream statsStream(final Consumer<ContainerStats> listener) {
+    return new ContainerStatsStream(container, listener);
+  }
+
+  @Override
+  public String imageName() {
+    return container.getDockerImageName();
+  }
+
   public abstract String getNodeName();
 
   public String getPeerNetworkAddress() {
@@ -139,10 +163,9 @@ public abstract class PrivateTransactionManager implements NetworkMember {
     return Set.of(this::getLogs);
   }
 
-  protected HttpWaitStrategy liveliness() {
-    return Wait.forHttp(AM_I_ALIVE_ENDPOINT)
-        .forStatusCode(ALIVE_STATUS_CODE)
-        .forPort(CONTAINER_HTTP_RPC_PORT);
+  protected Readiness liveliness() {
+    return Readiness.upcheck(CONTAINER_HTTP_RPC_PORT, AM_I_ALIVE_ENDPOINT)
+        .withAddressing(addressing);
   }
 
   private void awaitConnectivity(final PrivateTransactionManager peer) {
@@ -205,6 +228,14 @@ public abstract class PrivateTransactionManager implements NetworkMember {
   }
 
   private void logPortMappings() {
+    if (addressing.isDirect()) {
+      LOG.info(
+          "TransactionManager Container: {}, addressed directly at {}",
+          container.getContainerId(),
+          networkRpcAddress);
+      return;
+    }
+
     LOG.info(
         "TransactionManager Container: {}, HTTP RPC port mapping: {} -> {}, p2p port mapping: {} -> {}",
         container.getContainerId(),
@@ -34,6 +34,7 @@ public class PrivateTransactionManagerConfiguration {
   private final Network containerNetwork;
   private final SubnetAddress ipAddress;
   private final Vertx vertx;
+  private final boolean directAccess;
 
   public PrivateTransactionManagerConfiguration(
       final List<PrivacyPrivateKeyResource> privKeys,
@@ -42,7 +43,8 @@ public class PrivateTransactionManagerConfiguration {
       final SubnetAddress ipAddress,
       final Network containerNetwork,
       final Vertx vertx,
-      final Path fileSystemConfigurationFile) {
+      final Path fileSystemConfigurationFile,
+      final boolean directAccess) {
     this.privKeys = privKeys;
     this.pubKeys = pubKeys;
     this.bootnodeUrls = bootnodeUrls;
@@ -50,6 +52,7 @@ public class PrivateTransactionManagerConfiguration {
     this.containerNetwork = containerNetwork;
     this.vertx = vertx;
     this.fileSystemConfigurationFile = fileSystemConfigurationFile;
+    this.directAccess = directAccess;
   }
 
   public Path getFileSystemConfigurationFile() {
@@ -79,4 +82,8 @@ public class PrivateTransactionManagerConfiguration {
   public Vertx getVertx() {
     return vertx;
   }
+
+  public boolean isDirectAccess() {
+    return directAccess;
+  }
 }
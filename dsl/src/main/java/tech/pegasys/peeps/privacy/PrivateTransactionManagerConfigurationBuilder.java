@@ -38,6 +38,7 @@ public class PrivateTransactionManagerConfigurationBuilder {
   private Network containerNetwork;
   private SubnetAddress ipAddress;
   private Vertx vertx;
+  private boolean directAccess;
 
   public PrivateTransactionManagerConfigurationBuilder withKeyPairs(
       final List<PrivacyKeyPair> keyPairs) {
@@ -81,6 +82,12 @@ public class PrivateTransactionManagerConfigurationBuilder {
     return this;
   }
 
+  public PrivateTransactionManagerConfigurationBuilder withDirectAccess(
+      final boolean directAccess) {
+    this.directAccess = directAccess;
+    return this;
+  }
+
   public PrivateTransactionManagerConfiguration build() {
     checkNotNull(privKeys, "Private keys are mandatory");
     checkArgument(privKeys.size() > 0, "At least one private key is required");
@@ -92,6 +99,13 @@ public class PrivateTransactionManagerConfigurationBuilder {
     checkNotNull(ipAddress, "Container IP Address is mandatory");
 
     return new PrivateTransactionManagerConfiguration(
-        privKeys, pubKeys, bootnodeUrls, ipAddress, containerNetwork, vertx, fileSystemConfigFile);
+        privKeys,
+        pubKeys,
+        bootnodeUrls,
+        ipAddress,
+        containerNetwork,
+        vertx,
+        fileSystemConfigFile,
+        directAccess);
   }
 }
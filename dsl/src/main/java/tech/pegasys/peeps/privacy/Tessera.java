@@ -12,13 +12,11 @@
  */
 package tech.pegasys.peeps.privacy;
 
-import java.time.Duration;
+import tech.pegasys.peeps.image.ImageManager;
+
 import java.util.ArrayList;
 import java.util.List;
 
-import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.images.PullPolicy;
-
 public class Tessera extends PrivateTransactionManager {
   private static final String CONTAINER_WORKING_DIRECTORY_PREFIX = "/opt/tessera/";
 
@@ -30,9 +28,7 @@ public class Tessera extends PrivateTransactionManager {
   public Tessera(final PrivateTransactionManagerConfiguration config) {
     super(
         config,
-        new GenericContainer<>(TESSERA_IMAGE)
-            .withReuse(false)
-            .withImagePullPolicy(PullPolicy.ageBased(Duration.ofHours(1))));
+        ImageManager.instance().container(TESSERA_IMAGE).withReuse(false));
     addContainerNetwork(config, container);
     addContainerIpAddress(config, container);
     addPrivateKeys(config, CONTAINER_WORKING_DIRECTORY_PREFIX, container);
@@ -23,6 +23,10 @@ public class PrivacyManagerIdentifier {
     this.id = id;
   }
 
+  public String get() {
+    return id;
+  }
+
   @Override
   public int hashCode() {
     return id.hashCode();
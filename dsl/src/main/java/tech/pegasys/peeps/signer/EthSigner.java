@@ -15,19 +15,26 @@ package tech.pegasys.peeps.signer;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.peeps.util.Await.await;
 
+import tech.pegasys.peeps.image.ImageManager;
 import tech.pegasys.peeps.json.rpc.JsonRpcClient;
-import tech.pegasys.peeps.network.NetworkMember;
+import tech.pegasys.peeps.network.ContainerMember;
+import tech.pegasys.peeps.network.subnet.ContainerAddressing;
 import tech.pegasys.peeps.node.Web3Provider;
 import tech.pegasys.peeps.node.model.EnodeHelpers;
 import tech.pegasys.peeps.node.rpc.BesuQbftRpcClient;
 import tech.pegasys.peeps.signer.rpc.SignerRpc;
 import tech.pegasys.peeps.signer.rpc.SignerRpcClient;
 import tech.pegasys.peeps.signer.rpc.SignerRpcMandatoryResponse;
+import tech.pegasys.peeps.util.ContainerStats;
+import tech.pegasys.peeps.util.ContainerStatsStream;
 import tech.pegasys.peeps.util.DockerLogs;
+import tech.pegasys.peeps.util.Readiness;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.google.common.collect.Lists;
@@ -36,16 +43,12 @@ import org.apache.logging.log4j.Logger;
 import org.testcontainers.containers.BindMode;
 import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.strategy.HttpWaitStrategy;
-import org.testcontainers.containers.wait.strategy.Wait;
-import org.testcontainers.images.PullPolicy;
 
-public class EthSigner implements NetworkMember {
+public class EthSigner implements ContainerMember {
 
   private static final Logger LOG = LogManager.getLogger();
 
   private static final String AM_I_ALIVE_ENDPOINT = "/upcheck";
-  private static final int ALIVE_STATUS_CODE = 200;
 
   private static final String ETH_SIGNER_IMAGE = "consensys/ethsigner:develop";
   private static final int CONTAINER_HTTP_RPC_PORT = 8545;
@@ -57,12 +60,11 @@ public class EthSigner implements NetworkMember {
   private final JsonRpcClient jsonRpcClient;
   private final SignerRpc rpc;
   private final Web3Provider downstream;
+  private final ContainerAddressing addressing;
 
   public EthSigner(final EthSignerConfiguration config) {
 
-    final GenericContainer<?> container =
-        new GenericContainer<>(ETH_SIGNER_IMAGE)
-            .withImagePullPolicy(PullPolicy.ageBased(Duration.ofHours(1)));
+    final GenericContainer<?> container = ImageManager.instance().container(ETH_SIGNER_IMAGE);
     final List<String> commandLineOptions = standardCommandLineOptions();
 
     addChainId(config, commandLineOptions);
@@ -72,6 +74,9 @@ public class EthSigner implements NetworkMember {
     addContainerIpAddress(config, container);
     addFileBasedSigner(config, commandLineOptions, container);
 
+    this.addressing = ContainerAddressing.of(config.isDirectAccess(), config.getIpAddress());
+    addressing.configure(container);
+
     LOG.info("EthSigner command line: {}", commandLineOptions);
 
     this.downstream = config.getDownstream();
@@ -100,8 +105,8 @@ public class EthSigner implements NetworkMember {
 
       jsonRpcClient.bind(
           ethSigner.getContainerId(),
-          ethSigner.getContainerIpAddress(),
-          ethSigner.getMappedPort(CONTAINER_HTTP_RPC_PORT));
+          addressing.host(ethSigner),
+          addressing.port(ethSigner, CONTAINER_HTTP_RPC_PORT));
 
       // TODO validate the node has the expected state, e.g. consensus, genesis, networkId,
       // protocol(s), ports, listen address
@@ -124,10 +129,33 @@ public class EthSigner implements NetworkMember {
     }
   }
 
+  @Override
+  public Optional<String> release() {
+    if (jsonRpcClient != null) {
+      jsonRpcClient.close();
+    }
+    return Optional.ofNullable(ethSigner.getContainerId());
+  }
+
+  @Override
+  public ContainerStatsStream statsStream(final Consumer<ContainerStats> listener) {
+    return new ContainerStatsStream(ethSigner, listener);
+  }
+
+  @Override
+  public String imageName() {
+    return ethSigner.getDockerImageName();
+  }
+
   public SignerRpc rpc() {
     return rpc;
   }
 
+  /** Node the signer submits its signed transactions to. */
+  public Web3Provider downstream() {
+    return downstream;
+  }
+
   public void awaitConnectivityToDownstream() {
     await(
         () ->
@@ -141,10 +169,9 @@ public class EthSigner implements NetworkMember {
     return DockerLogs.format("EthSigner", ethSigner);
   }
 
-  private HttpWaitStrategy liveliness() {
-    return Wait.forHttp(AM_I_ALIVE_ENDPOINT)
-        .forStatusCode(ALIVE_STATUS_CODE)
-        .forPort(CONTAINER_HTTP_RPC_PORT);
+  private Readiness liveliness() {
+    return Readiness.upcheck(CONTAINER_HTTP_RPC_PORT, AM_I_ALIVE_ENDPOINT)
+        .withAddressing(addressing);
   }
 
   private Set<Supplier<String>> dockerLogs() {
@@ -176,6 +203,14 @@ public class EthSigner implements NetworkMember {
   }
 
   private void logPortMappings() {
+    if (addressing.isDirect()) {
+      LOG.info(
+          "EthSigner Container: {}, addressed directly at {}",
+          ethSigner.getContainerId(),
+          addressing.host(ethSigner));
+      return;
+    }
+
     LOG.info(
         "EthSigner Container: {}, HTTP RPC port mapping: {} -> {}",
         ethSigner.getContainerId(),
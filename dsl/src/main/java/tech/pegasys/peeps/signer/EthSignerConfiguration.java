@@ -36,6 +36,7 @@ public class EthSignerConfiguration {
   private final SignerKeyFileResource keyFile;
   private final SignerPasswordFileResource passwordFile;
   private final Wei minGasPrice;
+  private final boolean directAccess;
 
   public EthSignerConfiguration(
       final long chainId,
@@ -45,7 +46,8 @@ public class EthSignerConfiguration {
       final Vertx vertx,
       final SignerKeyFileResource keyFile,
       final SignerPasswordFileResource passwordFile,
-      final Wei minGasPrice) {
+      final Wei minGasPrice,
+      final boolean directAccess) {
     this.chainId = chainId;
     this.downstream = downstream;
     this.containerNetwork = containerNetwork;
@@ -54,6 +56,7 @@ public class EthSignerConfiguration {
     this.keyFile = keyFile;
     this.passwordFile = passwordFile;
     this.minGasPrice = minGasPrice;
+    this.directAccess = directAccess;
   }
 
   public Network getContainerNetwork() {
@@ -87,4 +90,8 @@ public class EthSignerConfiguration {
   public Wei getMinGasPrice() {
     return minGasPrice;
   }
+
+  public boolean isDirectAccess() {
+    return directAccess;
+  }
 }
@@ -40,6 +40,7 @@ public class EthSignerConfigurationBuilder {
   private SignerKeyFileResource keyFile;
   private SignerPasswordFileResource passwordFile;
   private Wei minGasPrice = Wei.valueOf(0);
+  private boolean directAccess;
 
   public EthSignerConfigurationBuilder withContainerNetwork(final Network containerNetwork) {
     this.containerNetwork = containerNetwork;
@@ -77,6 +78,11 @@ public class EthSignerConfigurationBuilder {
     return this;
   }
 
+  public EthSignerConfigurationBuilder withDirectAccess(final boolean directAccess) {
+    this.directAccess = directAccess;
+    return this;
+  }
+
   public EthSignerConfiguration build() {
     checkArgument(chainId > 0, "Chain ID must be set as larger than zero");
     checkNotNull(downstream, "Downstream node mandatory");
@@ -94,6 +100,7 @@ public class EthSignerConfigurationBuilder {
         vertx,
         keyFile,
         passwordFile,
-        minGasPrice);
+        minGasPrice,
+        directAccess);
   }
 }
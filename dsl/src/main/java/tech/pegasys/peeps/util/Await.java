@@ -14,6 +14,8 @@ package tech.pegasys.peeps.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import tech.pegasys.peeps.json.rpc.RpcStatistics;
+
 import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -27,6 +29,13 @@ public class Await {
 
   public static final int DEFAULT_TIMEOUT_IN_SECONDS = 60;
 
+  /** Time spent in each wait, labelled by its error message, with a timeout as a failure. */
+  private static final RpcStatistics STATISTICS = new RpcStatistics();
+
+  public static RpcStatistics statistics() {
+    return STATISTICS;
+  }
+
   @FormatMethod
   public static <T> Optional<T> awaitPresence(
       final Supplier<Optional<T>> operation,
@@ -65,7 +74,7 @@ public class Await {
       final String errorMessage,
       final Object... errorMessageParameters) {
     try {
-      await(DEFAULT_TIMEOUT_IN_SECONDS, condition);
+      await(DEFAULT_TIMEOUT_IN_SECONDS, condition, errorMessage);
     } catch (final ConditionTimeoutException e) {
       throw new AssertionError(String.format(errorMessage, errorMessageParameters));
     }
@@ -78,16 +87,24 @@ public class Await {
       final String errorMessage,
       final Object... errorMessageParameters) {
     try {
-      await(timeout, condition);
+      await(timeout, condition, errorMessage);
     } catch (final ConditionTimeoutException e) {
       throw new AssertionError(String.format(errorMessage, errorMessageParameters));
     }
   }
 
-  private static void await(final int timeout, final ThrowingRunnable condition) {
-    Awaitility.await()
-        .ignoreExceptions()
-        .atMost(Duration.ofSeconds(timeout))
-        .untilAsserted(condition);
+  private static void await(
+      final int timeout, final ThrowingRunnable condition, final String label) {
+    final long start = System.nanoTime();
+    boolean success = false;
+    try {
+      Awaitility.await()
+          .ignoreExceptions()
+          .atMost(Duration.ofSeconds(timeout))
+          .untilAsserted(condition);
+      success = true;
+    } finally {
+      STATISTICS.record(label, System.nanoTime() - start, success);
+    }
   }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.github.dockerjava.api.model.BlkioStatEntry;
+import com.github.dockerjava.api.model.CpuStatsConfig;
+import com.github.dockerjava.api.model.MemoryStatsConfig;
+import com.github.dockerjava.api.model.StatisticNetworksConfig;
+import com.github.dockerjava.api.model.Statistics;
+import com.github.dockerjava.api.model.StatsConfig;
+import com.google.common.base.MoreObjects;
+
+/** Resource usage of a container, as reported by a single frame of the Docker stats API. */
+public class ContainerStats {
+
+  private final Instant timestamp;
+  private final double cpuPercent;
+  private final long memoryBytes;
+  private final long networkReceivedBytes;
+  private final long networkTransmittedBytes;
+  private final long blockReadBytes;
+  private final long blockWrittenBytes;
+
+  public ContainerStats(
+      final Instant timestamp,
+      final double cpuPercent,
+      final long memoryBytes,
+      final long networkReceivedBytes,
+      final long networkTransmittedBytes,
+      final long blockReadBytes,
+      final long blockWrittenBytes) {
+    this.timestamp = timestamp;
+    this.cpuPercent = cpuPercent;
+    this.memoryBytes = memoryBytes;
+    this.networkReceivedBytes = networkReceivedBytes;
+    this.networkTransmittedBytes = networkTransmittedBytes;
+    this.blockReadBytes = blockReadBytes;
+    this.blockWrittenBytes = blockWrittenBytes;
+  }
+
+  /**
+   * CPU percentage is relative to a single core, as with <code>docker stats</code>, and is only
+   * present once the frame carries a previous CPU reading to measure against.
+   */
+  static Optional<ContainerStats> of(final Statistics stats, final Instant timestamp) {
+    final CpuStatsConfig cpu = stats.getCpuStats();
+    final CpuStatsConfig previousCpu = stats.getPreCpuStats();
+
+    if (cpu == null
+        || previousCpu == null
+        || cpu.getCpuUsage() == null
+        || previousCpu.getCpuUsage() == null
+        || cpu.getSystemCpuUsage() == null
+        || previousCpu.getSystemCpuUsage() == null
+        || previousCpu.getSystemCpuUsage() == 0) {
+      return Optional.empty();
+    }
+
+    final long cpuDelta =
+        cpu.getCpuUsage().getTotalUsage() - previousCpu.getCpuUsage().getTotalUsage();
+    final long systemDelta = cpu.getSystemCpuUsage() - previousCpu.getSystemCpuUsage();
+    final long onlineCpus = cpu.getOnlineCpus() == null ? 1 : cpu.getOnlineCpus();
+    final double cpuPercent = systemDelta > 0 ? 100.0 * cpuDelta / systemDelta * onlineCpus : 0;
+
+    long received = 0;
+    long transmitted = 0;
+    final Map<String, StatisticNetworksConfig> networks = stats.getNetworks();
+    if (networks != null) {
+      for (final StatisticNetworksConfig network : networks.values()) {
+        received += valueOf(network.getRxBytes());
+        transmitted += valueOf(network.getTxBytes());
+      }
+    }
+
+    long read = 0;
+    long written = 0;
+    final List<BlkioStatEntry> io =
+        stats.getBlkioStats() == null ? null : stats.getBlkioStats().getIoServiceBytesRecursive();
+    if (io != null) {
+      for (final BlkioStatEntry entry : io) {
+        if ("read".equalsIgnoreCase(entry.getOp())) {
+          read += valueOf(entry.getValue());
+        } else if ("write".equalsIgnoreCase(entry.getOp())) {
+          written += valueOf(entry.getValue());
+        }
+      }
+    }
+
+    return Optional.of(
+        new ContainerStats(
+            timestamp,
+            cpuPercent,
+            memoryOf(stats.getMemoryStats()),
+            received,
+            transmitted,
+            read,
+            written));
+  }
+
+  /**
+   * Resident set size, falling back to the usage less the page cache when the cgroup lacks it, as
+   * with <code>docker stats</code>, so reading files does not look like growing memory.
+   */
+  private static long memoryOf(final MemoryStatsConfig memory) {
+    if (memory == null) {
+      return 0;
+    }
+
+    final StatsConfig stats = memory.getStats();
+    if (stats != null && stats.getRss() != null) {
+      return stats.getRss();
+    }
+
+    final long usage = valueOf(memory.getUsage());
+    if (stats == null) {
+      return usage;
+    }
+
+    // Cache is reported by cgroup v1, inactive file pages by cgroup v2
+    final long cache =
+        valueOf(stats.getCache() == null ? stats.getInactiveFile() : stats.getCache());
+    return cache < usage ? usage - cache : usage;
+  }
+
+  private static long valueOf(final Long value) {
+    return value == null ? 0 : value;
+  }
+
+  public Instant getTimestamp() {
+    return timestamp;
+  }
+
+  public double getCpuPercent() {
+    return cpuPercent;
+  }
+
+  public long getMemoryBytes() {
+    return memoryBytes;
+  }
+
+  public long getNetworkReceivedBytes() {
+    return networkReceivedBytes;
+  }
+
+  public long getNetworkTransmittedBytes() {
+    return networkTransmittedBytes;
+  }
+
+  public long getBlockReadBytes() {
+    return blockReadBytes;
+  }
+
+  public long getBlockWrittenBytes() {
+    return blockWrittenBytes;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("timestamp", timestamp)
+        .add("cpuPercent", cpuPercent)
+        .add("memoryBytes", memoryBytes)
+        .add("networkReceivedBytes", networkReceivedBytes)
+        .add("networkTransmittedBytes", networkTransmittedBytes)
+        .add("blockReadBytes", blockReadBytes)
+        .add("blockWrittenBytes", blockWrittenBytes)
+        .toString();
+  }
+}
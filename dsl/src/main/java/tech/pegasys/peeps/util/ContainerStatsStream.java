@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Statistics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+
+/**
+ * Resource usage of a running container, streamed from the Docker stats API about once a second
+ * until closed.
+ */
+public class ContainerStatsStream implements Closeable {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final String containerId;
+  private final ResultCallback.Adapter<Statistics> callback;
+  private final AtomicBoolean ended = new AtomicBoolean();
+
+  public ContainerStatsStream(
+      final GenericContainer<?> container, final Consumer<ContainerStats> listener) {
+    this(container, listener, error -> {});
+  }
+
+  /**
+   * Streams the stats of the container to the listener, until closed or the stream fails.
+   *
+   * @param container started container to stream the stats of.
+   * @param listener receives each frame carrying a CPU reading.
+   * @param errorListener receives the failure of the stream, after which no more frames arrive.
+   */
+  public ContainerStatsStream(
+      final GenericContainer<?> container,
+      final Consumer<ContainerStats> listener,
+      final Consumer<Throwable> errorListener) {
+    this.containerId = container.getContainerId();
+    this.callback =
+        DockerClientFactory.instance()
+            .client()
+            .statsCmd(containerId)
+            .exec(
+                new ResultCallback.Adapter<>() {
+                  @Override
+                  public void onNext(final Statistics frame) {
+                    ContainerStats.of(frame, Instant.now()).ifPresent(listener);
+                  }
+
+                  @Override
+                  public void onError(final Throwable throwable) {
+                    ended.set(true);
+                    LOG.warn("Stats stream of container {} failed", containerId, throwable);
+                    errorListener.accept(throwable);
+                  }
+
+                  @Override
+                  public void onComplete() {
+                    ended.set(true);
+                    super.onComplete();
+                  }
+                });
+  }
+
+  /** Whether the stream has failed or finished, as it does when the container stops. */
+  public boolean isEnded() {
+    return ended.get();
+  }
+
+  @Override
+  public void close() {
+    try {
+      callback.close();
+    } catch (final IOException e) {
+      LOG.debug("Failed closing stats stream of container {}", containerId, e);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.containers.GenericContainer;
+
+/** Resource usage of running containers, from the Docker stats API and commands executed within. */
+public class DockerStats {
+
+  /**
+   * Waits for the first stats frame that carries a CPU reading, which Docker publishes about a
+   * second after the stream opens.
+   */
+  public static ContainerStats sample(
+      final GenericContainer<?> container, final Duration timeout) {
+    final CompletableFuture<ContainerStats> sample = new CompletableFuture<>();
+
+    final ContainerStatsStream stream =
+        new ContainerStatsStream(container, sample::complete, sample::completeExceptionally);
+
+    try {
+      return sample.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted sampling container stats", e);
+    } catch (final ExecutionException | TimeoutException e) {
+      throw new IllegalStateException(
+          "Failed to sample stats of container: " + container.getContainerId(), e);
+    } finally {
+      stream.close();
+    }
+  }
+
+  /**
+   * Open file descriptors of the container entry process, counted without a pipe so that failing
+   * to list them is not mistaken for none being open.
+   */
+  public static OptionalLong openFileDescriptors(final GenericContainer<?> container) {
+    return count(container, "set -- /proc/1/fd/*; [ -L \"$1\" ] && echo $#");
+  }
+
+  /** Size of the directory in bytes, from its disk usage in kilobytes. */
+  public static OptionalLong directorySize(
+      final GenericContainer<?> container, final String directory) {
+    final OptionalLong kilobytes = count(container, "du -sk " + directory + " | cut -f1");
+    return kilobytes.isPresent() ? OptionalLong.of(kilobytes.getAsLong() * 1024) : kilobytes;
+  }
+
+  private static OptionalLong count(final GenericContainer<?> container, final String command) {
+    try {
+      final ExecResult result = container.execInContainer("sh", "-c", command);
+      if (result.getExitCode() != 0) {
+        return OptionalLong.empty();
+      }
+      return OptionalLong.of(Long.parseLong(result.getStdout().trim()));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return OptionalLong.empty();
+    } catch (final IOException | RuntimeException e) {
+      return OptionalLong.empty();
+    }
+  }
+}
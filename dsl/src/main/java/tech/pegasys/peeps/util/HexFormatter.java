@@ -23,4 +23,8 @@ public class HexFormatter {
   public static String removeAnyHexPrefix(final String content) {
     return content.startsWith(PREFIX) ? content.substring(PREFIX.length()) : content;
   }
+
+  public static String hexQuantity(final long value) {
+    return PREFIX + Long.toHexString(value);
+  }
 }
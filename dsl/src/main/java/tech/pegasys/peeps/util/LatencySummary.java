@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.base.MoreObjects;
+
+/** Nearest-rank percentiles of a set of latencies. */
+public class LatencySummary {
+
+  private final List<Duration> sorted;
+
+  public LatencySummary(final Collection<Duration> latencies) {
+    final List<Duration> copy = new ArrayList<>(latencies);
+    Collections.sort(copy);
+    this.sorted = Collections.unmodifiableList(copy);
+  }
+
+  public int getCount() {
+    return sorted.size();
+  }
+
+  /**
+   * Latency below or at which the given percentage of the samples fall.
+   *
+   * @param percentile percentage in the range (0, 100].
+   * @return the nearest-rank latency, or zero when there are no samples.
+   */
+  public Duration percentile(final double percentile) {
+    checkArgument(percentile > 0 && percentile <= 100, "Percentile must be within (0, 100]");
+
+    if (sorted.isEmpty()) {
+      return Duration.ZERO;
+    }
+
+    final int rank = (int) Math.ceil(percentile / 100 * sorted.size());
+    return sorted.get(Math.max(rank, 1) - 1);
+  }
+
+  public Duration getMedian() {
+    return percentile(50);
+  }
+
+  public Duration getMax() {
+    return sorted.isEmpty() ? Duration.ZERO : sorted.get(sorted.size() - 1);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("count", getCount())
+        .add("p50", percentile(50).toMillis() + "ms")
+        .add("p90", percentile(90).toMillis() + "ms")
+        .add("p99", percentile(99).toMillis() + "ms")
+        .add("max", getMax().toMillis() + "ms")
+        .toString();
+  }
+}
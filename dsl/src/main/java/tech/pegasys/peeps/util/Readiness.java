@@ -0,0 +1,213 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import tech.pegasys.peeps.network.subnet.ContainerAddressing;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+/**
+ * Readiness of a container, by polling its JSON-RPC or upcheck endpoint over HTTP at a tight
+ * interval, rather than matching its log output or waiting on the default poll intervals.
+ *
+ * <p>The poll interval defaults to the system property peeps.readiness.interval in milliseconds.
+ *
+ * <p>Fails fast when the container stops before becoming ready, checking whether it still runs only
+ * after a refused connection and at most once a second, as each check is a Docker daemon request.
+ */
+public class Readiness extends AbstractWaitStrategy {
+
+  public static final String POLL_INTERVAL_PROPERTY = "peeps.readiness.interval";
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static final Duration DEFAULT_POLL_INTERVAL =
+      Duration.ofMillis(Long.getLong(POLL_INTERVAL_PROPERTY, 50));
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(2);
+  private static final Duration LIVENESS_INTERVAL = Duration.ofSeconds(1);
+  private static final int OK_STATUS_CODE = 200;
+
+  private final int port;
+  private final String path;
+  private final Optional<String> jsonRpcRequest;
+  private final Predicate<String> ready;
+
+  private Duration pollInterval = DEFAULT_POLL_INTERVAL;
+  private ContainerAddressing addressing = ContainerAddressing.mappedPorts();
+  private volatile Optional<String> response = Optional.empty();
+  private volatile Optional<Duration> latency = Optional.empty();
+
+  private Readiness(
+      final int port,
+      final String path,
+      final Optional<String> jsonRpcRequest,
+      final Predicate<String> ready) {
+    this.port = port;
+    this.path = path;
+    this.jsonRpcRequest = jsonRpcRequest;
+    this.ready = ready;
+  }
+
+  /**
+   * Ready once the JSON-RPC method, taking no parameters, returns a result.
+   *
+   * @param port container port of the HTTP JSON-RPC endpoint.
+   * @param method e.g. "admin_nodeInfo", with the response of the ready call kept for the caller.
+   */
+  public static Readiness jsonRpc(final int port, final String method) {
+    return new Readiness(
+        port,
+        "/",
+        Optional.of(
+            String.format(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"%s\",\"params\":[],\"id\":1}", method)),
+        Readiness::hasResult);
+  }
+
+  /**
+   * Ready once the path responds with the OK status code.
+   *
+   * @param port container port of the HTTP endpoint.
+   * @param path e.g. "/upcheck".
+   */
+  public static Readiness upcheck(final int port, final String path) {
+    return new Readiness(port, path, Optional.empty(), body -> true);
+  }
+
+  public Readiness withPollInterval(final Duration pollInterval) {
+    this.pollInterval = pollInterval;
+    return this;
+  }
+
+  /** Address to poll the container at, by default its port mapped onto the host. */
+  public Readiness withAddressing(final ContainerAddressing addressing) {
+    this.addressing = addressing;
+    return this;
+  }
+
+  /** Body of the response that found the container ready, from its most recent start. */
+  public Optional<String> response() {
+    return response;
+  }
+
+  /** Time from the wait starting until the container was ready, from its most recent start. */
+  public Optional<Duration> latency() {
+    return latency;
+  }
+
+  @Override
+  protected void waitUntilReady() {
+    response = Optional.empty();
+    latency = Optional.empty();
+
+    final URI endpoint =
+        URI.create(
+            String.format(
+                "http://%s:%d%s",
+                addressing.host(waitStrategyTarget),
+                addressing.port(waitStrategyTarget, port),
+                path));
+    final HttpClient client = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+    final HttpRequest request = request(endpoint);
+    final Instant start = Instant.now();
+    final Instant deadline = start.plus(startupTimeout);
+    Instant livenessChecked = start;
+
+    while (Instant.now().isBefore(deadline)) {
+      try {
+        final Optional<String> body = poll(client, request);
+        if (body.isPresent()) {
+          response = body;
+          latency = Optional.of(Duration.between(start, Instant.now()));
+          LOG.debug("{} ready after {}", endpoint, latency.get());
+          return;
+        }
+      } catch (final IOException e) {
+        // Not yet listening, or no longer running
+        if (Instant.now().isAfter(livenessChecked.plus(LIVENESS_INTERVAL))) {
+          livenessChecked = Instant.now();
+          verifyRunning();
+        }
+      }
+
+      try {
+        Thread.sleep(pollInterval.toMillis());
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ContainerLaunchException("Interrupted waiting for readiness of: " + endpoint);
+      }
+    }
+
+    throw new ContainerLaunchException(
+        String.format("Timed out after %s waiting for readiness of: %s", startupTimeout, endpoint));
+  }
+
+  private HttpRequest request(final URI endpoint) {
+    final HttpRequest.Builder request = HttpRequest.newBuilder(endpoint).timeout(REQUEST_TIMEOUT);
+    if (jsonRpcRequest.isEmpty()) {
+      return request.GET().build();
+    }
+
+    final BodyPublisher body = BodyPublishers.ofString(jsonRpcRequest.get());
+    return request.header("Content-Type", "application/json").POST(body).build();
+  }
+
+  private void verifyRunning() {
+    if (!waitStrategyTarget.isRunning()) {
+      throw new ContainerLaunchException(
+          "Container stopped before becoming ready: " + waitStrategyTarget.getContainerId());
+    }
+  }
+
+  private Optional<String> poll(final HttpClient client, final HttpRequest request)
+      throws IOException {
+    try {
+      final HttpResponse<String> polled = client.send(request, BodyHandlers.ofString());
+      return polled.statusCode() == OK_STATUS_CODE && ready.test(polled.body())
+          ? Optional.of(polled.body())
+          : Optional.empty();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ContainerLaunchException("Interrupted waiting for readiness of: " + request.uri());
+    }
+  }
+
+  static boolean hasResult(final String body) {
+    try {
+      final JsonNode json = MAPPER.readTree(body);
+      final JsonNode result = json == null ? null : json.get("result");
+      return result != null && !result.isNull();
+    } catch (final IOException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+/** Bounded and thread-safe buffer, evicting the oldest element to make room for the newest. */
+public class RingBuffer<T> {
+
+  private final int capacity;
+  private final ArrayDeque<T> elements;
+  private long evicted;
+
+  public RingBuffer(final int capacity) {
+    checkArgument(capacity > 0, "Ring buffer capacity must be positive");
+    this.capacity = capacity;
+    this.elements = new ArrayDeque<>(capacity);
+  }
+
+  public synchronized void add(final T element) {
+    if (elements.size() == capacity) {
+      elements.removeFirst();
+      evicted++;
+    }
+    elements.addLast(element);
+  }
+
+  /** Copy of the retained elements, oldest first. */
+  public synchronized List<T> snapshot() {
+    return List.copyOf(elements);
+  }
+
+  public synchronized int size() {
+    return elements.size();
+  }
+
+  /** Count of the elements dropped to stay within capacity. */
+  public synchronized long evicted() {
+    return evicted;
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+}
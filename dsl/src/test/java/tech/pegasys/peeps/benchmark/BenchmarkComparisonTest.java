@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.peeps.benchmark.MetricComparison.Status;
+import tech.pegasys.peeps.benchmark.MetricTolerance.Direction;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BenchmarkComparisonTest {
+
+  private static final String SCENARIO = "consensus-qbft-4-besu";
+
+  private final BenchmarkBaseline baseline =
+      new BenchmarkBaseline(
+          Map.of(
+              "finalityP90Ms", new MetricTolerance(Direction.LOWER_IS_BETTER, 0.2, 100),
+              "throughputTps", new MetricTolerance(Direction.HIGHER_IS_BETTER, 0.1, 1)),
+          List.of(result(Map.of("finalityP90Ms", 2000.0, "throughputTps", 20.0))));
+
+  @Test
+  public void slowerFinalityMustRegress() {
+    final BenchmarkComparison comparison =
+        new BenchmarkComparison(
+            baseline, List.of(result(Map.of("finalityP90Ms", 2500.0, "throughputTps", 20.0))));
+
+    assertThat(comparison.hasRegressions()).isTrue();
+    assertThat(comparison.getRegressions()).hasSize(1);
+    assertThat(comparison.getRegressions().get(0).getMetric()).isEqualTo("finalityP90Ms");
+    assertThat(comparison.report()).contains("REGRESSED").contains("+25.0%");
+  }
+
+  @Test
+  public void changeWithinToleranceMustBeUnchanged() {
+    final BenchmarkComparison comparison =
+        new BenchmarkComparison(
+            baseline, List.of(result(Map.of("finalityP90Ms", 2350.0, "throughputTps", 18.5))));
+
+    assertThat(comparison.hasRegressions()).isFalse();
+    assertThat(comparison.withStatus(Status.UNCHANGED)).hasSize(2);
+  }
+
+  @Test
+  public void higherThroughputMustImprove() {
+    final BenchmarkComparison comparison =
+        new BenchmarkComparison(
+            baseline, List.of(result(Map.of("finalityP90Ms", 2000.0, "throughputTps", 25.0))));
+
+    assertThat(comparison.withStatus(Status.IMPROVED)).hasSize(1);
+  }
+
+  @Test
+  public void noiseFloorMustAbsorbSmallAbsoluteChanges() {
+    final MetricTolerance tolerance = new MetricTolerance(Direction.LOWER_IS_BETTER, 0.1, 50);
+
+    assertThat(tolerance.allowance(100)).isEqualTo(50);
+    assertThat(tolerance.allowance(1000)).isEqualTo(100);
+  }
+
+  @Test
+  public void newAndMissingMetricsMustNotRegress() {
+    final BenchmarkComparison comparison =
+        new BenchmarkComparison(
+            baseline,
+            List.of(result(Map.of("throughputTps", 20.0, "blockTimeMeanMs", 900.0))));
+
+    assertThat(comparison.hasRegressions()).isFalse();
+    assertThat(comparison.withStatus(Status.MISSING)).hasSize(1);
+    assertThat(comparison.withStatus(Status.NEW)).hasSize(1);
+  }
+
+  @Test
+  public void missingScenarioMustFailGate() {
+    final BenchmarkComparison comparison =
+        new BenchmarkComparison(
+            baseline,
+            List.of(
+                new BenchmarkResult(
+                    "consensus-qbft-4-renamed",
+                    Map.of(),
+                    Map.of("finalityP90Ms", 2000.0, "throughputTps", 20.0))));
+
+    assertThat(comparison.hasRegressions()).isFalse();
+    assertThat(comparison.failures())
+        .containsExactly(
+            "2 baselined benchmark metrics were not measured: "
+                + "consensus-qbft-4-besu/finalityP90Ms, consensus-qbft-4-besu/throughputTps");
+  }
+
+  @Test
+  public void baselineWithoutResultsMustFailGate() {
+    final BenchmarkComparison comparison =
+        new BenchmarkComparison(
+            new BenchmarkBaseline(baseline.getTolerances(), List.of()),
+            List.of(result(Map.of("finalityP90Ms", 2000.0))));
+
+    assertThat(comparison.withStatus(Status.NEW)).hasSize(1);
+    assertThat(comparison.failures()).hasSize(1);
+    assertThat(comparison.failures().get(0)).contains("no results");
+  }
+
+  @Test
+  public void unchangedMetricsMustPassGate() {
+    final BenchmarkComparison comparison =
+        new BenchmarkComparison(
+            baseline, List.of(result(Map.of("finalityP90Ms", 2000.0, "throughputTps", 20.0))));
+
+    assertThat(comparison.failures()).isEmpty();
+  }
+
+  @Test
+  public void repeatedRunsMustReduceToMedian() {
+    final List<BenchmarkResult> medians =
+        new BenchmarkRuns(
+                List.of(
+                    result(Map.of("finalityP90Ms", 1900.0)),
+                    result(Map.of("finalityP90Ms", 9000.0)),
+                    result(Map.of("finalityP90Ms", 2100.0))))
+            .medians();
+
+    assertThat(medians).hasSize(1);
+    assertThat(medians.get(0).getMetrics()).containsEntry("finalityP90Ms", 2100.0);
+    assertThat(medians.get(0).getParameters()).containsEntry("runs", "3");
+  }
+
+  private static BenchmarkResult result(final Map<String, Double> metrics) {
+    return new BenchmarkResult(SCENARIO, Map.of(), metrics);
+  }
+}
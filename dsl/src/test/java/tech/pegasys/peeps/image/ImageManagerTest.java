@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ImageManagerTest {
+
+  private static final String DIGEST =
+      "sha256:4d3c8f0e2a1b5c6d7e8f9a0b1c2d3e4f5a6b7c8d9e0f1a2b3c4d5e6f7a8b9c0d";
+
+  @TempDir Path directory;
+
+  @Test
+  public void lockedImageMustBePinnedByDigest() {
+    final ImageManager images =
+        new ImageManager(false, new ImageLock(Map.of("hyperledger/besu:23.4.0", DIGEST)));
+
+    assertThat(images.image("hyperledger/besu:23.4.0").asCanonicalNameString())
+        .isEqualTo("hyperledger/besu@" + DIGEST);
+  }
+
+  @Test
+  public void unlockedImageMustKeepItsTag() {
+    final ImageManager images =
+        new ImageManager(true, new ImageLock(Map.of("hyperledger/besu:23.4.0", DIGEST)));
+
+    assertThat(images.image("quorumengineering/tessera:develop").asCanonicalNameString())
+        .isEqualTo("quorumengineering/tessera:develop");
+    assertThat(images.isOffline()).isTrue();
+  }
+
+  @Test
+  public void lockMustRoundTrip() {
+    final Path file = directory.resolve("images.lock.json");
+    new ImageLock(Map.of("hyperledger/besu:23.4.0", DIGEST)).write(file);
+
+    assertThat(ImageLock.read(file).getDigests())
+        .containsExactly(Map.entry("hyperledger/besu:23.4.0", DIGEST));
+  }
+
+  @Test
+  public void manifestMustIgnoreCommentsAndDuplicates() throws IOException {
+    final Path file = directory.resolve("images.manifest");
+    Files.write(
+        file,
+        List.of(
+            "# Suite images",
+            "hyperledger/besu:23.4.0",
+            "",
+            "  quorumengineering/tessera:21.7.2  ",
+            "hyperledger/besu:23.4.0"));
+
+    assertThat(ImageManifest.read(file).getImages())
+        .containsExactly("hyperledger/besu:23.4.0", "quorumengineering/tessera:21.7.2");
+  }
+
+  @Test
+  public void prewarmOfNoImagesMustBeEmpty() {
+    final ImagePrewarm prewarm = new ImageManager(true, new ImageLock(Map.of())).prewarm(List.of());
+
+    assertThat(prewarm.getResolutions()).isEmpty();
+  }
+}
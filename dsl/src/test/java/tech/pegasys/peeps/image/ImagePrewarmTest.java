@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import tech.pegasys.peeps.image.ImageResolution.Outcome;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ImagePrewarmTest {
+
+  @Test
+  public void summaryMustCountEachOutcome() {
+    final ImagePrewarm prewarm =
+        prewarm(
+            resolution("hyperledger/besu:23.4.0", Outcome.PULLED),
+            resolution("quorumengineering/quorum:21.7.1", Outcome.PRESENT),
+            resolution("quorumengineering/tessera:21.7.2", Outcome.CACHED));
+
+    assertThat(prewarm.verify()).isSameAs(prewarm);
+    assertThat(prewarm.summary())
+        .startsWith("Pre-warmed 3 images in 1200ms: 1 pulled, 1 present, 1 cached, 0 failed")
+        .contains("hyperledger/besu:23.4.0", "quorumengineering/tessera:21.7.2");
+  }
+
+  @Test
+  public void failedImageMustException() {
+    final ImagePrewarm prewarm =
+        prewarm(
+            resolution("hyperledger/besu:23.4.0", Outcome.PRESENT),
+            new ImageResolution(
+                "consensys/ethsigner:21.3.0",
+                Outcome.FAILED,
+                Duration.ofMillis(5),
+                Optional.of("offline mode forbids pulling it")));
+
+    assertThatThrownBy(prewarm::verify)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Failed to pre-warm 1 of 2 images")
+        .hasMessageContaining("consensys/ethsigner:21.3.0: offline mode forbids pulling it");
+  }
+
+  private ImagePrewarm prewarm(final ImageResolution... resolutions) {
+    return new ImagePrewarm(Instant.now(), Duration.ofMillis(1200), List.of(resolutions));
+  }
+
+  private ImageResolution resolution(final String image, final Outcome outcome) {
+    return new ImageResolution(image, outcome, Duration.ofMillis(100), Optional.empty());
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RpcClientTest {
+
+  private final Vertx vertx = Vertx.vertx();
+  private final RpcClient client =
+      new RpcClient(
+          vertx,
+          Duration.ofSeconds(1),
+          Duration.ofMillis(200),
+          LogManager.getLogger(),
+          Set.of()) {};
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    final CompletableFuture<HttpServer> listening = new CompletableFuture<>();
+
+    // Accepts requests but never responds, as a hung node would
+    vertx
+        .createHttpServer()
+        .requestHandler(request -> {})
+        .listen(
+            0,
+            server -> {
+              if (server.succeeded()) {
+                listening.complete(server.result());
+              } else {
+                listening.completeExceptionally(server.cause());
+              }
+            });
+
+    client.bind("node", "127.0.0.1", listening.get(10, TimeUnit.SECONDS).actualPort());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    client.close();
+    vertx.close();
+  }
+
+  @Test
+  public void unansweredRequestMustTimeout() {
+    final RequestBody body = RequestBody.of("eth_blockNumber", "{}".getBytes(UTF_8));
+
+    final CompletableFuture<String> response = client.postAsync("/", body, Buffer::toString);
+
+    assertThatThrownBy(() -> response.get(10, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(TimeoutException.class);
+    assertThat(client.statistics().snapshot().get("eth_blockNumber").getFailures()).isEqualTo(1);
+  }
+}
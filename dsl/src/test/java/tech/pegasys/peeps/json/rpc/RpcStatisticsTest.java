@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.peeps.json.rpc.RpcStatistics.Snapshot;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class RpcStatisticsTest {
+
+  private final RpcStatistics statistics = new RpcStatistics();
+
+  @Test
+  public void callsMustBeGroupedByLabel() {
+    statistics.record("eth_blockNumber", Duration.ofMillis(2).toNanos(), true);
+    statistics.record("eth_blockNumber", Duration.ofMillis(4).toNanos(), false);
+    statistics.record("admin_peers", Duration.ofMillis(1).toNanos(), true);
+
+    final Map<String, Snapshot> snapshot = statistics.snapshot();
+
+    assertThat(snapshot).containsOnlyKeys("admin_peers", "eth_blockNumber");
+    final Snapshot blockNumber = snapshot.get("eth_blockNumber");
+    assertThat(blockNumber.getCount()).isEqualTo(2);
+    assertThat(blockNumber.getFailures()).isEqualTo(1);
+    assertThat(blockNumber.getMeanLatency()).isEqualTo(Duration.ofMillis(3));
+    assertThat(blockNumber.getMaxLatency()).isEqualTo(Duration.ofMillis(4));
+  }
+
+  @Test
+  public void emptySnapshotMustHaveNoLabels() {
+    assertThat(statistics.snapshot()).isEmpty();
+  }
+
+  @Test
+  public void resetMustClearCalls() {
+    statistics.record("eth_blockNumber", 1, true);
+
+    statistics.reset();
+
+    assertThat(statistics.snapshot()).isEmpty();
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightTest {
+
+  private static final String KEY = "eth_blockNumber";
+
+  private final SingleFlight singleFlight = new SingleFlight();
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  public void concurrentCallersWithSameKeyMustShareOneCall() throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicReference<String> first = new AtomicReference<>();
+    final AtomicReference<String> second = new AtomicReference<>();
+
+    final Thread leader = new Thread(() -> first.set(blockingCall(release)));
+    leader.start();
+    awaitInFlight();
+
+    final Thread follower = new Thread(() -> second.set(blockingCall(release)));
+    follower.start();
+    awaitWaiting(follower);
+
+    release.countDown();
+    leader.join();
+    follower.join();
+
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(first.get()).isEqualTo("0x1");
+    assertThat(second.get()).isSameAs(first.get());
+    assertThat(singleFlight.inFlightCount()).isZero();
+  }
+
+  @Test
+  public void sequentialCallersWithSameKeyMustEachCall() {
+    singleFlight.execute(KEY, String.class, this::countedCall);
+    singleFlight.execute(KEY, String.class, this::countedCall);
+
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void failedCallMustReleaseKey() {
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            singleFlight.execute(
+                KEY,
+                String.class,
+                () -> {
+                  throw new IllegalStateException("No response");
+                }));
+
+    assertThat(singleFlight.inFlightCount()).isZero();
+    assertThat(singleFlight.execute(KEY, String.class, this::countedCall)).isEqualTo("0x1");
+  }
+
+  private String blockingCall(final CountDownLatch release) {
+    return singleFlight.execute(
+        KEY,
+        String.class,
+        () -> {
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return countedCall();
+        });
+  }
+
+  private String countedCall() {
+    calls.incrementAndGet();
+    return "0x1";
+  }
+
+  private void awaitInFlight() throws InterruptedException {
+    while (singleFlight.inFlightCount() == 0) {
+      Thread.sleep(5);
+    }
+  }
+
+  private void awaitWaiting(final Thread thread) throws InterruptedException {
+    while (thread.getState() != Thread.State.WAITING
+        && thread.getState() != Thread.State.TIMED_WAITING) {
+      Thread.sleep(5);
+    }
+  }
+}
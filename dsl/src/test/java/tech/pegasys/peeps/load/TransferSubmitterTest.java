@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.TransactionDecoder;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+
+public class TransferSubmitterTest {
+
+  private static final Credentials SENDER =
+      Credentials.create("8f2a55949038a9610f50fb23b5883af3b4ecb3c3bb792cbcefbd1542c692be63");
+  private static final String RECEIVER = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+
+  private final Web3j web3j = mock(Web3j.class);
+  private final ArgumentCaptor<String> sent = ArgumentCaptor.forClass(String.class);
+
+  private final TransferSubmitter transfers =
+      new TransferSubmitter(web3j, 2018, SENDER, RECEIVER, BigInteger.ZERO);
+
+  @Test
+  public void rejectionMustCountAndResyncNonce() throws IOException {
+    replies(rejection(), accepted());
+    pendingNonce(BigInteger.ZERO);
+
+    transfers.submit();
+    transfers.submit();
+
+    assertThat(nonces()).containsExactly(BigInteger.ZERO, BigInteger.ZERO);
+    assertThat(transfers.outstanding()).isEqualTo(1);
+
+    final LoadResult result = transfers.result(Instant.now());
+    assertThat(result.getSubmitted()).isEqualTo(2);
+    assertThat(result.getRejected()).isEqualTo(1);
+    assertThat(result.getFailed()).isZero();
+  }
+
+  @Test
+  public void sendErrorMustCountAsFailedAndStillBeIncluded() throws IOException {
+    replies(CompletableFuture.failedFuture(new IOException("Connection reset")), accepted());
+    pendingNonce(BigInteger.ONE);
+
+    transfers.submit();
+    assertThat(transfers.outstanding()).isZero();
+
+    transfers.submit();
+    transfers.included(Hash.sha3(sent.getAllValues().get(0)), Instant.now());
+
+    assertThat(nonces()).containsExactly(BigInteger.ZERO, BigInteger.ONE);
+
+    final LoadResult result = transfers.result(Instant.now());
+    assertThat(result.getSubmitted()).isEqualTo(2);
+    assertThat(result.getRejected()).isZero();
+    assertThat(result.getFailed()).isEqualTo(1);
+    assertThat(result.getIncluded()).isEqualTo(1);
+  }
+
+  @Test
+  public void failedNonceReadMustNotStopSubmission() throws IOException {
+    replies(rejection(), accepted());
+    final Request<?, EthGetTransactionCount> count = countRequest();
+    when(count.send()).thenThrow(new IOException("Connection refused")).thenReturn(count(3));
+
+    transfers.submit();
+    transfers.submit();
+    transfers.submit();
+
+    verify(count, times(2)).send();
+    assertThat(nonces()).containsExactly(BigInteger.ZERO, BigInteger.valueOf(3));
+    assertThat(transfers.result(Instant.now()).getSubmitted()).isEqualTo(2);
+  }
+
+  private void replies(
+      final CompletableFuture<EthSendTransaction> first,
+      final CompletableFuture<EthSendTransaction> then) {
+    @SuppressWarnings("unchecked")
+    final Request<?, EthSendTransaction> request = mock(Request.class);
+    when(request.sendAsync()).thenReturn(first).thenReturn(then);
+    doReturn(request).when(web3j).ethSendRawTransaction(sent.capture());
+  }
+
+  private void pendingNonce(final BigInteger nonce) throws IOException {
+    final Request<?, EthGetTransactionCount> request = countRequest();
+    when(request.send()).thenReturn(count(nonce.longValue()));
+  }
+
+  private Request<?, EthGetTransactionCount> countRequest() {
+    @SuppressWarnings("unchecked")
+    final Request<?, EthGetTransactionCount> request = mock(Request.class);
+    doReturn(request).when(web3j).ethGetTransactionCount(anyString(), any());
+    return request;
+  }
+
+  private List<BigInteger> nonces() {
+    return sent.getAllValues().stream()
+        .map(signed -> TransactionDecoder.decode(signed).getNonce())
+        .collect(Collectors.toList());
+  }
+
+  private static EthGetTransactionCount count(final long nonce) {
+    final EthGetTransactionCount count = new EthGetTransactionCount();
+    count.setResult("0x" + Long.toHexString(nonce));
+    return count;
+  }
+
+  private static CompletableFuture<EthSendTransaction> accepted() {
+    final EthSendTransaction reply = new EthSendTransaction();
+    reply.setResult("0x01");
+    return CompletableFuture.completedFuture(reply);
+  }
+
+  private static CompletableFuture<EthSendTransaction> rejection() {
+    final EthSendTransaction reply = new EthSendTransaction();
+    reply.setError(new Response.Error(-32000, "Nonce too low"));
+    return CompletableFuture.completedFuture(reply);
+  }
+}
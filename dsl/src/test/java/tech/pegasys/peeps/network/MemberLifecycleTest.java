@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class MemberLifecycleTest {
+
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger mostRunning = new AtomicInteger();
+  private final List<String> started = Collections.synchronizedList(new ArrayList<>());
+
+  @Test
+  public void concurrencyMustBeBounded() {
+    final List<NetworkMember> members =
+        IntStream.range(0, 12).mapToObj(i -> member("node-" + i)).collect(Collectors.toList());
+
+    final List<MemberTiming> timings = new MemberLifecycle(3, false).start(List.of(members));
+
+    assertThat(timings).hasSize(12);
+    assertThat(started).hasSize(12);
+    assertThat(mostRunning.get()).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  public void orderedStagesMustStartInTurn() {
+    new MemberLifecycle(8, true)
+        .start(
+            List.of(
+                List.of(member("privacy-0"), member("privacy-1")),
+                List.of(member("node-0"), member("node-1")),
+                List.of(member("signer-0"))));
+
+    assertThat(started.subList(0, 2)).containsExactlyInAnyOrder("privacy-0", "privacy-1");
+    assertThat(started.subList(2, 4)).containsExactlyInAnyOrder("node-0", "node-1");
+    assertThat(started.get(4)).isEqualTo("signer-0");
+  }
+
+  @Test
+  public void failedStageMustExceptionAndSkipLaterStages() {
+    final NetworkMember failing =
+        new NetworkMember() {
+          @Override
+          public void start() {
+            throw new IllegalStateException("Container failed to start");
+          }
+
+          @Override
+          public void stop() {}
+        };
+
+    final List<List<NetworkMember>> stages =
+        List.of(List.of(failing, member("privacy-0")), List.of(member("node-0")));
+
+    assertThatThrownBy(() -> new MemberLifecycle(2, true).start(stages))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Container failed to start");
+
+    assertThat(started).containsExactly("privacy-0");
+  }
+
+  @Test
+  public void releaseMustCollectContainersLeftRunning() {
+    final ContainerMember released = mock(ContainerMember.class);
+    final ContainerMember stopped = mock(ContainerMember.class);
+    final ContainerMember failing = mock(ContainerMember.class);
+    when(released.release()).thenReturn(Optional.of("container-0"));
+    when(stopped.release()).thenReturn(Optional.empty());
+    when(failing.release()).thenThrow(new IllegalStateException("Container failed to stop"));
+
+    final List<String> containers =
+        new MemberLifecycle(2, false).release(List.of(released, stopped, failing, member("x")));
+
+    assertThat(containers).containsExactly("container-0");
+  }
+
+  @Test
+  public void zeroConcurrencyMustException() {
+    assertThatThrownBy(() -> new MemberLifecycle(0, false))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Concurrency must be at least one");
+  }
+
+  private NetworkMember member(final String name) {
+    return new NetworkMember() {
+      @Override
+      public void start() {
+        mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(20);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        started.add(name);
+      }
+
+      @Override
+      public void stop() {}
+    };
+  }
+}
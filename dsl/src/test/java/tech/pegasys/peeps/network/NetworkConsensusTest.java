@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.peeps.network.subnet.Subnet;
+import tech.pegasys.peeps.node.Besu;
+import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.node.model.BlockHeader;
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.signer.rpc.SignerRpcMandatoryResponse;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Wei;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NetworkConsensusTest {
+
+  private static final long BLOCK = 5;
+  private static final Hash BLOCK_HASH = new Hash("0xb5");
+  private static final String STATE_ROOT =
+      "0xe9b8bf4b1c4b7c2d0bfcd0a6a1e5a3d1f0b4a9e1c7a1f6c2b8d3e5f0a1b2c3d4";
+  private static final Address ACCOUNT =
+      Address.fromHexString("0x627306090abab3a6e1400e9345bc60c78a8bef57");
+
+  @TempDir Path configurationDirectory;
+
+  private final SignerRpcMandatoryResponse alphaRpc = mock(SignerRpcMandatoryResponse.class);
+  private final SignerRpcMandatoryResponse betaRpc = mock(SignerRpcMandatoryResponse.class);
+
+  private Network network;
+
+  @BeforeEach
+  public void setUp() {
+    network = new Network(configurationDirectory, mock(Subnet.class));
+    network.addNode(node("alpha", alphaRpc));
+    network.addNode(node("beta", betaRpc));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    network.close();
+  }
+
+  @Test
+  public void stateRootsDifferingOnlyInCaseMustBeConsensus() {
+    stateRoot(alphaRpc, STATE_ROOT);
+    stateRoot(betaRpc, "0x" + STATE_ROOT.substring(2).toUpperCase(Locale.ROOT));
+
+    assertThatCode(() -> network.verifyConsensusOnState(BLOCK, ACCOUNT))
+        .doesNotThrowAnyException();
+    verify(alphaRpc, never()).getBalance(any(Address.class), anyLong());
+  }
+
+  @Test
+  public void divergentStateRootsMustReportNodesAndBalances() {
+    stateRoot(alphaRpc, STATE_ROOT);
+    stateRoot(betaRpc, STATE_ROOT.replace("0xe9", "0xe8"));
+    when(alphaRpc.getBalance(ACCOUNT, BLOCK)).thenReturn(Wei.valueOf(1));
+    when(betaRpc.getBalance(ACCOUNT, BLOCK)).thenReturn(Wei.valueOf(2));
+
+    assertThatThrownBy(() -> network.verifyConsensusOnState(BLOCK, ACCOUNT))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining("No consensus on state at block 5")
+        .hasMessageContaining("alpha: hash 0xb5, state root " + STATE_ROOT)
+        .hasMessageContaining("beta: hash 0xb5, state root 0xe8")
+        .hasMessageContaining("Account " + ACCOUNT + " balances: alpha=1, beta=2");
+  }
+
+  private static void stateRoot(final SignerRpcMandatoryResponse rpc, final String stateRoot) {
+    when(rpc.getBlockHeader(BLOCK))
+        .thenReturn(
+            new BlockHeader(BLOCK_HASH, null, "0x5", new Hash(stateRoot), null, null, null, null));
+  }
+
+  private static Web3Provider node(final String identity, final SignerRpcMandatoryResponse rpc) {
+    final Web3Provider node = mock(Besu.class);
+    when(node.identity()).thenReturn(identity);
+    when(node.rpc()).thenReturn(rpc);
+    return node;
+  }
+}
@@ -17,11 +17,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import tech.pegasys.peeps.network.subnet.Subnet;
 import tech.pegasys.peeps.node.Besu;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -117,4 +119,18 @@ public class NetworkTest {
     verify(node).stop();
     verifyNoMoreInteractions(node);
   }
+
+  @Test
+  public void fastTeardownMustReleaseNodeRatherThanStop() {
+    when(node.release()).thenReturn(Optional.empty());
+    network.enableFastTeardown();
+    network.addNode(node);
+    network.start();
+    network.close();
+
+    verify(node).awaitConnectivity(anyCollection());
+    verify(node).start();
+    verify(node).release();
+    verifyNoMoreInteractions(node);
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class PrometheusTextParserTest {
+
+  @Test
+  public void samplesMustBeParsedIgnoringComments() {
+    final String text =
+        "# HELP ethereum_peer_count Current number of peers connected\n"
+            + "# TYPE ethereum_peer_count gauge\n"
+            + "ethereum_peer_count 3.0\n"
+            + "\n"
+            + "chain_head_block 42 1617181920000\n";
+
+    assertThat(PrometheusTextParser.parse(text))
+        .containsExactly(
+            entry(new Metric("ethereum_peer_count"), 3.0),
+            entry(new Metric("chain_head_block"), 42.0));
+  }
+
+  @Test
+  public void labelsMustBeParsed() {
+    final String text =
+        "chain_inserts{quantile=\"0.5\"} 1.5e6\n"
+            + "besu_peers_disconnected_total"
+            + "{initiator=\"local\",reason=\"a \\\"quoted\\\", value\",} 2\n";
+
+    assertThat(PrometheusTextParser.parse(text))
+        .containsExactly(
+            entry(new Metric("chain_inserts", Map.of("quantile", "0.5")), 1.5e6),
+            entry(
+                new Metric(
+                    "besu_peers_disconnected_total",
+                    Map.of("initiator", "local", "reason", "a \"quoted\", value")),
+                2.0));
+  }
+
+  @Test
+  public void specialValuesMustBeParsed() {
+    final Map<Metric, Double> samples =
+        PrometheusTextParser.parse("a +Inf\nb -Inf\nc NaN\nd{le=\"+Inf\"} 7");
+
+    assertThat(samples.get(new Metric("a"))).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(samples.get(new Metric("b"))).isEqualTo(Double.NEGATIVE_INFINITY);
+    assertThat(samples.get(new Metric("c"))).isNaN();
+    assertThat(samples.get(new Metric("d", Map.of("le", "+Inf")))).isEqualTo(7.0);
+  }
+
+  @Test
+  public void selectorMustMatchSeriesHavingItsLabels() {
+    final Metric series = new Metric("txpool", Map.of("layer", "ready", "type", "local"));
+
+    assertThat(new Metric("txpool").selects(series)).isTrue();
+    assertThat(new Metric("txpool", Map.of("layer", "ready")).selects(series)).isTrue();
+    assertThat(new Metric("txpool", Map.of("layer", "sparse")).selects(series)).isFalse();
+    assertThat(new Metric("other").selects(series)).isFalse();
+  }
+
+  @Test
+  public void malformedSampleMustException() {
+    assertThatThrownBy(() -> PrometheusTextParser.parse("metric{label=\"unterminated} 1"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Malformed Prometheus sample");
+    assertThatThrownBy(() -> PrometheusTextParser.parse("metric not-a-number"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.monitor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.node.model.BlockHeader;
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.signer.rpc.SignerRpcMandatoryResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ChainMonitorTest {
+
+  private static final Hash GENESIS = new Hash("0xa1");
+  private static final Hash CANONICAL = new Hash("0xc1");
+  private static final Hash UNCLE = new Hash("0xd1");
+
+  private final SignerRpcMandatoryResponse alphaRpc = mock(SignerRpcMandatoryResponse.class);
+  private final SignerRpcMandatoryResponse betaRpc = mock(SignerRpcMandatoryResponse.class);
+  private final Web3Provider alpha = node("alpha", alphaRpc);
+  private final Web3Provider beta = node("beta", betaRpc);
+  private final ChainMonitor monitor =
+      new ChainMonitor(List.of(alpha, beta), Duration.ofSeconds(1), 16);
+
+  @AfterEach
+  public void tearDown() {
+    monitor.close();
+  }
+
+  @Test
+  public void reorgOntoSameChainMustClearFork() {
+    chain(alphaRpc, GENESIS, CANONICAL);
+    chain(betaRpc, GENESIS, UNCLE);
+    monitor.poll(alpha);
+    monitor.poll(beta);
+
+    assertThat(monitor.divergence()).isPresent();
+    assertThat(monitor.divergence().get().getBlockNumber()).isEqualTo(1);
+
+    chain(betaRpc, GENESIS, CANONICAL);
+    monitor.poll(beta);
+
+    assertThat(monitor.divergence()).isEmpty();
+  }
+
+  @Test
+  public void reorgOfIndexedBlockMustBeSeen() {
+    chain(alphaRpc, GENESIS, CANONICAL);
+    chain(betaRpc, GENESIS, CANONICAL);
+    monitor.poll(alpha);
+    monitor.poll(beta);
+
+    assertThat(monitor.divergence()).isEmpty();
+
+    chain(betaRpc, GENESIS, UNCLE);
+    monitor.poll(beta);
+
+    assertThat(monitor.divergence()).isPresent();
+    assertThat(monitor.divergence().get().getHashes()).containsEntry("beta", UNCLE);
+  }
+
+  private void chain(final SignerRpcMandatoryResponse rpc, final Hash... hashes) {
+    when(rpc.getBlockNumber()).thenReturn((long) hashes.length - 1);
+    for (int blockNumber = 0; blockNumber < hashes.length; blockNumber++) {
+      when(rpc.getBlockHeader(blockNumber)).thenReturn(header(hashes[blockNumber]));
+    }
+  }
+
+  private static BlockHeader header(final Hash hash) {
+    return new BlockHeader(hash, null, null, null, null, null, null, null);
+  }
+
+  private static Web3Provider node(final String identity, final SignerRpcMandatoryResponse rpc) {
+    final Web3Provider node = mock(Web3Provider.class);
+    when(node.identity()).thenReturn(identity);
+    when(node.rpc()).thenReturn(rpc);
+    return node;
+  }
+}
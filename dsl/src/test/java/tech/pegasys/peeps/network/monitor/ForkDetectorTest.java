@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.monitor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ForkDetectorTest {
+
+  private static final Hash CANONICAL = new Hash("0xc1");
+  private static final Hash UNCLE = new Hash("0xd1");
+
+  private final ForkDetector detector = new ForkDetector(8);
+
+  @Test
+  public void agreeingNodesMustNotFork() {
+    assertThat(detector.record("alpha", 1, CANONICAL)).isEmpty();
+    assertThat(detector.record("beta", 1, CANONICAL)).isEmpty();
+
+    assertThat(detector.divergence()).isEmpty();
+  }
+
+  @Test
+  public void disagreeingNodesMustFork() {
+    detector.record("alpha", 3, CANONICAL);
+
+    final Optional<Fork> fork = detector.record("beta", 3, UNCLE);
+
+    assertThat(fork).isPresent();
+    assertThat(fork.get().getBlockNumber()).isEqualTo(3);
+    assertThat(fork.get().getHashes()).containsEntry("alpha", CANONICAL);
+    assertThat(fork.get().getHashes()).containsEntry("beta", UNCLE);
+  }
+
+  @Test
+  public void divergenceMustBeLowestForkedBlock() {
+    detector.record("alpha", 5, CANONICAL);
+    detector.record("beta", 5, UNCLE);
+    detector.record("alpha", 4, CANONICAL);
+    detector.record("beta", 4, UNCLE);
+    detector.record("alpha", 6, CANONICAL);
+    detector.record("beta", 6, UNCLE);
+
+    assertThat(detector.divergence()).isPresent();
+    assertThat(detector.divergence().get().getBlockNumber()).isEqualTo(4);
+  }
+
+  @Test
+  public void resolvedForkMustClearDivergence() {
+    detector.record("alpha", 3, CANONICAL);
+    detector.record("beta", 3, UNCLE);
+
+    assertThat(detector.record("beta", 3, CANONICAL)).isEmpty();
+    assertThat(detector.divergence()).isEmpty();
+  }
+
+  @Test
+  public void blocksBeyondWindowMustNotBeCompared() {
+    detector.record("alpha", 1, CANONICAL);
+    for (long blockNumber = 2; blockNumber <= 9; blockNumber++) {
+      detector.record("alpha", blockNumber, CANONICAL);
+    }
+
+    assertThat(detector.record("beta", 1, UNCLE)).isEmpty();
+  }
+
+  @Test
+  public void forkBeyondWindowMustNoLongerDiverge() {
+    detector.record("alpha", 1, CANONICAL);
+    detector.record("beta", 1, UNCLE);
+    for (long blockNumber = 2; blockNumber <= 9; blockNumber++) {
+      detector.record("alpha", blockNumber, UNCLE);
+      detector.record("beta", blockNumber, CANONICAL);
+    }
+
+    assertThat(detector.divergence()).isPresent();
+    assertThat(detector.divergence().get().getBlockNumber()).isEqualTo(2);
+  }
+
+  @Test
+  public void chainIndexMustEvictOldestBlocks() {
+    final ChainIndex index = new ChainIndex(2);
+    index.put(1, CANONICAL);
+    index.put(2, CANONICAL);
+    index.put(3, UNCLE);
+
+    assertThat(index.size()).isEqualTo(2);
+    assertThat(index.hashAt(1)).isEmpty();
+    assertThat(index.hashAt(3)).contains(UNCLE);
+  }
+}
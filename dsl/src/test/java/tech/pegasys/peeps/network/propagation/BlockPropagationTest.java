@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.propagation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class BlockPropagationTest {
+
+  private static final Instant START = Instant.parse("2021-06-01T00:00:00Z");
+  private static final Hash BLOCK_ONE = new Hash("0xb1");
+  private static final Hash BLOCK_TWO = new Hash("0xb2");
+
+  private final BlockPropagation propagation =
+      new BlockPropagation(List.of("alpha", "beta", "gamma"));
+
+  @Test
+  public void spreadMustBeBetweenFirstAndLastSighting() {
+    record("alpha", 1, BLOCK_ONE, 0);
+    record("beta", 1, BLOCK_ONE, 40);
+    record("gamma", 1, BLOCK_ONE, 100);
+
+    final BlockPropagationReport report = propagation.report();
+
+    assertThat(report.getSpreadByBlock()).containsEntry(1L, Duration.ofMillis(100));
+    assertThat(report.getLagByNode().get("beta").getMax()).isEqualTo(Duration.ofMillis(40));
+    assertThat(report.getIncompleteBlockCount()).isZero();
+  }
+
+  @Test
+  public void laterSightingsMustBeIgnored() {
+    record("alpha", 1, BLOCK_ONE, 0);
+    record("beta", 1, BLOCK_ONE, 10);
+    record("gamma", 1, BLOCK_ONE, 20);
+    record("gamma", 1, BLOCK_ONE, 500);
+
+    assertThat(propagation.report().getSpreadByBlock()).containsEntry(1L, Duration.ofMillis(20));
+  }
+
+  @Test
+  public void blockNotSeenByEveryNodeMustBeIncomplete() {
+    record("alpha", 1, BLOCK_ONE, 0);
+    record("beta", 1, BLOCK_ONE, 10);
+
+    final BlockPropagationReport report = propagation.report();
+
+    assertThat(report.getSpreadByBlock()).isEmpty();
+    assertThat(report.getIncompleteBlockCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void nodeConsistentlyBehindMustBeSlow() {
+    record("alpha", 1, BLOCK_ONE, 0);
+    record("beta", 1, BLOCK_ONE, 5);
+    record("gamma", 1, BLOCK_ONE, 300);
+    record("beta", 2, BLOCK_TWO, 1000);
+    record("alpha", 2, BLOCK_TWO, 1010);
+    record("gamma", 2, BLOCK_TWO, 1250);
+
+    assertThat(propagation.report().slowNodes(Duration.ofMillis(200))).containsExactly("gamma");
+  }
+
+  private void record(
+      final String node, final long blockNumber, final Hash hash, final long offsetMillis) {
+    propagation.record(node, blockNumber, hash, START.plusMillis(offsetMillis));
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.propagation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.peeps.node.Web3ProviderType;
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class TransactionPropagationTest {
+
+  private static final Instant START = Instant.parse("2021-06-01T00:00:00Z");
+  private static final Hash TRANSACTION = new Hash("0xa1");
+
+  private final TransactionPropagation propagation =
+      new TransactionPropagation(
+          Map.of(
+              "alpha",
+              Web3ProviderType.BESU,
+              "beta",
+              Web3ProviderType.BESU,
+              "gamma",
+              Web3ProviderType.GOQUORUM));
+
+  @Test
+  public void latencyMustExcludeSubmittingNode() {
+    propagation.seen("alpha", TRANSACTION, START.plusMillis(2));
+    propagation.submitted("alpha", TRANSACTION, START);
+    propagation.seen("beta", TRANSACTION, START.plusMillis(30));
+    propagation.seen("gamma", TRANSACTION, START.plusMillis(80));
+
+    final TransactionPropagationReport report = propagation.report();
+
+    assertThat(report.getLatencyBySubmitter().get("alpha").getCount()).isEqualTo(2);
+    assertThat(report.getLatencyBySubmitter().get("alpha").getMax())
+        .isEqualTo(Duration.ofMillis(80));
+    assertThat(report.getLatencyByNodeType().get(Web3ProviderType.BESU).getMax())
+        .isEqualTo(Duration.ofMillis(30));
+    assertThat(report.getLatencyByNodeType().get(Web3ProviderType.GOQUORUM).getMax())
+        .isEqualTo(Duration.ofMillis(80));
+    assertThat(report.getMissingSightingCount()).isZero();
+  }
+
+  @Test
+  public void unseenTransactionMustBeMissing() {
+    propagation.submitted("alpha", TRANSACTION, START);
+    propagation.seen("beta", TRANSACTION, START.plusMillis(30));
+
+    final TransactionPropagationReport report = propagation.report();
+
+    assertThat(report.getMissingSightingCount()).isEqualTo(1);
+    assertThat(report.getLatencyByNodeType()).doesNotContainKey(Web3ProviderType.GOQUORUM);
+  }
+
+  @Test
+  public void unsubmittedTransactionMustBeIgnored() {
+    propagation.seen("beta", TRANSACTION, START);
+
+    assertThat(propagation.report().getTransactionCount()).isZero();
+    assertThat(propagation.report().getLatencyBySubmitter()).isEmpty();
+  }
+
+  @Test
+  public void longUnsubmittedSightingsMustBeEvicted() {
+    final TransactionPropagation retaining =
+        new TransactionPropagation(Map.of("alpha", Web3ProviderType.BESU), Duration.ofMinutes(1));
+    final Hash background = new Hash("0xb1");
+
+    retaining.seen("alpha", background, START);
+    retaining.seen("alpha", TRANSACTION, START.plusSeconds(30));
+    retaining.submitted("alpha", TRANSACTION, START.plusSeconds(29));
+    retaining.seen("alpha", new Hash("0xb2"), START.plusSeconds(61));
+
+    assertThat(retaining.sightingCount()).isEqualTo(2);
+
+    retaining.seen("alpha", new Hash("0xb3"), START.plusSeconds(125));
+
+    assertThat(retaining.sightingCount()).isEqualTo(2);
+  }
+}
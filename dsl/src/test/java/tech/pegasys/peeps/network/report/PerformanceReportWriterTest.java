@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.peeps.json.rpc.RpcStatistics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PerformanceReportWriterTest {
+
+  private static final Instant START = Instant.parse("2021-04-01T10:00:00Z");
+
+  @TempDir Path directory;
+
+  @Test
+  public void reportMustBeWrittenAsJsonAndHtml() throws IOException {
+    final Path json = new PerformanceReportWriter(directory).write(report("QbftTest-mustMine"));
+
+    assertThat(json).isEqualTo(directory.resolve("QbftTest-mustMine.json"));
+    assertThat(directory.resolve("QbftTest-mustMine.html")).exists();
+
+    final JsonNode written = new ObjectMapper().readTree(json.toFile());
+    assertThat(written.get("testName").asText()).isEqualTo("QbftTest-mustMine");
+    assertThat(written.get("members").get(0).get("image").asText())
+        .isEqualTo("hyperledger/besu:21.1.0");
+    assertThat(written.get("startup").get(0).get("durationMillis").asLong()).isEqualTo(1500);
+    assertThat(written.get("rpcCalls").get("node-0").get("eth_blockNumber").get("count").asLong())
+        .isEqualTo(2);
+    assertThat(written.get("waits").get("Failed to connect").get("failures").asLong())
+        .isEqualTo(1);
+    assertThat(written.has("blocks")).isFalse();
+    assertThat(
+            written.get("metrics").get("node-0").get("ethereum_peer_count").get(START.toString()))
+        .isNotNull();
+  }
+
+  @Test
+  public void htmlMustEscapeNames() throws IOException {
+    new PerformanceReportWriter(directory).write(report("<script>"));
+
+    final String html = Files.readString(directory.resolve("_script_.html"));
+
+    assertThat(html).contains("&lt;script&gt;").doesNotContain("<script>");
+    assertThat(html).contains("hyperledger/besu:21.1.0").contains("eth_blockNumber");
+  }
+
+  private PerformanceReport report(final String testName) {
+    final RpcStatistics rpc = new RpcStatistics();
+    rpc.record("eth_blockNumber", Duration.ofMillis(3).toNanos(), true);
+    rpc.record("eth_blockNumber", Duration.ofMillis(5).toNanos(), true);
+
+    final RpcStatistics waits = new RpcStatistics();
+    waits.record("Failed to connect", Duration.ofSeconds(60).toNanos(), false);
+
+    final SortedMap<String, CallSummary> nodeCalls = new TreeMap<>();
+    rpc.snapshot().forEach((method, calls) -> nodeCalls.put(method, new CallSummary(calls)));
+
+    final SortedMap<String, SortedMap<String, Double>> nodeMetrics = new TreeMap<>();
+    nodeMetrics.put("ethereum_peer_count", new TreeMap<>(Map.of(START.toString(), 3.0)));
+
+    return new PerformanceReport(
+        testName,
+        START,
+        List.of(new MemberSummary("node-0", "BESU", "hyperledger/besu:21.1.0")),
+        List.of(new StartupStep("node-0", START, Duration.ofMillis(1500))),
+        Map.of("node-0", nodeCalls),
+        Map.of(
+            "Failed to connect",
+            new CallSummary(waits.snapshot().get("Failed to connect"))),
+        null,
+        Map.of(),
+        Map.of("node-0", nodeMetrics));
+  }
+}
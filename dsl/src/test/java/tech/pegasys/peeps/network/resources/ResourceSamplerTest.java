@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.peeps.network.ContainerMember;
+import tech.pegasys.peeps.util.ContainerStats;
+import tech.pegasys.peeps.util.ContainerStatsStream;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ResourceSamplerTest {
+
+  private final ContainerMember member = mock(ContainerMember.class);
+  private final ContainerStatsStream first = mock(ContainerStatsStream.class);
+  private final ContainerStatsStream second = mock(ContainerStatsStream.class);
+  private final AtomicReference<Consumer<ContainerStats>> listener = new AtomicReference<>();
+  private final ResourceSampler sampler =
+      new ResourceSampler(Map.of("alpha", member), Duration.ofHours(1), 8);
+
+  @AfterEach
+  public void tearDown() {
+    sampler.close();
+  }
+
+  @Test
+  public void endedStreamMustBeReopened() {
+    streams(first, second);
+    sampler.start();
+    when(first.isEnded()).thenReturn(true);
+
+    sampler.sample();
+    listener.get().accept(stats());
+    sampler.sample();
+
+    verify(first).close();
+    verify(member, times(2)).statsStream(any());
+    assertThat(sampler.samples("alpha")).hasSize(1);
+  }
+
+  @Test
+  public void stoppedMemberMustBeRetriedEachInterval() {
+    when(member.statsStream(any()))
+        .thenThrow(new IllegalStateException("Container not running"))
+        .thenThrow(new IllegalStateException("Container not running"))
+        .thenAnswer(
+            invocation -> {
+              listener.set(invocation.getArgument(0));
+              return first;
+            });
+    sampler.start();
+
+    sampler.sample();
+    sampler.sample();
+    listener.get().accept(stats());
+    sampler.sample();
+
+    verify(member, times(3)).statsStream(any());
+    assertThat(sampler.samples("alpha")).hasSize(1);
+  }
+
+  private void streams(final ContainerStatsStream opened, final ContainerStatsStream reopened) {
+    when(member.statsStream(any()))
+        .thenAnswer(
+            invocation -> {
+              listener.set(invocation.getArgument(0));
+              return opened;
+            })
+        .thenAnswer(
+            invocation -> {
+              listener.set(invocation.getArgument(0));
+              return reopened;
+            });
+  }
+
+  private static ContainerStats stats() {
+    return new ContainerStats(Instant.now(), 12.5, 1024, 0, 0, 0, 0);
+  }
+}
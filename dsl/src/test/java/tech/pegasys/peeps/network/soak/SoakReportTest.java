@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.soak;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import tech.pegasys.peeps.load.LoadResult;
+import tech.pegasys.peeps.util.LatencySummary;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+public class SoakReportTest {
+
+  private static final Instant START = Instant.parse("2021-03-01T00:00:00Z");
+  private static final long MEGABYTE = 1024 * 1024;
+  private static final LoadResult LOAD =
+      new LoadResult(0, 0, 0, Duration.ofHours(2), new LatencySummary(List.of()));
+
+  @Test
+  public void memoryTrendMustBeGrowthPerHour() {
+    final SoakReport report = report(OptionalLong.empty(), OptionalLong.empty());
+
+    assertThat(report.getMemoryTrends().get("leaky").getSlopePerHour())
+        .isCloseTo(60 * MEGABYTE, within(1.0));
+    assertThat(report.getMemoryTrends().get("steady").getSlopePerHour()).isCloseTo(0, within(1.0));
+  }
+
+  @Test
+  public void nodesWithoutDataDirectorySizeMustHaveNoTrend() {
+    final SoakReport report = report(OptionalLong.empty(), OptionalLong.empty());
+
+    assertThat(report.getDataDirectoryTrends()).containsOnlyKeys("leaky");
+  }
+
+  @Test
+  public void growthWithinLimitsMustPass() {
+    report(OptionalLong.of(100 * MEGABYTE), OptionalLong.of(100 * MEGABYTE)).verifyWithinLimits();
+  }
+
+  @Test
+  public void growthBeyondLimitMustException() {
+    final SoakReport report = report(OptionalLong.of(10 * MEGABYTE), OptionalLong.empty());
+
+    assertThatThrownBy(report::verifyWithinLimits)
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining("Memory of leaky")
+        .hasMessageNotContaining("steady");
+  }
+
+  @Test
+  public void samplesMustBeWrittenInTimeOrder() {
+    final SoakReport report = report(OptionalLong.empty(), OptionalLong.empty());
+
+    assertThat(report.getSamples())
+        .isSortedAccordingTo(Comparator.comparing(SoakSample::getTimestamp));
+    assertThat(report.getSamples().get(0).toCsv()).endsWith(",0,4");
+  }
+
+  /** Over two hours, the leaky node grows a megabyte a minute while the steady node holds. */
+  private SoakReport report(
+      final OptionalLong maxMemoryGrowthPerHour, final OptionalLong maxDataGrowthPerHour) {
+    final List<SoakSample> samples = new ArrayList<>();
+
+    for (int minute = 120; minute >= 0; minute -= 10) {
+      final Instant timestamp = START.plus(Duration.ofMinutes(minute));
+      samples.add(
+          new SoakSample(
+              timestamp,
+              "leaky",
+              (200 + minute) * MEGABYTE,
+              50,
+              OptionalLong.of(300),
+              OptionalLong.of(minute * MEGABYTE),
+              minute * 6,
+              4));
+      samples.add(
+          new SoakSample(
+              timestamp,
+              "steady",
+              200 * MEGABYTE,
+              50,
+              OptionalLong.of(300),
+              OptionalLong.empty(),
+              minute * 6,
+              4));
+    }
+
+    return new SoakReport(samples, LOAD, maxMemoryGrowthPerHour, maxDataGrowthPerHour);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.subnet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.testcontainers.containers.ContainerState;
+
+@ExtendWith(MockitoExtension.class)
+public class ContainerAddressingTest {
+
+  @Mock private ContainerState container;
+
+  @Test
+  public void mappedPortsMustUseHostMapping() {
+    when(container.getHost()).thenReturn("localhost");
+    when(container.getMappedPort(8545)).thenReturn(49153);
+
+    final ContainerAddressing addressing =
+        ContainerAddressing.of(false, new SubnetAddress("172.20.0.5"));
+
+    assertThat(addressing.isDirect()).isFalse();
+    assertThat(addressing.host(container)).isEqualTo("localhost");
+    assertThat(addressing.port(container, 8545)).isEqualTo(49153);
+  }
+
+  @Test
+  public void directMustUseSubnetAddressAndInternalPort() {
+    final ContainerAddressing addressing =
+        ContainerAddressing.of(true, new SubnetAddress("172.20.0.5"));
+
+    assertThat(addressing.isDirect()).isTrue();
+    assertThat(addressing.host(container)).isEqualTo("172.20.0.5");
+    assertThat(addressing.port(container, 8545)).isEqualTo(8545);
+    verifyNoInteractions(container);
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.teardown;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.RemoveContainerCmd;
+import com.github.dockerjava.api.exception.InternalServerErrorException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ContainerReaperTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private final DockerClient docker = mock(DockerClient.class);
+  private final RemoveContainerCmd remove = mock(RemoveContainerCmd.class, RETURNS_SELF);
+  private final ContainerReaper reaper = new ContainerReaper(docker);
+  private final AtomicBoolean networkClosed = new AtomicBoolean();
+
+  @BeforeEach
+  public void setUp() {
+    when(docker.removeContainerCmd("node-0")).thenReturn(remove);
+    when(docker.removeContainerCmd("node-1")).thenReturn(remove);
+  }
+
+  @Test
+  public void containersMustBeForceRemovedWithVolumes() throws Exception {
+    reaper.reap(List.of("node-0", "node-1"), this::closeNetwork).get(10, TimeUnit.SECONDS);
+
+    verify(docker).removeContainerCmd("node-0");
+    verify(docker).removeContainerCmd("node-1");
+    verify(remove, times(2)).withForce(true);
+    verify(remove, times(2)).withRemoveVolumes(true);
+    verify(remove, times(2)).exec();
+    assertThat(networkClosed).isTrue();
+  }
+
+  @Test
+  public void alreadyRemovedContainerMustBeIgnored() throws Exception {
+    when(remove.exec()).thenThrow(new NotFoundException("No such container: node-0"));
+
+    final CompletableFuture<Void> teardown = reaper.reap(List.of("node-0"), this::closeNetwork);
+
+    teardown.get(10, TimeUnit.SECONDS);
+    assertThat(teardown).isCompleted();
+    assertThat(networkClosed).isTrue();
+  }
+
+  @Test
+  public void afterwardsMustRunWhenRemovalFails() throws Exception {
+    when(remove.exec())
+        .thenThrow(new InternalServerErrorException("Could not kill running container"))
+        .thenReturn(null);
+
+    reaper.reap(List.of("node-0", "node-1"), this::closeNetwork).get(10, TimeUnit.SECONDS);
+
+    verify(remove, times(2)).exec();
+    assertThat(networkClosed).isTrue();
+  }
+
+  @Test
+  public void awaitPendingMustBlockUntilTeardownCompletes() throws Exception {
+    final CountDownLatch removing = new CountDownLatch(1);
+    when(remove.exec())
+        .thenAnswer(
+            invocation -> {
+              removing.await();
+              return null;
+            });
+    reaper.reap(List.of("node-0"), this::closeNetwork);
+
+    final CompletableFuture<Void> awaiting =
+        CompletableFuture.runAsync(() -> reaper.awaitPending(TIMEOUT));
+
+    Thread.sleep(200);
+    assertThat(awaiting).isNotDone();
+    assertThat(networkClosed).isFalse();
+
+    removing.countDown();
+    awaiting.get(10, TimeUnit.SECONDS);
+    assertThat(networkClosed).isTrue();
+  }
+
+  @Test
+  public void exitMustAwaitTeardownStartedByExitAction() {
+    final CountDownLatch removing = new CountDownLatch(1);
+    when(remove.exec())
+        .thenAnswer(
+            invocation -> {
+              removing.await(200, TimeUnit.MILLISECONDS);
+              return null;
+            });
+    reaper.beforeExit(() -> reaper.reap(List.of("node-0"), this::closeNetwork));
+
+    reaper.exit();
+
+    assertThat(networkClosed).isTrue();
+  }
+
+  @Test
+  public void removedExitActionMustNotRun() {
+    final Runnable closeOnExit = this::closeNetwork;
+    reaper.beforeExit(closeOnExit);
+    reaper.removeBeforeExit(closeOnExit);
+
+    reaper.exit();
+
+    assertThat(networkClosed).isFalse();
+  }
+
+  private void closeNetwork() {
+    networkClosed.set(true);
+  }
+}
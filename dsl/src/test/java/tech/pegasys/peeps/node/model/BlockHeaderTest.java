@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import tech.pegasys.peeps.json.Json;
+import tech.pegasys.peeps.node.rpc.eth.GetBlockResponse;
+
+import java.util.Locale;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import org.apache.tuweni.eth.Address;
+import org.junit.jupiter.api.Test;
+
+public class BlockHeaderTest {
+
+  private static final String STATE_ROOT =
+      "0xe9b8bf4b1c4b7c2d0bfcd0a6a1e5a3d1f0b4a9e1c7a1f6c2b8d3e5f0a1b2c3d4";
+
+  private static final String BLOCK =
+      "{\"difficulty\":\"0x1\",\"gasLimit\":\"0x1fffffffffffff\",\"gasUsed\":\"0x5208\","
+          + "\"hash\":\"0xb2\",\"logsBloom\":\"0x00\","
+          + "\"miner\":\"0x627306090abab3a6e1400e9345bc60c78a8bef57\","
+          + "\"number\":\"0x2a\",\"parentHash\":\"0xb1\",\"stateRoot\":\""
+          + STATE_ROOT
+          + "\",\"timestamp\":\"0x60a3b1c0\","
+          + "\"transactions\":[{\"hash\":\"0xa1\",\"input\":{\"nested\":[1]}}],\"uncles\":[]}";
+
+  @Test
+  public void mustDecodeHeaderSkippingTransactions() {
+    final BlockHeader header = decode(BLOCK);
+
+    assertThat(header.getHash()).isEqualTo(new Hash("0xb2"));
+    assertThat(header.getParentHash()).isEqualTo(new Hash("0xb1"));
+    assertThat(header.getNumber()).isEqualTo(42);
+    assertThat(header.getStateRoot()).isEqualTo(new Hash(STATE_ROOT));
+    assertThat(header.getMiner())
+        .isEqualTo(Address.fromHexString("0x627306090abab3a6e1400e9345bc60c78a8bef57"));
+    assertThat(header.getTimestamp()).isEqualTo(0x60a3b1c0L);
+    assertThat(header.getGasUsed()).isEqualTo(21000);
+    assertThat(header.getGasLimit()).isEqualTo(0x1fffffffffffffL);
+  }
+
+  @Test
+  public void missingStateRootMustException() {
+    final String withoutStateRoot = BLOCK.replace("\"stateRoot\":\"" + STATE_ROOT + "\",", "");
+
+    final Exception exception =
+        assertThrows(DecodeException.class, () -> decode(withoutStateRoot));
+
+    assertThat(exception.getMessage()).contains("'stateRoot'");
+  }
+
+  @Test
+  public void stateRootMustEqualRegardlessOfCase() {
+    final String upperCaseStateRoot = "0x" + STATE_ROOT.substring(2).toUpperCase(Locale.ROOT);
+    final BlockHeader upperCase = decode(BLOCK.replace(STATE_ROOT, upperCaseStateRoot));
+
+    assertThat(upperCase.getStateRoot()).isEqualTo(decode(BLOCK).getStateRoot());
+    assertThat(upperCase.getStateRoot().hashCode())
+        .isEqualTo(decode(BLOCK).getStateRoot().hashCode());
+  }
+
+  private BlockHeader decode(final String block) {
+    return Json.decode(
+            Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":" + block + "}"),
+            GetBlockResponse.class)
+        .getResult()
+        .orElseThrow();
+  }
+}
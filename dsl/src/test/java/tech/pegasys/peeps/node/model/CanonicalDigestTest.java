@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class CanonicalDigestTest {
+
+  @Test
+  public void valuesMustNotMergeAcrossElements() {
+    final String[] one = {"0xa1,0xb2"};
+    final String[] two = {"0xa1", "0xb2"};
+
+    assertThat(new CanonicalDigest().withEach("logs", one).digest())
+        .isNotEqualTo(new CanonicalDigest().withEach("logs", two).digest());
+  }
+
+  @Test
+  public void emptyElementsMustBeCounted() {
+    final String[] one = {""};
+    final String[] none = {};
+
+    assertThat(new CanonicalDigest().withEach("logs", one).digest())
+        .isNotEqualTo(new CanonicalDigest().withEach("logs", none).digest());
+  }
+
+  @Test
+  public void elementsMustDigestRegardlessOfHexCase() {
+    final String[] lower = {"0xa1", "0xb2"};
+    final String[] upper = {"0xA1", "0xB2"};
+
+    assertThat(new CanonicalDigest().withEach("logs", upper).digest())
+        .isEqualTo(new CanonicalDigest().withEach("logs", lower).digest());
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import tech.pegasys.peeps.json.Json;
+import tech.pegasys.peeps.node.rpc.eth.GetTransactionReceiptResponse;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Gas;
+import org.junit.jupiter.api.Test;
+
+public class TransactionReceiptTest {
+
+  private static final String RECEIPT =
+      "{\"blockHash\":\"0xb1\",\"blockNumber\":\"0x2a\",\"contractAddress\":null,"
+          + "\"cumulativeGasUsed\":\"0x5208\","
+          + "\"from\":\"0xfe3b557e8fb62b89f4916b721be55ceb828dbd73\","
+          + "\"gasUsed\":\"0x5208\",\"logs\":[{\"topics\":[\"0x01\"],\"data\":{\"nested\":[1]}}],"
+          + "\"logsBloom\":\"0x00\",\"status\":\"0x1\","
+          + "\"to\":\"0x627306090abab3a6e1400e9345bc60c78a8bef57\","
+          + "\"transactionHash\":\"0xa1\",\"transactionIndex\":\"0x0\"}";
+
+  @Test
+  public void mustDecodeReceiptSkippingLogs() {
+    final TransactionReceipt receipt = decode(RECEIPT);
+
+    assertThat(receipt.getBlockHash()).isEqualTo(new Hash("0xb1"));
+    assertThat(receipt.getTransactionHash()).isEqualTo(new Hash("0xa1"));
+    assertThat(receipt.getBlockNumber()).isEqualTo("0x2a");
+    assertThat(receipt.getSender())
+        .isEqualTo(Address.fromHexString("0xfe3b557e8fb62b89f4916b721be55ceb828dbd73"));
+    assertThat(receipt.getRecipient())
+        .contains(Address.fromHexString("0x627306090abab3a6e1400e9345bc60c78a8bef57"));
+    assertThat(receipt.getContractAddress()).isEmpty();
+    assertThat(receipt.getGasUsed()).isEqualTo(Gas.valueOf(21000));
+    assertThat(receipt.isSuccess()).isTrue();
+  }
+
+  @Test
+  public void missingStatusMustException() {
+    final String withoutStatus = RECEIPT.replace("\"status\":\"0x1\",", "");
+
+    final Exception exception = assertThrows(DecodeException.class, () -> decode(withoutStatus));
+
+    assertThat(exception.getMessage()).contains("'status'");
+  }
+
+  @Test
+  public void sameContentMustHaveSameDigest() {
+    final String reordered =
+        RECEIPT
+            .replace("\"status\":\"0x1\",", "")
+            .replace("{\"blockHash\"", "{\"status\":\"0x1\",\"blockHash\"")
+            .replace(
+                "0xfe3b557e8fb62b89f4916b721be55ceb828dbd73",
+                "0xFE3B557E8FB62B89F4916B721BE55CEB828DBD73");
+
+    assertThat(decode(reordered).getDigest()).isEqualTo(decode(RECEIPT).getDigest());
+  }
+
+  @Test
+  public void differentContentMustHaveDifferentDigest() {
+    final String otherBlock =
+        RECEIPT.replace("\"blockNumber\":\"0x2a\"", "\"blockNumber\":\"0x2b\"");
+
+    assertThat(decode(otherBlock).getDigest()).isNotEqualTo(decode(RECEIPT).getDigest());
+  }
+
+  @Test
+  public void nullResultMustBeEmpty() {
+    final GetTransactionReceiptResponse response =
+        Json.decode(
+            Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":null}"),
+            GetTransactionReceiptResponse.class);
+
+    assertThat(response.getResult()).isEmpty();
+  }
+
+  private TransactionReceipt decode(final String receipt) {
+    return Json.decode(
+            Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":" + receipt + "}"),
+            GetTransactionReceiptResponse.class)
+        .getResult()
+        .orElseThrow();
+  }
+}
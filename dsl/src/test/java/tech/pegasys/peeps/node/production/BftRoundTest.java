@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.production;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.rlp.RLP;
+import org.junit.jupiter.api.Test;
+
+public class BftRoundTest {
+
+  @Test
+  public void roundMustBeDecodedFromBftExtraData() {
+    final Bytes extraData =
+        RLP.encodeList(
+            writer -> {
+              writer.writeValue(Bytes.wrap(new byte[32]));
+              writer.writeList(validators -> validators.writeValue(Bytes.fromHexString("0x01")));
+              writer.writeList(vote -> {});
+              writer.writeValue(Bytes.ofUnsignedInt(2));
+              writer.writeList(seals -> {});
+            });
+
+    assertThat(BftRound.of(extraData)).hasValue(2);
+  }
+
+  @Test
+  public void cliqueExtraDataMustHaveNoRound() {
+    final Bytes extraData = Bytes.concatenate(Bytes.wrap(new byte[32]), Bytes.wrap(new byte[85]));
+
+    assertThat(BftRound.of(extraData)).isEmpty();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.production;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+public class BlockProductionStatisticsTest {
+
+  private static final long GAS_LIMIT = 0x29B92700L;
+  private static final String ALPHA = "0x01";
+  private static final String BETA = "0x02";
+
+  private final BlockProductionStatistics statistics = new BlockProductionStatistics();
+
+  @Test
+  public void blockTimesMustBeFromConsecutiveBlocks() {
+    statistics.add(block(1, 100, 0, ALPHA));
+    statistics.add(block(3, 104, 0, ALPHA));
+    statistics.add(block(2, 102, 0, BETA));
+    statistics.add(block(4, 108, 0, BETA));
+    statistics.add(block(7, 200, 0, BETA));
+
+    assertThat(statistics.getMeanBlockTime()).isEqualTo(Duration.ofMillis(2667));
+    assertThat(statistics.getMaxBlockTime()).isEqualTo(Duration.ofSeconds(4));
+    assertThat(statistics.getBlockTimeJitter()).isEqualTo(Duration.ofMillis(943));
+  }
+
+  @Test
+  public void blockContentMustBeSummarised() {
+    statistics.add(block(1, 100, 0, ALPHA));
+    statistics.add(block(2, 101, 3, BETA));
+    statistics.add(block(3, 102, 1, ALPHA));
+    statistics.add(block(4, 103, 0, ALPHA));
+
+    assertThat(statistics.getEmptyBlockRatio()).isEqualTo(0.5);
+    assertThat(statistics.getMeanTransactionsPerBlock()).isEqualTo(1.0);
+    assertThat(statistics.getMaxTransactionsPerBlock()).isEqualTo(3);
+    assertThat(statistics.getGasUtilisation()).isEqualTo(4 * 21000d / (4 * GAS_LIMIT));
+    assertThat(statistics.getProposerDistribution())
+        .containsEntry(ALPHA, 3L)
+        .containsEntry(BETA, 1L);
+  }
+
+  @Test
+  public void csvMustHaveLinePerBlock() {
+    statistics.add(block(2, 101, 3, BETA));
+    statistics.add(block(1, 100, 0, ALPHA));
+
+    assertThat(statistics.toCsv())
+        .isEqualTo(
+            "number,timestamp,transactions,gasUsed,gasLimit,proposer,round\n"
+                + "1,100,0,0,700000000,0x01,0\n"
+                + "2,101,3,63000,700000000,0x02,0\n");
+  }
+
+  @Test
+  public void roundChangesMustBeOfBlocksWithKnownRound() {
+    statistics.add(new BlockSample(1, 100, 0, 0, GAS_LIMIT, ALPHA, OptionalInt.of(0)));
+    statistics.add(new BlockSample(2, 104, 0, 0, GAS_LIMIT, BETA, OptionalInt.of(2)));
+    statistics.add(new BlockSample(3, 105, 0, 0, GAS_LIMIT, ALPHA, OptionalInt.empty()));
+
+    assertThat(statistics.getRoundChangeBlockCount()).isEqualTo(1);
+    assertThat(statistics.getRoundChangeRatio()).isEqualTo(0.5);
+  }
+
+  private BlockSample block(
+      final long number, final long timestamp, final int transactions, final String proposer) {
+    return new BlockSample(
+        number,
+        timestamp,
+        transactions,
+        transactions * 21000L,
+        GAS_LIMIT,
+        proposer,
+        OptionalInt.of(0));
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.verification;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.apache.tuweni.units.ethereum.Wei;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetBalance;
+import org.web3j.utils.Numeric;
+
+public class BlockRewardVerifierTest {
+
+  private static final String VALIDATOR = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+  private static final Wei REWARD = Wei.valueOf(2);
+
+  private final Web3jService service = mock(Web3jService.class);
+  private final Map<Long, Long> balanceAtBlock = new HashMap<>();
+
+  @BeforeEach
+  public void setUp() {
+    for (long block = 0; block < 5; block++) {
+      balanceAtBlock.put(block, block * REWARD.toLong());
+    }
+
+    when(service.sendBatchAsync(any(BatchRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              final BatchRequest batch = invocation.getArgument(0);
+              final List<Response<?>> responses =
+                  batch.getRequests().stream().map(this::respond).collect(Collectors.toList());
+              final BatchResponse response = mock(BatchResponse.class);
+              doReturn(responses).when(response).getResponses();
+              return CompletableFuture.completedFuture(response);
+            });
+  }
+
+  @Test
+  public void rewardedValidatorsMustPass() {
+    assertThatCode(() -> verifier().validatorsRewarded(1, 5, REWARD)).doesNotThrowAnyException();
+  }
+
+  @Test
+  public void mismatchedRewardMustReportBlock() {
+    balanceAtBlock.put(3L, balanceAtBlock.get(3L) + 1);
+
+    assertThatThrownBy(() -> verifier().validatorsRewarded(1, 5, REWARD))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining("Block rewards failed for 2 of 4 blocks")
+        .hasMessageContaining(failure(3, 3))
+        .hasMessageContaining(failure(4, 1));
+  }
+
+  private String failure(final long block, final long change) {
+    return String.format(
+        "Block %s: balance of validator %s changed by %s, expected block reward %s",
+        block, VALIDATOR, change, REWARD.toLong());
+  }
+
+  private BlockRewardVerifier verifier() {
+    return new BlockRewardVerifier(Web3j.build(service));
+  }
+
+  private Response<?> respond(final Request<?, ?> request) {
+    if ("eth_getBlockByNumber".equals(request.getMethod())) {
+      final EthBlock.Block block = new EthBlock.Block();
+      block.setMiner(VALIDATOR);
+      final EthBlock response = new EthBlock();
+      response.setResult(block);
+      return response;
+    }
+
+    final DefaultBlockParameter block = (DefaultBlockParameter) request.getParams().get(1);
+    final long number = Numeric.toBigInt(block.getValue()).longValueExact();
+    final EthGetBalance response = new EthGetBalance();
+    final BigInteger balance = BigInteger.valueOf(balanceAtBlock.get(number));
+    response.setResult(Numeric.toHexStringWithPrefix(balance));
+    return response;
+  }
+}
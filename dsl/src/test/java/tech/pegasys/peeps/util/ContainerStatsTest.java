@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.model.Statistics;
+import org.junit.jupiter.api.Test;
+
+public class ContainerStatsTest {
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private static final String FRAME =
+      "{\"cpu_stats\":{\"cpu_usage\":{\"total_usage\":%s},\"system_cpu_usage\":%s,"
+          + "\"online_cpus\":4},"
+          + "\"precpu_stats\":{\"cpu_usage\":{\"total_usage\":1000},\"system_cpu_usage\":%s},"
+          + "\"memory_stats\":{\"usage\":9000,\"stats\":{%s}},"
+          + "\"networks\":{\"eth0\":{\"rx_bytes\":100,\"tx_bytes\":200},"
+          + "\"eth1\":{\"rx_bytes\":10,\"tx_bytes\":20}},"
+          + "\"blkio_stats\":{\"io_service_bytes_recursive\":["
+          + "{\"major\":8,\"minor\":0,\"op\":\"Read\",\"value\":300},"
+          + "{\"major\":8,\"minor\":0,\"op\":\"Write\",\"value\":400},"
+          + "{\"major\":8,\"minor\":0,\"op\":\"Total\",\"value\":700}]}}";
+
+  @Test
+  public void statsMustBeReadFromFrame() throws Exception {
+    final Optional<ContainerStats> stats =
+        ContainerStats.of(frame(1500, 20000, 10000), Instant.EPOCH);
+
+    assertThat(stats).isPresent();
+    // 500 of 10000 system ticks across 4 cores
+    assertThat(stats.get().getCpuPercent()).isCloseTo(20, within(0.001));
+    assertThat(stats.get().getMemoryBytes()).isEqualTo(5000);
+    assertThat(stats.get().getNetworkReceivedBytes()).isEqualTo(110);
+    assertThat(stats.get().getNetworkTransmittedBytes()).isEqualTo(220);
+    assertThat(stats.get().getBlockReadBytes()).isEqualTo(300);
+    assertThat(stats.get().getBlockWrittenBytes()).isEqualTo(400);
+  }
+
+  @Test
+  public void memoryWithoutRssMustExcludePageCache() throws Exception {
+    assertThat(memory("\"inactive_file\":3000,\"active_file\":1000")).isEqualTo(6000);
+    assertThat(memory("\"cache\":4000")).isEqualTo(5000);
+    assertThat(memory("")).isEqualTo(9000);
+  }
+
+  @Test
+  public void firstFrameWithoutPreviousCpuReadingMustBeSkipped() throws Exception {
+    assertThat(ContainerStats.of(frame(1500, 20000, 0), Instant.EPOCH)).isEmpty();
+  }
+
+  private long memory(final String memoryStats) throws Exception {
+    return ContainerStats.of(frame(1500, 20000, 10000, memoryStats), Instant.EPOCH)
+        .orElseThrow()
+        .getMemoryBytes();
+  }
+
+  private Statistics frame(
+      final long totalUsage, final long systemUsage, final long previousSystemUsage)
+      throws Exception {
+    return frame(totalUsage, systemUsage, previousSystemUsage, "\"rss\":5000");
+  }
+
+  private Statistics frame(
+      final long totalUsage,
+      final long systemUsage,
+      final long previousSystemUsage,
+      final String memoryStats)
+      throws Exception {
+    return MAPPER.readValue(
+        String.format(FRAME, totalUsage, systemUsage, previousSystemUsage, memoryStats),
+        Statistics.class);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
+
+public class ReadinessTest {
+
+  private final WaitStrategyTarget container = mock(WaitStrategyTarget.class);
+
+  @Test
+  public void refusedConnectionsMustNotInspectContainerEveryPoll() throws IOException {
+    listeningOnNothing();
+    when(container.isRunning()).thenReturn(true);
+
+    assertThatThrownBy(() -> readiness(Duration.ofMillis(300)).waitUntilReady(container))
+        .isInstanceOf(ContainerLaunchException.class)
+        .hasMessageStartingWith("Timed out");
+
+    verify(container, never()).isRunning();
+  }
+
+  @Test
+  public void stoppedContainerMustException() throws IOException {
+    listeningOnNothing();
+    when(container.isRunning()).thenReturn(false);
+
+    assertThatThrownBy(() -> readiness(Duration.ofSeconds(30)).waitUntilReady(container))
+        .isInstanceOf(ContainerLaunchException.class)
+        .hasMessageStartingWith("Container stopped before becoming ready");
+  }
+
+  @Test
+  public void resultMustBeReady() {
+    assertThat(
+            Readiness.hasResult(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"enode\":\"enode://a@b:30303\"}}"))
+        .isTrue();
+  }
+
+  @Test
+  public void errorMustNotBeReady() {
+    assertThat(
+            Readiness.hasResult(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-32601,\"message\":\"x\"}}"))
+        .isFalse();
+  }
+
+  @Test
+  public void nullResultMustNotBeReady() {
+    assertThat(Readiness.hasResult("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":null}")).isFalse();
+  }
+
+  @Test
+  public void malformedBodyMustNotBeReady() {
+    assertThat(Readiness.hasResult("")).isFalse();
+    assertThat(Readiness.hasResult("<html>starting</html>")).isFalse();
+  }
+
+  private Readiness readiness(final Duration timeout) {
+    final Readiness readiness =
+        Readiness.jsonRpc(8545, "admin_nodeInfo").withPollInterval(Duration.ofMillis(10));
+    readiness.withStartupTimeout(timeout);
+    return readiness;
+  }
+
+  private void listeningOnNothing() throws IOException {
+    final int port;
+    try (final ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    when(container.getHost()).thenReturn("localhost");
+    when(container.getMappedPort(8545)).thenReturn(port);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class RingBufferTest {
+
+  private final RingBuffer<Integer> buffer = new RingBuffer<>(3);
+
+  @Test
+  public void elementsWithinCapacityMustBeRetained() {
+    buffer.add(1);
+    buffer.add(2);
+
+    assertThat(buffer.snapshot()).containsExactly(1, 2);
+    assertThat(buffer.evicted()).isZero();
+  }
+
+  @Test
+  public void oldestElementsMustBeEvictedBeyondCapacity() {
+    for (int i = 1; i <= 5; i++) {
+      buffer.add(i);
+    }
+
+    assertThat(buffer.snapshot()).containsExactly(3, 4, 5);
+    assertThat(buffer.size()).isEqualTo(3);
+    assertThat(buffer.evicted()).isEqualTo(2);
+  }
+}
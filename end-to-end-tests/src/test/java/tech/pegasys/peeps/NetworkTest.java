@@ -12,26 +12,52 @@
  */
 package tech.pegasys.peeps;
 
+import tech.pegasys.peeps.image.ImageManager;
 import tech.pegasys.peeps.network.Network;
 import tech.pegasys.peeps.network.NetworkAwait;
 import tech.pegasys.peeps.network.NetworkVerify;
+import tech.pegasys.peeps.network.report.PerformanceReportWriter;
 import tech.pegasys.peeps.network.subnet.Subnet;
+import tech.pegasys.peeps.network.teardown.ContainerReaper;
 import tech.pegasys.peeps.node.NodeVerify;
 import tech.pegasys.peeps.node.Web3Provider;
 import tech.pegasys.peeps.signer.SignerConfiguration;
 import tech.pegasys.peeps.signer.rpc.SignerRpcMandatoryResponse;
 import tech.pegasys.peeps.signer.rpc.SignerRpcSenderKnown;
 
+import java.lang.reflect.Method;
 import java.nio.file.Path;
 import java.security.Security;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.io.TempDir;
 
 public abstract class NetworkTest {
 
+  /** Directory to collect Java Flight Recorder recordings into, when recording is wanted. */
+  private static final String FLIGHT_RECORDING_PROPERTY = "peeps.jfr";
+
+  /** Directory to write the performance report of each test into, when reporting is wanted. */
+  private static final String REPORT_PROPERTY = "peeps.report";
+
+  /** When true, the test reaches containers at their subnet address, e.g. on Linux hosts. */
+  private static final String DIRECT_ACCESS_PROPERTY = "peeps.direct";
+
+  /** When true, containers are killed and removed in the background after each test. */
+  private static final String FAST_TEARDOWN_PROPERTY = "peeps.teardown.fast";
+
+  private static final Duration RESOURCE_SAMPLE_INTERVAL = Duration.ofSeconds(1);
+  private static final int RESOURCE_SAMPLE_CAPACITY = 3600;
+
+  private static final AtomicBoolean MANIFEST_PREWARMED = new AtomicBoolean();
+
   // TODO this may not be the best place to be adding Security providers
   static {
     Security.addProvider(new BouncyCastleProvider());
@@ -42,27 +68,87 @@ public abstract class NetworkTest {
   public Network network;
   private NetworkAwait await;
   private NetworkVerify verify;
+  private Optional<String> reportedTest = Optional.empty();
+
+  // Closes the network of a test still running when the JVM exits
+  private final Runnable closeOnExit = this::closeNetwork;
+
+  /** Resolves the images of the suite manifest once, before the first network of the suite. */
+  @BeforeAll
+  public static void prewarmManifestImages() {
+    if (MANIFEST_PREWARMED.compareAndSet(false, true)) {
+      ImageManager.manifest()
+          .ifPresent(manifest -> ImageManager.instance().prewarm(manifest.getImages()).verify());
+    }
+  }
 
   @BeforeEach
-  public void setUpNetwork() {
-    Runtime.getRuntime().addShutdownHook(new Thread(this::tearDownNetwork));
+  public void setUpNetwork(final TestInfo testInfo) {
+    ContainerReaper.instance().beforeExit(closeOnExit);
     network = new Network(configurationDirectory, new Subnet());
+
+    if (Boolean.getBoolean(DIRECT_ACCESS_PROPERTY)) {
+      network.enableDirectContainerAccess();
+    }
+    if (Boolean.getBoolean(FAST_TEARDOWN_PROPERTY)) {
+      network.enableFastTeardown();
+    }
+
+    final Optional<Path> flightRecordings =
+        Optional.ofNullable(System.getProperty(FLIGHT_RECORDING_PROPERTY)).map(Path::of);
+    flightRecordings.ifPresent(
+        directory -> network.enableFlightRecording(directory, testName(testInfo)));
+
     setUpNetwork(network);
+    network.prewarmImages();
+
+    if (flightRecordings.isPresent()) {
+      network.recordTestJvm();
+    }
+
     network.start();
 
+    if (reportDirectory().isPresent()) {
+      network.sampleResources(RESOURCE_SAMPLE_INTERVAL, RESOURCE_SAMPLE_CAPACITY);
+      reportedTest = Optional.of(testName(testInfo));
+    }
+
     await = new NetworkAwait(network);
     verify = new NetworkVerify(network);
   }
 
   @AfterEach
   public void tearDownNetwork() {
+    try {
+      reportedTest.ifPresent(
+          test ->
+              new PerformanceReportWriter(reportDirectory().orElseThrow())
+                  .write(network.report(test)));
+    } finally {
+      reportedTest = Optional.empty();
+      ContainerReaper.instance().removeBeforeExit(closeOnExit);
+      closeNetwork();
+    }
+  }
+
+  private void closeNetwork() {
     if (network != null) {
       network.close();
     }
   }
 
+  private Optional<Path> reportDirectory() {
+    return Optional.ofNullable(System.getProperty(REPORT_PROPERTY)).map(Path::of);
+  }
+
   protected abstract void setUpNetwork(Network network);
 
+  private String testName(final TestInfo testInfo) {
+    return testInfo.getTestClass().map(Class::getSimpleName).orElse("test")
+        + "-"
+        + testInfo.getTestMethod().map(Method::getName).orElse(testInfo.getDisplayName());
+  }
+
   // TODO not sure about having these here, maybe somewhere else?
   protected NetworkAwait await() {
     return await;
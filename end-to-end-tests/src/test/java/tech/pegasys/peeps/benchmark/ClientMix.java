@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import tech.pegasys.peeps.network.ConsensusMechanism;
+import tech.pegasys.peeps.node.Web3ProviderType;
+
+/** Clients the validators of a benchmark network run. */
+public enum ClientMix {
+  BESU,
+  GOQUORUM,
+  MIXED;
+
+  /** Mixed networks alternate between the clients, starting with Besu. */
+  public Web3ProviderType typeOf(final int validator) {
+    switch (this) {
+      case BESU:
+        return Web3ProviderType.BESU;
+      case GOQUORUM:
+        return Web3ProviderType.GOQUORUM;
+      case MIXED:
+      default:
+        return validator % 2 == 0 ? Web3ProviderType.BESU : Web3ProviderType.GOQUORUM;
+    }
+  }
+
+  /** IBFT 2.0 is only implemented by Besu. */
+  public boolean supports(final ConsensusMechanism consensus) {
+    return consensus != ConsensusMechanism.IBFT2 || this == BESU;
+  }
+}
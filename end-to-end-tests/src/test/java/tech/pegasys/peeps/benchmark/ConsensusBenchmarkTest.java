@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import tech.pegasys.peeps.load.LoadResult;
+import tech.pegasys.peeps.network.ConsensusMechanism;
+import tech.pegasys.peeps.network.Network;
+import tech.pegasys.peeps.network.NetworkVerify;
+import tech.pegasys.peeps.network.subnet.Subnet;
+import tech.pegasys.peeps.node.Account;
+import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.node.production.BlockProductionStatistics;
+
+import java.nio.file.Path;
+import java.security.Security;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.tuweni.crypto.SECP256K1.KeyPair;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Sweeps consensus mechanism, validator count and client mix, measuring each network under the
+ * same fixed transfer load.
+ *
+ * <p>The sweep and load are narrowed with properties, e.g. <code>
+ * -Ppeeps.benchmark.mechanisms=QBFT -Ppeeps.benchmark.validators=4,7</code>, with a JSON result
+ * written per scenario run to the <code>peeps.benchmark.results</code> directory. Repeated runs
+ * (<code>peeps.benchmark.repeats</code>) are reduced to their medians when compared against the
+ * baseline.
+ */
+@Tag("benchmark")
+public class ConsensusBenchmarkTest {
+
+  static {
+    Security.addProvider(new BouncyCastleProvider());
+  }
+
+  // IBFT 1.0 is only supported up to these image versions
+  private static final String IBFT_IMAGE_VERSION = "22.4.4";
+
+  private static final Path RESULTS =
+      Path.of(System.getProperty("peeps.benchmark.results", "build/benchmark-results"));
+  private static final int TRANSACTIONS_PER_SECOND =
+      Integer.getInteger("peeps.benchmark.tps", 20);
+  private static final Duration LOAD_DURATION =
+      Duration.ofSeconds(Long.getLong("peeps.benchmark.duration", 60));
+  private static final Duration DRAIN = Duration.ofSeconds(30);
+  private static final int REPEATS = Integer.getInteger("peeps.benchmark.repeats", 1);
+
+  @TempDir Path configurationDirectory;
+
+  static Stream<Arguments> scenarios() {
+    final List<Arguments> scenarios = new ArrayList<>();
+
+    for (final ConsensusMechanism consensus :
+        selected("mechanisms", "CLIQUE,IBFT,IBFT2,QBFT", ConsensusMechanism::valueOf)) {
+      for (final Integer validators : selected("validators", "4,7,10,16", Integer::valueOf)) {
+        for (final ClientMix clients :
+            selected("clients", "BESU,GOQUORUM,MIXED", ClientMix::valueOf)) {
+          if (clients.supports(consensus)) {
+            for (int run = 1; run <= REPEATS; run++) {
+              scenarios.add(Arguments.of(consensus, validators, clients, run));
+            }
+          }
+        }
+      }
+    }
+
+    return scenarios.stream();
+  }
+
+  @ParameterizedTest(name = "{0} with {1} {2} validators, run {3}")
+  @MethodSource("scenarios")
+  public void benchmark(
+      final ConsensusMechanism consensus,
+      final int validatorCount,
+      final ClientMix clients,
+      final int run) {
+    final String name =
+        String.format("consensus-%s-%s-%s", consensus, validatorCount, clients)
+            .toLowerCase(Locale.ROOT);
+
+    try (final Network network = new Network(configurationDirectory, new Subnet())) {
+      if (Boolean.getBoolean("peeps.direct")) {
+        network.enableDirectContainerAccess();
+      }
+      if (Boolean.getBoolean("peeps.teardown.fast")) {
+        network.enableFastTeardown();
+      }
+
+      final Web3Provider[] validators = new Web3Provider[validatorCount];
+      for (int i = 0; i < validatorCount; i++) {
+        validators[i] = addValidator(network, consensus, clients, i);
+      }
+      network.set(consensus, validators);
+      network.prewarmImages();
+
+      final Instant start = Instant.now();
+      network.start();
+      new NetworkVerify(network).consensusOnBlockNumberIsAtLeast(1);
+      final Duration timeToFirstBlock = Duration.between(start, Instant.now());
+
+      final Web3Provider entry = validators[0];
+      final LoadResult load =
+          network
+              .transferLoad(entry, Account.ALPHA, Account.BETA.address())
+              .run(TRANSACTIONS_PER_SECOND, LOAD_DURATION, DRAIN);
+      final BlockProductionStatistics production =
+          entry.blockProduction(1, entry.rpc().getBlockNumber() + 1);
+
+      final Map<String, String> parameters = new TreeMap<>();
+      parameters.put("consensus", consensus.name());
+      parameters.put("validators", Integer.toString(validatorCount));
+      parameters.put("clients", clients.name());
+      parameters.put("transactionsPerSecond", Integer.toString(TRANSACTIONS_PER_SECOND));
+      parameters.put("loadSeconds", Long.toString(LOAD_DURATION.toSeconds()));
+      parameters.put(
+          "images",
+          Stream.of(validators)
+              .map(Web3Provider::imageName)
+              .distinct()
+              .sorted()
+              .collect(Collectors.joining(",")));
+
+      final Map<String, Double> metrics = new TreeMap<>();
+      metrics.put("timeToFirstBlockMs", (double) timeToFirstBlock.toMillis());
+      metrics.put("throughputTps", load.getThroughput());
+      metrics.put("finalityP50Ms", (double) load.getFinality().percentile(50).toMillis());
+      metrics.put("finalityP90Ms", (double) load.getFinality().percentile(90).toMillis());
+      metrics.put("finalityP99Ms", (double) load.getFinality().percentile(99).toMillis());
+      metrics.put("finalityMaxMs", (double) load.getFinality().getMax().toMillis());
+      metrics.put("includedRatio", (double) load.getIncluded() / Math.max(load.getSubmitted(), 1));
+      metrics.put("roundChangeRatio", production.getRoundChangeRatio());
+      metrics.put("blockTimeMeanMs", (double) production.getMeanBlockTime().toMillis());
+      metrics.put("blockTimeJitterMs", (double) production.getBlockTimeJitter().toMillis());
+
+      final BenchmarkResult result = new BenchmarkResult(name, parameters, metrics);
+      BenchmarkResultFile.in(RESULTS, name + "-run-" + run).write(result);
+    }
+  }
+
+  private Web3Provider addValidator(
+      final Network network,
+      final ConsensusMechanism consensus,
+      final ClientMix clients,
+      final int index) {
+    final String identity = "validator-" + index;
+
+    if (consensus == ConsensusMechanism.IBFT) {
+      return network.addNode(
+          identity, KeyPair.random(), clients.typeOf(index), IBFT_IMAGE_VERSION);
+    }
+
+    return network.addNode(identity, KeyPair.random(), clients.typeOf(index));
+  }
+
+  private static <T> List<T> selected(
+      final String property, final String defaults, final Function<String, T> parser) {
+    return Stream.of(System.getProperty("peeps.benchmark." + property, defaults).split(","))
+        .map(String::trim)
+        .filter(value -> !value.isEmpty())
+        .map(value -> parser.apply(value.toUpperCase(Locale.ROOT)))
+        .collect(Collectors.toList());
+  }
+}